@@ -5,7 +5,7 @@ import { EmployeeDetailsModal } from '../EmployeeDetailsModal/EmployeeDetailsMod
 import { Button } from '../Button/Button'
 import {
 	getDashboardStats,
-	getAllEmployeesSimple,
+	getAllEmployees,
 	type Employee,
 } from '../../services/employees'
 import {
@@ -60,46 +60,17 @@ export const Dashboard = () => {
 				setLoading(true)
 				console.log('🔄 Loading dashboard data...')
 
-				const [dashboardStats, allEmployees] = await Promise.all([
+				// Stats are aggregated on the server; only the 6 most recently
+				// updated employees are downloaded for the cards below
+				const [dashboardStats, recentPage] = await Promise.all([
 					getDashboardStats(),
-					getAllEmployeesSimple(), // Use the simple version for dashboard
+					getAllEmployees(0, 6, 'updatedAt', 'desc'),
 				])
 
-				// Calculate active/inactive counts
-				const isEmployeeActive = (employee: Employee) => {
-					const now = new Date()
-					const today = new Date(
-						now.getFullYear(),
-						now.getMonth(),
-						now.getDate()
-					)
-
-					if (employee.finishDate) {
-						const finishDate = new Date(employee.finishDate)
-						const finishDateOnly = new Date(
-							finishDate.getFullYear(),
-							finishDate.getMonth(),
-							finishDate.getDate()
-						)
-						return finishDateOnly >= today
-					}
-					return true
-				}
-
-				const activeEmployees = allEmployees.filter(isEmployeeActive)
-				const inactiveEmployees = allEmployees.filter(
-					(emp) => !isEmployeeActive(emp)
-				)
-
-				// Update stats with calculated active/inactive counts
-				setStats({
-					...dashboardStats,
-					activeCount: activeEmployees.length,
-					inactiveCount: inactiveEmployees.length,
-				})
+				setStats(dashboardStats)
 
 				// Sort employees: UPDATED/NEW first, then by most recent
-				const sortedEmployees = allEmployees.sort((a, b) => {
+				const sortedEmployees = recentPage.content.sort((a, b) => {
 					// Helper to check if employee has NEW or UPDATED tag
 					const getTagPriority = (employee: Employee) => {
 						if (!employee.createdAt || !employee.updatedAt) return 3
@@ -153,9 +124,7 @@ export const Dashboard = () => {
 					return updatedB - updatedA
 				})
 
-				// Take top 6 for recent employees
-				const recent = sortedEmployees.slice(0, 6)
-				setRecentEmployees(recent)
+				setRecentEmployees(sortedEmployees)
 
 				console.log('✅ Dashboard data loaded successfully')
 			} catch (err) {
@@ -79,6 +79,7 @@ export interface SearchParams {
 	sortBy?: string
 	sortDirection?: string
 	searchTerm?: string
+	searchMode?: 'contains' | 'prefix' // prefix uses the indexed name columns
 	page?: number // Page number (0-based)
 	size?: number // Items per page
 }
@@ -180,61 +181,54 @@ export const deleteEmployee = async (id: number): Promise<void> => {
 }
 
 /* --------------------------- FOR DASHBOARD STATS -------------------------- */
-// Dashboard needs all employees to calculate stats, so use the non-paginated endpoint
+// Shape returned by GET /api/employees/dashboard-stats (matches DashboardStatsDTO)
+export interface DashboardStatsResponse {
+	totalEmployees: number
+	activeCount: number
+	inactiveCount: number
+	averageHoursPerWeek: number | null
+	contractTypeCounts: Record<string, number>
+	employmentBasisCounts: Record<string, number>
+	activeEmploymentBasisCounts: Record<string, number>
+	roleCounts: Record<string, number>
+	startMonthCounts: Record<string, number> // "yyyy-MM" -> count
+}
+
+// Counts are aggregated on the server, so this stays small no matter how many employees exist
 export const getDashboardStats = async () => {
-	// Use the /all endpoint to get all employees for stats calculation
-	const response = await fetch(`${API_BASE_URL}/employees/all`)
+	const response = await fetch(`${API_BASE_URL}/employees/dashboard-stats`)
 	if (!response.ok) {
-		throw new Error('Failed to fetch employees for dashboard')
+		throw new Error('Failed to fetch dashboard stats')
 	}
-	const employees: Employee[] = await response.json()
+	const stats: DashboardStatsResponse = await response.json()
 
-	// Helper function to determine if employee is active
-	const isEmployeeActive = (employee: Employee) => {
-		if (employee.ongoing) return true
-		if (!employee.finishDate) return employee.ongoing
-
-		const finishDate = new Date(employee.finishDate)
-		const today = new Date()
-		return finishDate >= today
-	}
+	const count = (counts: Record<string, number>, key: string) => counts[key] ?? 0
+	const activeFullTimeCount = count(stats.activeEmploymentBasisCounts, 'FULL_TIME')
+	const activePartTimeCount = count(stats.activeEmploymentBasisCounts, 'PART_TIME')
 
 	return {
-		totalEmployees: employees.length,
+		totalEmployees: stats.totalEmployees,
 		// Basic counts
-		activeCount: employees.filter(isEmployeeActive).length,
-		inactiveCount: employees.filter((emp) => !isEmployeeActive(emp)).length,
-		fullTimeCount: employees.filter(
-			(emp) => emp.employmentBasis === 'FULL_TIME'
-		).length,
-		partTimeCount: employees.filter(
-			(emp) => emp.employmentBasis === 'PART_TIME'
-		).length,
-		permanentCount: employees.filter((emp) => emp.contractType === 'PERMANENT')
-			.length,
-		contractCount: employees.filter((emp) => emp.contractType === 'CONTRACT')
-			.length,
+		activeCount: stats.activeCount,
+		inactiveCount: stats.inactiveCount,
+		fullTimeCount: count(stats.employmentBasisCounts, 'FULL_TIME'),
+		partTimeCount: count(stats.employmentBasisCounts, 'PART_TIME'),
+		permanentCount: count(stats.contractTypeCounts, 'PERMANENT'),
+		contractCount: count(stats.contractTypeCounts, 'CONTRACT'),
 		// Role counts
-		adminCount: employees.filter((emp) => emp.role === 'ADMIN').length,
-		hrCount: employees.filter((emp) => emp.role === 'HR').length,
-		managerCount: employees.filter((emp) => emp.role === 'MANAGER').length,
-		employeeCount: employees.filter((emp) => emp.role === 'EMPLOYEE').length,
-		internCount: employees.filter((emp) => emp.role === 'INTERN').length,
-		contractorCount: employees.filter((emp) => emp.role === 'CONTRACTOR')
-			.length,
+		adminCount: count(stats.roleCounts, 'ADMIN'),
+		hrCount: count(stats.roleCounts, 'HR'),
+		managerCount: count(stats.roleCounts, 'MANAGER'),
+		employeeCount: count(stats.roleCounts, 'EMPLOYEE'),
+		internCount: count(stats.roleCounts, 'INTERN'),
+		contractorCount: count(stats.roleCounts, 'CONTRACTOR'),
 		// Combined employment type + status counts
-		activeFullTimeCount: employees.filter(
-			(emp) => isEmployeeActive(emp) && emp.employmentBasis === 'FULL_TIME'
-		).length,
-		activePartTimeCount: employees.filter(
-			(emp) => isEmployeeActive(emp) && emp.employmentBasis === 'PART_TIME'
-		).length,
-		inactiveFullTimeCount: employees.filter(
-			(emp) => !isEmployeeActive(emp) && emp.employmentBasis === 'FULL_TIME'
-		).length,
-		inactivePartTimeCount: employees.filter(
-			(emp) => !isEmployeeActive(emp) && emp.employmentBasis === 'PART_TIME'
-		).length,
+		activeFullTimeCount,
+		activePartTimeCount,
+		inactiveFullTimeCount:
+			count(stats.employmentBasisCounts, 'FULL_TIME') - activeFullTimeCount,
+		inactivePartTimeCount:
+			count(stats.employmentBasisCounts, 'PART_TIME') - activePartTimeCount,
 	}
 }
 
@@ -250,6 +244,9 @@ export const searchEmployees = async (
 		const term = params.searchTerm.trim()
 		searchParams.append('firstName', term) // Backend uses firstName param for name search
 	}
+	if (params.searchMode) {
+		searchParams.append('searchMode', params.searchMode)
+	}
 
 	// Add dropdown filters
 	if (params.contractType && params.contractType !== 'ALL') {
@@ -0,0 +1,135 @@
+package nology.employeecreator.config;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+
+/* Per-request cost of the request logging under many concurrent request threads, as latency percentiles.
+
+   Each invocation writes three lines like the ones a request used to print: the controller's request line, the
+   finish-date line from EmployeeService.update and the @PreUpdate line from Employee.
+   All variants write to the same kind of sink - an unbuffered file stream standing in for the console:
+     println    System.out-style PrintStream with autoflush, string concatenation (the old code)
+     sync       logback with the logback-spring.xml pattern (incl. requestId from the MDC), writing on the calling thread
+     async      the same behind an AsyncAppender, as configured in logback-spring.xml
+     debugOff   the hot-path lines at DEBUG with the logger at INFO (the default) - parameterized messages are never formatted
+
+   Run: mvn -Pbenchmark test-compile exec:exec -Djmh.args="RequestLoggingBenchmark" */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Threads(32)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    @Param({ "println", "sync", "async", "debugOff" })
+    private String mode;
+
+    private File logFile;
+    private FileOutputStream sink;
+    private PrintStream printStream;
+    private LoggerContext loggerContext;
+    private Logger logger;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logFile = File.createTempFile("request-logging", ".log");
+        sink = new FileOutputStream(logFile);
+        printStream = new PrintStream(sink, true);
+
+        // the SLF4J-bound context, so MDC.put below reaches the events
+        loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%15.15t] [%X{requestId:-}] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> file = new OutputStreamAppender<>();
+        file.setContext(loggerContext);
+        file.setEncoder(encoder);
+        file.setOutputStream(sink);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if ("async".equals(mode)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(loggerContext);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+
+        logger = loggerContext.getLogger(RequestLoggingBenchmark.class);
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        logger.detachAndStopAllAppenders();
+        printStream.close();
+        logFile.delete();
+    }
+
+    @Benchmark
+    public void logUpdateRequest() {
+        long id = 42;
+        LocalDate finishDate = LocalDate.of(2026, 6, 30);
+        switch (mode) {
+            case "println" -> {
+                printStream.println("GET /api/employees with pagination - Page: " + 0 + ", Size: " + 10);
+                printStream.println("📅 Setting finish date: " + finishDate);
+                printStream.println("🔧 @PreUpdate called for employee ID: " + id + " - Setting updatedAt: " + finishDate);
+            }
+            case "debugOff" -> {
+                MDC.put(CorrelationIdFilter.MDC_KEY, UUID.randomUUID().toString());
+                logger.debug("GET /api/employees with pagination - page: {}, size: {}", 0, 10);
+                logger.debug("Setting finish date of employee {}: {}", id, finishDate);
+                logger.trace("@PreUpdate for employee {} - setting updatedAt: {}", id, finishDate);
+                MDC.remove(CorrelationIdFilter.MDC_KEY);
+            }
+            default -> {
+                MDC.put(CorrelationIdFilter.MDC_KEY, UUID.randomUUID().toString());
+                logger.info("GET /api/employees with pagination - page: {}, size: {}", 0, 10);
+                logger.info("Setting finish date of employee {}: {}", id, finishDate);
+                logger.info("@PreUpdate for employee {} - setting updatedAt: {}", id, finishDate);
+                MDC.remove(CorrelationIdFilter.MDC_KEY);
+            }
+        }
+    }
+}
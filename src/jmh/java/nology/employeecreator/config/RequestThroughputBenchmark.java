@@ -0,0 +1,194 @@
+package nology.employeecreator.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import nology.employeecreator.EmployeecreatorApplication;
+
+/* HTTP load test: platform-thread Tomcat (the default) versus the virtual-threads profile.
+
+   The app runs on H2 with 10,000 seeded employees. H2 answers in microseconds, so every prepared statement is delayed by
+   dbLatencyMillis to stand in for the MySQL round trip - that is the blocking the thread model is about.
+   Both modes get the same 20-connection Hikari pool, open-in-view off and the detail cache off, so only the thread model differs.
+
+   Each invocation sends a burst of `clients` concurrent requests from an async HttpClient (a few client threads, so the
+   load generator doesn't compete with the server for CPU) and waits for all of them: 4 in 5 are GET /api/employees/{id}
+   (two statements each), 1 in 5 is GET /api/employees/cache-stats, which never touches the database.
+   The counters are reported as requests per second; rejected counts every non-2xx answer (503 from
+   RequestConcurrencyLimitFilter, or a 500 when a request gave up waiting for a Hikari connection) */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class RequestThroughputBenchmark {
+
+    @Param({ "platform", "virtual" })
+    private String threading;
+
+    @Param({ "20" })
+    private long dbLatencyMillis;
+
+    @Param({ "400" })
+    private int clients;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private String baseUrl;
+    private HttpRequest cacheStatsRequest;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=" + ("virtual".equals(threading) ? "seed,virtual-threads" : "seed"),
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:throughput;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--seeder.employee-count=10000",
+                "--employee.cache.detail.max-size=0",
+                // same pool settings as application-virtual-threads.properties
+                "--spring.datasource.hikari.maximum-pool-size=20",
+                "--spring.datasource.hikari.minimum-idle=20",
+                "--spring.datasource.hikari.connection-timeout=2000",
+                "--spring.jpa.open-in-view=false"));
+
+        long latency = dbLatencyMillis;
+        context = new SpringApplicationBuilder(EmployeecreatorApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String beanName) {
+                        return bean instanceof DataSource dataSource && latency > 0 ? new SlowDataSource(dataSource, latency) : bean;
+                    }
+                }))
+                .run(args.toArray(new String[0]));
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/api/employees/";
+        cacheStatsRequest = HttpRequest.newBuilder(URI.create(baseUrl + "cache-stats")).build();
+        clientExecutor = Executors.newFixedThreadPool(2);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clientExecutor).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        client.close();
+        clientExecutor.shutdownNow();
+        context.close();
+    }
+
+    // completed requests by kind, reported by JMH as requests per second
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Requests {
+        public long lookups;
+        public long inMemory;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lookups = 0;
+            inMemory = 0;
+            rejected = 0;
+        }
+    }
+
+    @Benchmark
+    public void burst(Requests requests) {
+        List<CompletableFuture<HttpResponse<Void>>> lookups = new ArrayList<>(clients);
+        List<CompletableFuture<HttpResponse<Void>>> inMemory = new ArrayList<>(clients / 5 + 1);
+        for (int i = 0; i < clients; i++) {
+            if (i % 5 == 4) {
+                inMemory.add(client.sendAsync(cacheStatsRequest, HttpResponse.BodyHandlers.discarding()));
+            } else {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + ThreadLocalRandom.current().nextInt(1, 10_001))).build();
+                lookups.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+            }
+        }
+        for (CompletableFuture<HttpResponse<Void>> response : lookups) {
+            if (response.join().statusCode() < 300) {
+                requests.lookups++;
+            } else {
+                requests.rejected++;
+            }
+        }
+        for (CompletableFuture<HttpResponse<Void>> response : inMemory) {
+            if (response.join().statusCode() < 300) {
+                requests.inMemory++;
+            } else {
+                requests.rejected++;
+            }
+        }
+    }
+
+    // Delays every prepareStatement while the pooled connection is held, like a network round trip would
+    static final class SlowDataSource extends DelegatingDataSource {
+
+        private final long latencyMillis;
+
+        SlowDataSource(DataSource target, long latencyMillis) {
+            super(target);
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                    (proxy, method, arguments) -> {
+                        if (method.getName().startsWith("prepare")) {
+                            Thread.sleep(latencyMillis);
+                        }
+                        try {
+                            return method.invoke(connection, arguments);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package nology.employeecreator.config;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import nology.employeecreator.EmployeecreatorApplication;
+
+/* HTTP load test: the servlet API (Tomcat + JPA) versus the WebFlux + R2DBC variant in src/reactive.
+   Needs both profiles: mvn -Pbenchmark,reactive test-compile exec:exec -Djmh.args="ServletVsReactive"
+   (the reactive app is loaded by name so this file still compiles with -Pbenchmark alone).
+
+   The servlet app always starts: it creates the schema in an in-memory H2 database and seeds 10,000 employees.
+   For stack=reactive the reactive app is started in the same JVM against the same H2 database over r2dbc-h2, and the
+   burst goes to it instead. The search cache is off so every servlet request reaches the database; note the servlet
+   search also runs its collection ETag query, one statement more than the reactive one.
+
+   Each invocation opens `connections` concurrent HTTP/1.1 connections from an async HttpClient and sends one
+   GET /api/employees/search per connection (a random page of 20, half of them filtered by contract type), then waits
+   for all of them. H2 answers in microseconds, so this measures how each stack copes with the connection count,
+   not with slow queries - RequestThroughputBenchmark is the one with database latency.
+   failed counts non-2xx answers and requests the client gave up on (connect or 30s request timeout) */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class ServletVsReactiveBenchmark {
+
+    @Param({ "servlet", "reactive" })
+    private String stack;
+
+    @Param({ "5000" })
+    private int connections;
+
+    private ConfigurableApplicationContext servletContext;
+    private ConfigurableApplicationContext reactiveContext;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private String searchUrl;
+
+    @Setup(Level.Trial)
+    public void startApplications() throws ReflectiveOperationException {
+        servletContext = new SpringApplicationBuilder(EmployeecreatorApplication.class).run(
+                "--spring.profiles.active=seed",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:servletvsreactive;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--seeder.employee-count=10000",
+                "--employee.cache.search.max-size=0",
+                "--spring.jpa.open-in-view=false");
+
+        // r2dbc-h2 binds every String as a CLOB, which H2 won't compare with the ENUM columns Hibernate creates
+        // (MySQL compares its enum columns with strings), so both stacks get plain VARCHAR enum columns here
+        JdbcTemplate jdbcTemplate = servletContext.getBean(JdbcTemplate.class);
+        for (String column : List.of("contract_type", "employment_basis", "role")) {
+            jdbcTemplate.execute("ALTER TABLE employees ALTER COLUMN " + column + " VARCHAR(255)");
+        }
+
+        WebServerApplicationContext target = (WebServerApplicationContext) servletContext;
+        if ("reactive".equals(stack)) {
+            SpringApplicationBuilder reactive = (SpringApplicationBuilder) Class.forName("nology.reactive.ReactiveEmployeeApplication")
+                    .getMethod("application")
+                    .invoke(null);
+            reactiveContext = reactive.run(
+                    "--server.port=0",
+                    "--spring.r2dbc.url=r2dbc:h2:mem:///servletvsreactive?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                    "--spring.r2dbc.username=sa",
+                    "--spring.r2dbc.password=");
+            target = (WebServerApplicationContext) reactiveContext;
+        }
+
+        searchUrl = "http://localhost:" + target.getWebServer().getPort() + "/api/employees/search?size=20&page=";
+        clientExecutor = Executors.newFixedThreadPool(2);
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(clientExecutor)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplications() {
+        client.close();
+        clientExecutor.shutdownNow();
+        if (reactiveContext != null) {
+            reactiveContext.close();
+        }
+        servletContext.close();
+    }
+
+    // completed requests, reported by JMH as requests per second
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Requests {
+        public long searches;
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            searches = 0;
+            failed = 0;
+        }
+    }
+
+    @Benchmark
+    public void burst(Requests requests) {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            String url = searchUrl + ThreadLocalRandom.current().nextInt(500) + (i % 2 == 0 ? "" : "&contractType=PERMANENT");
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            try {
+                if (response.join().statusCode() < 300) {
+                    requests.searches++;
+                } else {
+                    requests.failed++;
+                }
+            } catch (CompletionException e) {
+                requests.failed++;
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package nology.employeecreator.employee;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/* In-memory hot paths of a list request: entity -> DTO mapping, sort parsing and writing the Page as JSON.
+   No database involved, see FindWithFiltersBenchmark for that.
+
+   handWrittenDTO is the setter chain convertToResponseDTO used before EmployeeMapper, kept as the baseline */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeMappingBenchmark {
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private EmployeeService employeeService;
+    private EmployeeMapper employeeMapper;
+    private ObjectMapper objectMapper;
+    private List<Employee> employees;
+    private Page<EmployeeResponseDTO> page;
+    private Page<EmployeeResponse> recordPage;
+
+    @Setup
+    public void setUp() {
+        // convertToResponseDTO only needs the mapper
+        employeeMapper = new EmployeeMapperImpl();
+        employeeService = new EmployeeService(null, null, null, null, null, employeeMapper, null);
+        // same modules as the mapper Spring Boot configures for the controllers
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        employees = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            employees.add(sampleEmployee(i));
+        }
+        List<EmployeeResponseDTO> content = employees.stream().map(employeeService::convertToResponseDTO).toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("firstName")), 10_000);
+        recordPage = new PageImpl<>(employees.stream().map(employeeMapper::toResponse).toList(), page.getPageable(), page.getTotalElements());
+    }
+
+    @Benchmark
+    public void handWrittenDTO(Blackhole blackhole) {
+        for (Employee employee : employees) {
+            blackhole.consume(handWrittenConvert(employee));
+        }
+    }
+
+    @Benchmark
+    public void convertToResponseDTO(Blackhole blackhole) {
+        for (Employee employee : employees) {
+            blackhole.consume(employeeService.convertToResponseDTO(employee));
+        }
+    }
+
+    @Benchmark
+    public void generatedRecord(Blackhole blackhole) {
+        for (Employee employee : employees) {
+            blackhole.consume(employeeMapper.toResponse(employee));
+        }
+    }
+
+    @Benchmark
+    public void createSort(Blackhole blackhole) {
+        blackhole.consume(EmployeeService.createSort("firstName", "asc"));
+        blackhole.consume(EmployeeService.createSort("start_date", "desc"));
+        blackhole.consume(EmployeeService.createSort(null, null));
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeRecordPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(recordPage);
+    }
+
+    // mapping plus serialization, i.e. everything a list request does after the query returns
+    @Benchmark
+    public byte[] mapAndSerializePage() throws JsonProcessingException {
+        Page<EmployeeResponseDTO> mapped = new PageImpl<>(employees, page.getPageable(), page.getTotalElements())
+                .map(employeeService::convertToResponseDTO);
+        return objectMapper.writeValueAsBytes(mapped);
+    }
+
+    static Employee sampleEmployee(int i) {
+        Employee employee = new Employee();
+        employee.setFirstName("First" + i);
+        employee.setMiddleName(i % 3 == 0 ? "Middle" + i : null);
+        employee.setLastName("Last" + i);
+        employee.setEmail("first" + i + ".last" + i + "@company.com.au");
+        employee.setMobileNumber("0410123456");
+        employee.setResidentialAddress(i + " George Street, Sydney NSW 2000");
+        employee.setContractType(i % 2 == 0 ? ContractType.PERMANENT : ContractType.CONTRACT);
+        employee.setEmploymentBasis(i % 3 == 0 ? EmploymentBasis.PART_TIME : EmploymentBasis.FULL_TIME);
+        employee.setRole(EmployeeRole.EMPLOYEE);
+        employee.setStartDate(LocalDate.of(2022, 1, 1).plusDays(i));
+        employee.setOngoing(true);
+        employee.setHoursPerWeek(38);
+        employee.onCreate();
+        return employee;
+    }
+
+    private static EmployeeResponseDTO handWrittenConvert(Employee employee) {
+        EmployeeResponseDTO response = new EmployeeResponseDTO();
+        response.setId(employee.getId());
+        response.setFirstName(employee.getFirstName());
+        response.setMiddleName(employee.getMiddleName());
+        response.setLastName(employee.getLastName());
+        response.setEmail(employee.getEmail());
+        response.setMobileNumber(employee.getMobileNumber());
+        response.setResidentialAddress(employee.getResidentialAddress());
+        response.setContractType(employee.getContractType());
+        response.setStartDate(employee.getStartDate());
+        response.setFinishDate(employee.getFinishDate());
+        response.setOngoing(employee.isOngoing());
+        response.setEmploymentBasis(employee.getEmploymentBasis());
+        response.setHoursPerWeek(employee.getHoursPerWeek());
+        response.setThumbnailUrl(employee.getThumbnailUrl());
+        response.setCreatedAt(employee.getCreatedAt());
+        response.setUpdatedAt(employee.getUpdatedAt());
+        response.setRole(employee.getRole());
+        return response;
+    }
+}
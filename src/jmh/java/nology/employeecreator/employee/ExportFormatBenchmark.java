@@ -0,0 +1,125 @@
+package nology.employeecreator.employee;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import nology.employeecreator.EmployeecreatorApplication;
+
+/* Full-table export in each /all format against an in-memory H2 database seeded with tableSize employees (same setup
+   as FindWithFiltersBenchmark). The output is only counted, so this is read + encode time; every benchmark returns
+   the number of bytes it produced, which also compares the sizes. ndjson goes through entities and EmployeeResponse
+   like GET /all?format=ndjson, csv and columnar read the JDBC rows directly */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportFormatBenchmark {
+
+    @Param({ "10000", "100000" })
+    private int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private EmployeeExportService exportService;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(EmployeecreatorApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=seed",
+                        "--spring.datasource.url=jdbc:h2:mem:export" + tableSize + ";DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.flyway.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--seeder.employee-count=" + tableSize);
+        employeeService = context.getBean(EmployeeService.class);
+        exportService = context.getBean(EmployeeExportService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    // Discards everything written to it, only counts the bytes
+    private static final class CountingOutputStream extends OutputStream {
+
+        long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+        }
+    }
+
+    @Benchmark
+    public long ndjson() throws IOException {
+        CountingOutputStream output = new CountingOutputStream();
+        ObjectWriter writer = objectMapper.writerFor(EmployeeResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            employeeService.streamAllEmployees(employee -> {
+                try {
+                    writer.writeValue(generator, employee);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return output.bytes;
+    }
+
+    @Benchmark
+    public long csv() {
+        CountingOutputStream output = new CountingOutputStream();
+        exportService.writeCsv(output, rows -> { });
+        return output.bytes;
+    }
+
+    @Benchmark
+    public long columnar() {
+        CountingOutputStream output = new CountingOutputStream();
+        exportService.writeColumnar(output, rows -> { });
+        return output.bytes;
+    }
+}
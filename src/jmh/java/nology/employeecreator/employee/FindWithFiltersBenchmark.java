@@ -0,0 +1,114 @@
+package nology.employeecreator.employee;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import nology.employeecreator.EmployeecreatorApplication;
+
+/* The search filters (EmployeeSpecifications.withFilters, as EmployeeService runs them) against an in-memory H2 database
+   filled by the DataSeeder with tableSize employees.
+   Each table size starts its own application context and database, so seeding is not part of the measurement.
+   The repository benchmarks time the query + COUNT only; searchThroughService adds parsing and DTO mapping.
+   The application's search cache is switched off, otherwise searchThroughService would repeat one cache hit;
+   cachedSearchHit times that hit on a cache of its own */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FindWithFiltersBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository employeeRepository;
+    private EmployeeService employeeService;
+    private final Pageable firstPage = PageRequest.of(0, 20, Sort.by("firstName"));
+    private final EmployeeSearchCache searchCache = new EmployeeSearchCache(1000, Duration.ofMinutes(5));
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        // command line arguments beat every properties file on the classpath
+        context = new SpringApplicationBuilder(EmployeecreatorApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=seed",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark" + tableSize + ";DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.flyway.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--employee.cache.search.max-size=0",
+                        "--seeder.employee-count=" + tableSize);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        employeeService = context.getBean(EmployeeService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Employee> noFilters() {
+        return employeeRepository.findAll(EmployeeSpecifications.withFilters(null, null, null, null, null), firstPage);
+    }
+
+    @Benchmark
+    public Page<Employee> nameContains() {
+        return employeeRepository.findAll(EmployeeSpecifications.withFilters("an", null, null, null, null), firstPage);
+    }
+
+    @Benchmark
+    public Page<Employee> namePrefix() {
+        return employeeRepository.findAll(EmployeeSpecifications.withFilters(null, "jo%", null, null, null), firstPage);
+    }
+
+    @Benchmark
+    public Page<Employee> enumAndActiveFilters() {
+        return employeeRepository.findAll(EmployeeSpecifications.withFilters(null, null, ContractType.PERMANENT, EmploymentBasis.FULL_TIME, true),
+                firstPage);
+    }
+
+    @Benchmark
+    public Page<EmployeeResponseDTO> searchThroughService() {
+        return employeeService.advancedSearchWithPagination("an", "an", "PERMANENT", null, true,
+                0, 20, "lastName", "asc", "contains");
+    }
+
+    // what advancedSearchWithPagination does for a repeated search: normalize the parameters and look the page up
+    @Benchmark
+    public Page<EmployeeResponseDTO> cachedSearchHit() {
+        EmployeeSearchCache.Criteria criteria = EmployeeService.toSearchCriteria("an", "an", "PERMANENT", null, true,
+                0, 20, "lastName", "asc", "contains");
+        return searchCache.get(criteria, () -> employeeService.advancedSearchWithPagination("an", "an", "PERMANENT", null, true,
+                0, 20, "lastName", "asc", "contains"));
+    }
+}
@@ -0,0 +1,151 @@
+package nology.employeecreator.employee;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import nology.employeecreator.EmployeecreatorApplication;
+
+/* /search query shapes with and without the search indexes of the migrations (V2, V3).
+
+   The schema is built by Flyway, not Hibernate, so this measures exactly what production runs. schema=baseline then
+   drops the search indexes again, leaving those of V1 and V6 (primary key, unique email, lowercase names, updated_at);
+   schema=indexed keeps them. Each benchmark times the page query and its COUNT, like an uncached /search call.
+   The query plan of every shape is printed once per trial, before the measurement.
+
+   Defaults to an in-memory H2 database in MySQL mode. For MySQL plans and latencies point it at an empty schema:
+     mvn -Pbenchmark test-compile exec:exec -Djmh.args="SearchIndexBenchmark -p jdbcUrl=jdbc:mysql://localhost:3306/bench -p username=... -p password=..."
+   The schema is dropped and rebuilt for every trial, so never point it at a database you want to keep */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class SearchIndexBenchmark {
+
+    // native equivalents of the benchmarks below, for EXPLAIN
+    private static final Map<String, String> QUERY_SHAPES = new LinkedHashMap<>();
+    static {
+        QUERY_SHAPES.put("sortByStartDate", "SELECT * FROM employees ORDER BY start_date, id LIMIT 20");
+        QUERY_SHAPES.put("contractTypeSortByFirstName",
+                "SELECT * FROM employees WHERE contract_type = 'CONTRACT' ORDER BY first_name, id LIMIT 20");
+        QUERY_SHAPES.put("contractTypeCount", "SELECT COUNT(*) FROM employees WHERE contract_type = 'CONTRACT'");
+        QUERY_SHAPES.put("enumAndActiveFilters",
+                "SELECT COUNT(*) FROM employees WHERE contract_type = 'PERMANENT' AND employment_basis = 'PART_TIME' "
+                        + "AND employment_status IN ('ACTIVE', 'FUTURE')");
+        QUERY_SHAPES.put("inactiveSortByLastName",
+                "SELECT * FROM employees WHERE employment_status = 'ENDED' ORDER BY last_name, id LIMIT 20");
+    }
+
+    // created by V2 and V3 - update when a migration adds a search index
+    private static final String[] SEARCH_INDEXES = { "idx_employees_first_name", "idx_employees_last_name",
+            "idx_employees_start_date", "idx_employees_contract_first_name", "idx_employees_role",
+            "idx_employees_contract_basis_status", "idx_employees_basis_status", "idx_employees_status_finish" };
+
+    @Param({ "baseline", "indexed" })
+    private String schema;
+
+    @Param({ "1000000" })
+    private int tableSize;
+
+    @Param({ "jdbc:h2:mem:searchindex;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE" })
+    private String jdbcUrl;
+
+    @Param({ "sa" })
+    private String username;
+
+    @Param({ "" })
+    private String password;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository employeeRepository;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        // command line arguments beat every properties file on the classpath
+        context = new SpringApplicationBuilder(EmployeecreatorApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=seed",
+                        "--spring.datasource.url=" + jdbcUrl,
+                        "--spring.datasource.driver-class-name=",
+                        "--spring.datasource.username=" + username,
+                        "--spring.datasource.password=" + password,
+                        "--spring.jpa.properties.hibernate.dialect=" + (jdbcUrl.startsWith("jdbc:mysql")
+                                ? "org.hibernate.dialect.MySQLDialect" : "org.hibernate.dialect.H2Dialect"),
+                        "--spring.flyway.clean-disabled=false",
+                        "--seeder.employee-count=" + tableSize);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        if ("baseline".equals(schema)) {
+            for (String index : SEARCH_INDEXES) {
+                jdbcTemplate.execute("DROP INDEX " + index + " ON employees");
+            }
+        }
+        // fresh statistics, so the optimizer sees the seeded table
+        jdbcTemplate.execute("ANALYZE TABLE employees");
+        QUERY_SHAPES.forEach((name, sql) -> {
+            System.out.println("# " + schema + " " + name + ": " + sql);
+            jdbcTemplate.queryForList("EXPLAIN " + sql).forEach(row -> System.out.println("#   " + row));
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        // the next trial migrates from scratch
+        context.getBean(Flyway.class).clean();
+        context.close();
+    }
+
+    private long search(ContractType contractType, EmploymentBasis employmentBasis, Boolean isActive, Pageable pageable) {
+        // the same statements as EmployeeService.advancedSearchWithPagination
+        Specification<Employee> filters = EmployeeSpecifications.withFilters(null, null, contractType, employmentBasis, isActive);
+        return employeeRepository.findBy(filters, query -> query.slice(pageable)).getNumberOfElements()
+                + employeeRepository.count(filters);
+    }
+
+    @Benchmark
+    public long sortByStartDate() {
+        return search(null, null, null, PageRequest.of(0, 20, Sort.by("startDate", "id")));
+    }
+
+    @Benchmark
+    public long contractTypeSortByFirstName() {
+        return search(ContractType.CONTRACT, null, null, PageRequest.of(0, 20, Sort.by("firstName", "id")));
+    }
+
+    @Benchmark
+    public long enumAndActiveFilters() {
+        return search(ContractType.PERMANENT, EmploymentBasis.PART_TIME, true, PageRequest.of(0, 20, Sort.by("firstName", "id")));
+    }
+
+    @Benchmark
+    public long inactiveSortByLastName() {
+        return search(null, null, false, PageRequest.of(0, 20, Sort.by("lastName", "id")));
+    }
+}
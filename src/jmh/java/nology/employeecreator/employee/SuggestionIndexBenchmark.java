@@ -0,0 +1,99 @@
+package nology.employeecreator.employee;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import nology.employeecreator.EmployeecreatorApplication;
+
+/* One GET /suggest keystroke against the in-memory index, loaded from an H2 database seeded with tableSize employees
+   (same setup as ExportFormatBenchmark). The queries go from the most common postings ("jo", and "com" which is in
+   every email) to a full email and a typo, so this shows whether a query costs its result size or the table size.
+   Should stay well under a millisecond at 500k rows */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SuggestionIndexBenchmark {
+
+    private static final int LIMIT = 10;
+
+    @Param({ "100000", "500000" })
+    private int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeSuggestionIndex suggestionIndex;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(EmployeecreatorApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=seed",
+                        "--spring.datasource.url=jdbc:h2:mem:suggest" + tableSize + ";DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.flyway.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--seeder.employee-count=" + tableSize);
+        // loaded on ApplicationReadyEvent, after the seeder
+        suggestionIndex = context.getBean(EmployeeSuggestionIndex.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EmployeeSuggestionDTO> twoLetterPrefix() {
+        return suggestionIndex.suggest("jo", LIMIT);
+    }
+
+    @Benchmark
+    public List<EmployeeSuggestionDTO> commonTrigram() {
+        return suggestionIndex.suggest("com", LIMIT);
+    }
+
+    @Benchmark
+    public List<EmployeeSuggestionDTO> emailDomain() {
+        return suggestionIndex.suggest("gmail", LIMIT);
+    }
+
+    @Benchmark
+    public List<EmployeeSuggestionDTO> fullName() {
+        return suggestionIndex.suggest("john smith", LIMIT);
+    }
+
+    @Benchmark
+    public List<EmployeeSuggestionDTO> fullEmail() {
+        return suggestionIndex.suggest("john.smith@gmail.com", LIMIT);
+    }
+
+    @Benchmark
+    public List<EmployeeSuggestionDTO> typo() {
+        return suggestionIndex.suggest("jonh smiht", LIMIT);
+    }
+}
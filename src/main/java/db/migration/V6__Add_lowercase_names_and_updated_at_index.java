@@ -0,0 +1,78 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/* first_name_lower / last_name_lower for prefix name search (searchMode=prefix) with their indexes, and the updated_at
+   index behind MAX(updated_at) of the list ETags (EmployeeRepository.findCollectionVersion).
+
+   A Java migration because a database baselined at V1 may or may not have these already: ddl-auto=update added them
+   to databases created after the entity got them, not to older ones. MySQL has no ADD COLUMN IF NOT EXISTS, so each
+   step checks the JDBC metadata first (which also works on H2, see FlywayMigrationsTest) */
+
+public class V6__Add_lowercase_names_and_updated_at_index extends BaseJavaMigration {
+
+    private static final String TABLE = "employees";
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            if (!hasColumn(connection, "first_name_lower")) {
+                statement.execute("ALTER TABLE employees ADD COLUMN first_name_lower VARCHAR(200)");
+            }
+            if (!hasColumn(connection, "last_name_lower")) {
+                statement.execute("ALTER TABLE employees ADD COLUMN last_name_lower VARCHAR(200)");
+            }
+
+            // same values as Employee.normalizeNames and NormalizedNameBackfill
+            statement.executeUpdate("UPDATE employees SET first_name_lower = LOWER(TRIM(first_name)), "
+                    + "last_name_lower = LOWER(TRIM(last_name)) WHERE first_name_lower IS NULL OR last_name_lower IS NULL");
+
+            if (!hasIndex(connection, "idx_employees_first_name_lower")) {
+                statement.execute("CREATE INDEX idx_employees_first_name_lower ON employees (first_name_lower)");
+            }
+            if (!hasIndex(connection, "idx_employees_last_name_lower")) {
+                statement.execute("CREATE INDEX idx_employees_last_name_lower ON employees (last_name_lower)");
+            }
+            if (!hasIndex(connection, "idx_employees_updated_at")) {
+                statement.execute("CREATE INDEX idx_employees_updated_at ON employees (updated_at)");
+            }
+        }
+    }
+
+    private static boolean hasColumn(Connection connection, String column) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, tableName(metaData), null)) {
+            while (columns.next()) {
+                if (column.equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasIndex(Connection connection, String index) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, tableName(metaData), false, true)) {
+            while (indexes.next()) {
+                if (index.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // the metadata calls match the name as stored, e.g. EMPLOYEES on an H2 database without DATABASE_TO_LOWER
+    private static String tableName(DatabaseMetaData metaData) throws SQLException {
+        return metaData.storesUpperCaseIdentifiers() ? TABLE.toUpperCase() : TABLE;
+    }
+}
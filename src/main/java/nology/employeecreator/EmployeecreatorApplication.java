@@ -2,8 +2,12 @@ package nology.employeecreator;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// R2DBC is only on the classpath with -Preactive (see nology.reactive); the servlet app stays on JDBC/JPA
+@SpringBootApplication(excludeName = "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration")
+// runs the daily EmploymentStatusRefresher
+@EnableScheduling
 public class EmployeecreatorApplication {
 
 	public static void main(String[] args) {
@@ -1,148 +1,226 @@
 package nology.employeecreator.config;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.github.javafaker.Faker;
 
 import nology.employeecreator.employee.ContractType;
 import nology.employeecreator.employee.Employee;
+import nology.employeecreator.employee.EmployeeBatchInserter;
 import nology.employeecreator.employee.EmployeeRepository;
 import nology.employeecreator.employee.EmployeeRole;
 import nology.employeecreator.employee.EmploymentBasis;
 
+/* Fills an empty database with fake employees. The dev profile seeds a handful (seeder.employee-count=30);
+   the seed profile (application-seed.properties) builds a production-sized dataset for benchmarking, e.g.
+   --spring.profiles.active=dev,seed
+
+   Employees are generated in chunks of seeder.batch-size on seeder.threads threads (default: one per core).
+   Each thread has its own Faker/Random, since neither is safe to share, and each chunk is written with one
+   JDBC batch in its own transaction */
+
 @Component
-@Profile("dev")
+@Profile({"dev", "seed"})
 public class DataSeeder implements CommandLineRunner {
 
+    private static final Logger log = LoggerFactory.getLogger(DataSeeder.class);
+
     private final EmployeeRepository employeeRepository;
-    private final Faker faker;
-    private final Random random;
+    private final EmployeeBatchInserter batchInserter;
+    private final TransactionTemplate transactionTemplate;
+    private final int employeeCount;
+    private final int batchSize;
+    private final int threads;
+
+    // one generator per seeding thread
+    private final ThreadLocal<FakeEmployeeGenerator> generators = ThreadLocal.withInitial(FakeEmployeeGenerator::new);
 
-    public DataSeeder(EmployeeRepository employeeRepository) {
+    public DataSeeder(EmployeeRepository employeeRepository, EmployeeBatchInserter batchInserter,
+            PlatformTransactionManager transactionManager,
+            @Value("${seeder.employee-count:30}") int employeeCount,
+            @Value("${seeder.batch-size:1000}") int batchSize,
+            @Value("${seeder.threads:0}") int threads) {
         this.employeeRepository = employeeRepository;
-        this.faker = new Faker();
-        this.random = new Random();
+        this.batchInserter = batchInserter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.employeeCount = employeeCount;
+        this.batchSize = Math.max(1, batchSize);
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
     }
 
     @Override
-    public void run(String... args) {
+    public void run(String... args) throws InterruptedException {
         // Only seed if database is empty
-        if (employeeRepository.count() == 0) {
-            System.out.println("🌱 Seeding database with 30 employee records...");
-            
-            for (int i = 0; i < 30; i++) {
-                Employee employee = createFakeEmployee();
-                employeeRepository.save(employee);
-                System.out.println("✅ Created employee: " + employee.getFirstName() + " " + employee.getLastName() + " (" + employee.getRole() + ")");
+        if (employeeRepository.count() > 0) {
+            log.info("Database already contains data, skipping seeding");
+            return;
+        }
+
+        log.info("Seeding database with {} employee records (batches of {}, {} threads)", employeeCount, batchSize, threads);
+        long started = System.nanoTime();
+        AtomicLong inserted = new AtomicLong();
+        long reportEvery = Math.max(batchSize, employeeCount / 10);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (int from = 0; from < employeeCount; from += batchSize) {
+                int start = from;
+                int end = Math.min(from + batchSize, employeeCount);
+                chunks.add(executor.submit(() -> {
+                    FakeEmployeeGenerator generator = generators.get();
+                    List<Employee> batch = new ArrayList<>(end - start);
+                    for (int i = start; i < end; i++) {
+                        batch.add(generator.createFakeEmployee(i));
+                    }
+                    transactionTemplate.executeWithoutResult(status -> batchInserter.insert(batch));
+
+                    long total = inserted.addAndGet(batch.size());
+                    if (total / reportEvery != (total - batch.size()) / reportEvery) {
+                        log.info("Inserted {} / {} employees", total, employeeCount);
+                    }
+                }));
             }
-            
-            System.out.println("🎉 Database seeding completed!");
-        } else {
-            System.out.println("📊 Database already contains data, skipping seeding.");
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Seeding failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
         }
+
+        long seconds = Math.max(1, (System.nanoTime() - started) / 1_000_000_000L);
+        log.info("Database seeding completed: {} employees in {}s", inserted.get(), seconds);
     }
 
-    private Employee createFakeEmployee() {
-        Employee employee = new Employee();
+    /* ------------------------------ FAKE DATA ------------------------------ */
+    // Not thread safe - each seeding thread gets its own instance
+    private static class FakeEmployeeGenerator {
+
+        private final Random random = new Random();
+        private final Faker faker = new Faker(random);
+
+        Employee createFakeEmployee(long sequence) {
+            Employee employee = new Employee();
         
-        // Personal Information
-        employee.setFirstName(faker.name().firstName());
-        // 30% chance of having a middle name
-        if (random.nextDouble() < 0.3) {
-            employee.setMiddleName(faker.name().firstName());
-        }
-        employee.setLastName(faker.name().lastName());
+            // Personal Information
+            employee.setFirstName(faker.name().firstName());
+            // 30% chance of having a middle name
+            if (random.nextDouble() < 0.3) {
+                employee.setMiddleName(faker.name().firstName());
+            }
+            employee.setLastName(faker.name().lastName());
         
-        // Contact Information
-        employee.setEmail(generateUniqueEmail(employee.getFirstName(), employee.getLastName()));
-        employee.setMobileNumber(generateAustralianMobile());
-        employee.setResidentialAddress(generateAustralianAddress());
+            // Contact Information
+            employee.setEmail(generateUniqueEmail(employee.getFirstName(), employee.getLastName(), sequence));
+            employee.setMobileNumber(generateAustralianMobile());
+            employee.setResidentialAddress(generateAustralianAddress());
         
-        // Profile Photo (40% chance of having one)
-        if (random.nextDouble() < 0.4) {
-            employee.setThumbnailUrl(faker.internet().avatar());
-        }
+            // Profile Photo (40% chance of having one)
+            if (random.nextDouble() < 0.4) {
+                employee.setThumbnailUrl(faker.internet().avatar());
+            }
         
-        // Employment Details
-        employee.setContractType(random.nextBoolean() ? ContractType.PERMANENT : ContractType.CONTRACT);
-        employee.setEmploymentBasis(random.nextBoolean() ? EmploymentBasis.FULL_TIME : EmploymentBasis.PART_TIME);
+            // Employment Details
+            employee.setContractType(random.nextBoolean() ? ContractType.PERMANENT : ContractType.CONTRACT);
+            employee.setEmploymentBasis(random.nextBoolean() ? EmploymentBasis.FULL_TIME : EmploymentBasis.PART_TIME);
         
-        // Generate realistic start date (between 5 years ago and 1 year ago)
-        LocalDate startDate = LocalDate.now().minusDays(random.nextInt(365 * 5) + 365);
-        employee.setStartDate(startDate);
+            // Generate realistic start date (between 5 years ago and 1 year ago)
+            LocalDate startDate = LocalDate.now().minusDays(random.nextInt(365 * 5) + 365);
+            employee.setStartDate(startDate);
         
-        // Determine if ongoing (85% chance of being ongoing)
-        boolean ongoing = random.nextDouble() < 0.85;
-        employee.setOngoing(ongoing);
+            // Determine if ongoing (85% chance of being ongoing)
+            boolean ongoing = random.nextDouble() < 0.85;
+            employee.setOngoing(ongoing);
         
-        if (!ongoing) {
-            // If not ongoing, set finish date between start date and now
-            LocalDate finishDate = startDate.plusDays(random.nextInt((int) startDate.until(LocalDate.now()).getDays()));
-            employee.setFinishDate(finishDate);
-        }
+            if (!ongoing) {
+                // If not ongoing, set finish date between start date and now
+                LocalDate finishDate = startDate.plusDays(random.nextInt((int) ChronoUnit.DAYS.between(startDate, LocalDate.now())));
+                employee.setFinishDate(finishDate);
+            }
         
-        // Hours per week based on employment basis
-        if (employee.getEmploymentBasis() == EmploymentBasis.FULL_TIME) {
-            employee.setHoursPerWeek(35 + random.nextInt(6)); // 35-40 hours
-        } else {
-            employee.setHoursPerWeek(15 + random.nextInt(21)); // 15-35 hours
-        }
+            // Hours per week based on employment basis
+            if (employee.getEmploymentBasis() == EmploymentBasis.FULL_TIME) {
+                employee.setHoursPerWeek(35 + random.nextInt(6)); // 35-40 hours
+            } else {
+                employee.setHoursPerWeek(15 + random.nextInt(21)); // 15-35 hours
+            }
         
-         // Role assignment with realistic distribution
-        double roleChance = random.nextDouble();
+             // Role assignment with realistic distribution
+            double roleChance = random.nextDouble();
         
-        if (roleChance < 0.03) { // 3% Admin (approx 1 out of 30)
-            employee.setRole(EmployeeRole.ADMIN);
-            System.out.println("🔑 Created ADMIN: " + employee.getFirstName() + " " + employee.getLastName());
-        } else if (roleChance < 0.10) { // 7% HR
-            employee.setRole(EmployeeRole.HR);
-        } else if (roleChance < 0.25) { // 15% Manager
-            employee.setRole(EmployeeRole.MANAGER);
-        } else if (roleChance < 0.80) { // 55% Employee
-            employee.setRole(EmployeeRole.EMPLOYEE);
-        } else if (roleChance < 0.93) { // 13% Intern
-            employee.setRole(EmployeeRole.INTERN);
-        } else { // 7% Contractor
-            employee.setRole(EmployeeRole.CONTRACTOR);
-        }
+            if (roleChance < 0.03) { // 3% Admin (approx 1 out of 30)
+                employee.setRole(EmployeeRole.ADMIN);
+            } else if (roleChance < 0.10) { // 7% HR
+                employee.setRole(EmployeeRole.HR);
+            } else if (roleChance < 0.25) { // 15% Manager
+                employee.setRole(EmployeeRole.MANAGER);
+            } else if (roleChance < 0.80) { // 55% Employee
+                employee.setRole(EmployeeRole.EMPLOYEE);
+            } else if (roleChance < 0.93) { // 13% Intern
+                employee.setRole(EmployeeRole.INTERN);
+            } else { // 7% Contractor
+                employee.setRole(EmployeeRole.CONTRACTOR);
+            }
 
 
-        return employee;
-    }
+            return employee;
+        }
 
-    private String generateUniqueEmail(String firstName, String lastName) {
-        // Create a unique email to avoid conflicts
-        String baseEmail = firstName.toLowerCase() + "." + lastName.toLowerCase();
-        String domain = faker.options().option("gmail.com", "yahoo.com", "outlook.com", "company.com.au");
-        return baseEmail + random.nextInt(1000) + "@" + domain;
-    }
+        private String generateUniqueEmail(String firstName, String lastName, long sequence) {
+            // The sequence number is unique within a seeding run, so emails never collide however many rows are generated.
+            // Names like "O'Keefe" are stripped down to letters/digits to keep the address valid
+            String baseEmail = emailPart(firstName) + "." + emailPart(lastName);
+            String domain = faker.options().option("gmail.com", "yahoo.com", "outlook.com", "company.com.au");
+            return baseEmail + sequence + "@" + domain;
+        }
 
-    private String generateAustralianMobile() {
-        // Generate Australian mobile format: 04XXXXXXXX
-        return "04" + String.format("%08d", random.nextInt(100000000));
-    }
+        private static String emailPart(String name) {
+            return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+        }
 
-    private String generateAustralianAddress() {
-        // Generate realistic Australian addresses
-        String[] states = {"NSW", "VIC", "QLD", "WA", "SA", "TAS", "ACT", "NT"};
-        String[] suburbs = {
-            "Sydney", "Melbourne", "Brisbane", "Perth", "Adelaide", "Hobart", "Canberra", "Darwin",
-            "Parramatta", "Blacktown", "Newcastle", "Gold Coast", "Townsville", "Cairns", "Toowoomba",
-            "Ballarat", "Bendigo", "Albury", "Launceston", "Mackay", "Rockhampton", "Bunbury",
-            "Bundaberg", "Coffs Harbour", "Wagga Wagga", "Hervey Bay", "Mildura", "Shepparton"
-        };
+        private String generateAustralianMobile() {
+            // Generate Australian mobile format: 04XXXXXXXX
+            return "04" + String.format("%08d", random.nextInt(100000000));
+        }
+
+        private String generateAustralianAddress() {
+            // Generate realistic Australian addresses
+            String[] states = {"NSW", "VIC", "QLD", "WA", "SA", "TAS", "ACT", "NT"};
+            String[] suburbs = {
+                "Sydney", "Melbourne", "Brisbane", "Perth", "Adelaide", "Hobart", "Canberra", "Darwin",
+                "Parramatta", "Blacktown", "Newcastle", "Gold Coast", "Townsville", "Cairns", "Toowoomba",
+                "Ballarat", "Bendigo", "Albury", "Launceston", "Mackay", "Rockhampton", "Bunbury",
+                "Bundaberg", "Coffs Harbour", "Wagga Wagga", "Hervey Bay", "Mildura", "Shepparton"
+            };
         
-        String streetNumber = String.valueOf(1 + random.nextInt(999));
-        String streetName = faker.address().streetName();
-        String suburb = suburbs[random.nextInt(suburbs.length)];
-        String state = states[random.nextInt(states.length)];
-        String postcode = String.valueOf(1000 + random.nextInt(8999));
+            String streetNumber = String.valueOf(1 + random.nextInt(999));
+            String streetName = faker.address().streetName();
+            String suburb = suburbs[random.nextInt(suburbs.length)];
+            String state = states[random.nextInt(states.length)];
+            String postcode = String.valueOf(1000 + random.nextInt(8999));
         
-        return streetNumber + " " + streetName + ", " + suburb + " " + state + " " + postcode;
+            return streetNumber + " " + streetName + ", " + suburb + " " + state + " " + postcode;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package nology.employeecreator.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import nology.employeecreator.employee.EmployeeRepository;
+
+// Rows created before the first_name_lower / last_name_lower columns existed have them as NULL,
+// which would hide them from prefix search. This fills them in once at startup (a no-op afterwards)
+@Component
+@Order(0) // before DataSeeder
+public class NormalizedNameBackfill implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(NormalizedNameBackfill.class);
+
+    private final EmployeeRepository employeeRepository;
+
+    public NormalizedNameBackfill(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    @Override
+    public void run(String... args) {
+        int updated = employeeRepository.backfillNormalizedNames();
+        if (updated > 0) {
+            log.info("Filled normalized name columns for {} employees", updated);
+        }
+    }
+}
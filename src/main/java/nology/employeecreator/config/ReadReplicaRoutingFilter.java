@@ -0,0 +1,82 @@
+package nology.employeecreator.config;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/* Decides per request whether read-only transactions may use a replica (see ReplicaRoutingDataSource).
+
+   Write requests (anything but GET/HEAD/OPTIONS) are pinned to the primary for their whole duration, so e.g. an update's
+   read-before-write never sees a lagging replica. With employee.datasource.read-your-writes > 0 the write also sets a
+   cookie, and that client's reads stay on the primary until it expires - long enough for the replicas to catch up */
+
+@Component
+@ConditionalOnProperty("employee.datasource.replica-urls")
+@Order(Ordered.HIGHEST_PRECEDENCE + 1) // right after CorrelationIdFilter
+public class ReadReplicaRoutingFilter extends OncePerRequestFilter {
+
+    static final String PRIMARY_UNTIL_COOKIE = "primary-until";
+
+    private final Duration readYourWrites;
+
+    public ReadReplicaRoutingFilter(@Value("${employee.datasource.read-your-writes:0s}") Duration readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean write = !isReadMethod(request.getMethod());
+        if (write && !readYourWrites.isZero()) {
+            // set now, the response may be committed by the time the chain returns
+            long until = System.currentTimeMillis() + readYourWrites.toMillis();
+            Cookie cookie = new Cookie(PRIMARY_UNTIL_COOKIE, Long.toString(until));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, readYourWrites.toSeconds()));
+            response.addCookie(cookie);
+        }
+
+        if (write || recentlyWrote(request)) {
+            ReplicaRoutingDataSource.pinToPrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.unpin();
+        }
+    }
+
+    private static boolean isReadMethod(String method) {
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method);
+    }
+
+    private boolean recentlyWrote(HttpServletRequest request) {
+        if (readYourWrites.isZero()) {
+            return false;
+        }
+        Cookie cookie = WebUtils.getCookie(request, PRIMARY_UNTIL_COOKIE);
+        if (cookie == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package nology.employeecreator.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/* Bulkhead for /api requests when the app runs on virtual threads (spring.threads.virtual.enabled=true).
+
+   With platform threads Tomcat's pool (200 threads by default) caps how many requests can wait on the Hikari pool at once.
+   Virtual threads remove that cap, so a burst would park thousands of requests inside Hikari until they hit its connection
+   timeout. This puts the cap back explicitly: at most employee.web.max-concurrent-requests run at once, the rest wait up to
+   employee.web.queue-timeout for a slot (in arrival order) and are then answered with 503 + Retry-After */
+
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long queueTimeoutNanos;
+
+    public RequestConcurrencyLimitFilter(@Value("${employee.web.max-concurrent-requests:200}") int maxConcurrentRequests,
+            @Value("${employee.web.queue-timeout:2s}") Duration queueTimeout) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Too many concurrent requests");
+            return;
+        }
+
+        // streamed responses (StreamingResponseBody) return here as soon as they go async; from then on they are
+        // bounded by spring.task.execution.simple.concurrency-limit instead
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package nology.employeecreator.employee;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+
+/* The change set of a bulk update (null = unchanged). Only employment fields - names, email etc. are per person
+   and stay with PUT/PATCH /api/employees/{id} */
+
+public class BulkEmployeeChangesDTO {
+
+    private EmployeeRole role;
+    private ContractType contractType;
+    private LocalDate startDate;
+    private LocalDate finishDate;
+    private Boolean ongoing;        // true clears finishDate, like PUT
+    private EmploymentBasis employmentBasis;
+
+    @Positive @Max(168)
+    private Integer hoursPerWeek;
+
+    /* --------------------------- getters and setters -------------------------- */
+
+    public EmployeeRole getRole() {
+        return role;
+    }
+
+    public void setRole(EmployeeRole role) {
+        this.role = role;
+    }
+
+    public ContractType getContractType() {
+        return contractType;
+    }
+
+    public void setContractType(ContractType contractType) {
+        this.contractType = contractType;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getFinishDate() {
+        return finishDate;
+    }
+
+    public void setFinishDate(LocalDate finishDate) {
+        this.finishDate = finishDate;
+    }
+
+    public Boolean getOngoing() {
+        return ongoing;
+    }
+
+    public void setOngoing(Boolean ongoing) {
+        this.ongoing = ongoing;
+    }
+
+    public EmploymentBasis getEmploymentBasis() {
+        return employmentBasis;
+    }
+
+    public void setEmploymentBasis(EmploymentBasis employmentBasis) {
+        this.employmentBasis = employmentBasis;
+    }
+
+    public Integer getHoursPerWeek() {
+        return hoursPerWeek;
+    }
+
+    public void setHoursPerWeek(Integer hoursPerWeek) {
+        this.hoursPerWeek = hoursPerWeek;
+    }
+}
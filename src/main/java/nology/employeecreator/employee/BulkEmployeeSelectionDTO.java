@@ -0,0 +1,31 @@
+package nology.employeecreator.employee;
+
+import java.util.List;
+
+/* Which employees a bulk update/delete applies to: either a list of ids or a filter, not both.
+   Also the whole body of POST /api/employees/bulk/delete */
+
+public class BulkEmployeeSelectionDTO {
+
+    private List<Long> ids;
+
+    private EmployeeFilterDTO filter;
+
+    /* --------------------------- getters and setters -------------------------- */
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public EmployeeFilterDTO getFilter() {
+        return filter;
+    }
+
+    public void setFilter(EmployeeFilterDTO filter) {
+        this.filter = filter;
+    }
+}
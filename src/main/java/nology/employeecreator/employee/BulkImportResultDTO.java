@@ -0,0 +1,104 @@
+package nology.employeecreator.employee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+
+/* report returned by POST /api/employees/bulk: totals plus one entry per input row (1-based, in input order)
+   saying whether it was created (with its new id) or why it failed */
+
+public class BulkImportResultDTO {
+
+        private int total;
+        private int created;
+        private int failed;
+        private List<RowResult> rows = new ArrayList<>();
+
+    /* --------------------------- getters and setters -------------------------- */
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<RowResult> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<RowResult> rows) {
+        this.rows = rows;
+    }
+
+    /* -------------------------------- ROW RESULT ------------------------------- */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RowResult {
+
+        public enum Status { CREATED, FAILED }
+
+        private int row;
+        private Status status;
+        private Long id;                                  // only for CREATED rows
+        private Map<String, List<String>> errors;         // field -> messages, only for FAILED rows
+
+        public RowResult() {
+        }
+
+        public RowResult(int row) {
+            this.row = row;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public void setRow(int row) {
+            this.row = row;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Map<String, List<String>> getErrors() {
+            return errors;
+        }
+
+        public void setErrors(Map<String, List<String>> errors) {
+            this.errors = errors;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package nology.employeecreator.employee;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+/* Body of PATCH /api/employees/bulk: the employees (ids or filter) and the change set */
+
+public class BulkUpdateEmployeesDTO extends BulkEmployeeSelectionDTO {
+
+    @Valid @NotNull
+    private BulkEmployeeChangesDTO changes;
+
+    /* --------------------------- getters and setters -------------------------- */
+
+    public BulkEmployeeChangesDTO getChanges() {
+        return changes;
+    }
+
+    public void setChanges(BulkEmployeeChangesDTO changes) {
+        this.changes = changes;
+    }
+}
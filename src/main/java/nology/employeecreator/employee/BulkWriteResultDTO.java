@@ -0,0 +1,27 @@
+package nology.employeecreator.employee;
+
+/* Result of a bulk update/delete: how many employees were changed, in how many chunks (one transaction each) */
+
+public class BulkWriteResultDTO {
+
+    private long affected;
+    private int chunks;
+
+    /* --------------------------- getters and setters -------------------------- */
+
+    public long getAffected() {
+        return affected;
+    }
+
+    public void setAffected(long affected) {
+        this.affected = affected;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+}
@@ -0,0 +1,49 @@
+package nology.employeecreator.employee;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+/* Read-through loading for the Caffeine caches that doesn't hold a lock while the loader runs.
+
+   Cache.get(key, loader) runs the loader inside ConcurrentHashMap.compute, i.e. in a synchronized block, for the whole
+   JDBC round trip. On a virtual thread that pins the carrier (JDK 21), so a few slow queries can stall every other
+   request. Here only a CompletableFuture is put into the map; the caller that created it runs the loader on its own
+   thread and concurrent callers for the same key wait on the future, which parks a virtual thread without pinning it */
+
+final class CacheLoads {
+
+    private CacheLoads() {
+    }
+
+    static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (ignored, executor) -> created);
+
+        if (future == created) {
+            try {
+                created.complete(loader.apply(key));
+            } catch (Throwable e) {
+                // whatever the loader threw (errors too), or the callers waiting on the future would wait forever.
+                // Caffeine drops failed futures, so nothing is cached (e.g. employee not found)
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // another caller's load failed - rethrow what its loader threw
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package nology.employeecreator.employee;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+
+/* hit/miss/eviction counters of one in-process cache, since the application started (GET /api/employees/cache-stats) */
+
+public class CacheStatsDTO {
+
+        private long hits;
+        private long misses;
+        private double hitRate;
+        private long evictions;
+        private long size;
+
+    /* --------------------------- CONSTRUCTORS --------------------------- */
+    public CacheStatsDTO() {
+        // Default constructor
+    }
+
+    public static CacheStatsDTO from(CacheStats stats, long size) {
+        CacheStatsDTO dto = new CacheStatsDTO();
+        dto.setHits(stats.hitCount());
+        dto.setMisses(stats.missCount());
+        dto.setHitRate(stats.hitRate());
+        dto.setEvictions(stats.evictionCount());
+        dto.setSize(size);
+        return dto;
+    }
+
+
+    /* --------------------------- getters and setters -------------------------- */
+
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void setMisses(long misses) {
+        this.misses = misses;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public void setEvictions(long evictions) {
+        this.evictions = evictions;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,100 @@
+package nology.employeecreator.employee;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/* this DTO carries the pre-aggregated numbers the dashboard needs, so the browser no longer has to download every employee just to count them. Its size only depends on the number of enum values and start months, not on the number of rows in the table */
+
+public class DashboardStatsDTO {
+
+        private long totalEmployees;
+        private long activeCount;
+        private long inactiveCount;
+        private Double averageHoursPerWeek;
+        private Map<String, Long> contractTypeCounts = new LinkedHashMap<>();
+        private Map<String, Long> employmentBasisCounts = new LinkedHashMap<>();
+        private Map<String, Long> activeEmploymentBasisCounts = new LinkedHashMap<>();
+        private Map<String, Long> roleCounts = new LinkedHashMap<>();
+        private Map<String, Long> startMonthCounts = new LinkedHashMap<>(); // "yyyy-MM" -> count, oldest first
+
+    /* --------------------------- CONSTRUCTORS --------------------------- */
+    public DashboardStatsDTO() {
+        // Default constructor
+    }
+
+
+    /* --------------------------- getters and setters -------------------------- */
+
+    public long getTotalEmployees() {
+        return totalEmployees;
+    }
+
+    public void setTotalEmployees(long totalEmployees) {
+        this.totalEmployees = totalEmployees;
+    }
+
+    public long getActiveCount() {
+        return activeCount;
+    }
+
+    public void setActiveCount(long activeCount) {
+        this.activeCount = activeCount;
+    }
+
+    public long getInactiveCount() {
+        return inactiveCount;
+    }
+
+    public void setInactiveCount(long inactiveCount) {
+        this.inactiveCount = inactiveCount;
+    }
+
+    public Double getAverageHoursPerWeek() {
+        return averageHoursPerWeek;
+    }
+
+    public void setAverageHoursPerWeek(Double averageHoursPerWeek) {
+        this.averageHoursPerWeek = averageHoursPerWeek;
+    }
+
+    public Map<String, Long> getContractTypeCounts() {
+        return contractTypeCounts;
+    }
+
+    public void setContractTypeCounts(Map<String, Long> contractTypeCounts) {
+        this.contractTypeCounts = contractTypeCounts;
+    }
+
+    public Map<String, Long> getEmploymentBasisCounts() {
+        return employmentBasisCounts;
+    }
+
+    public void setEmploymentBasisCounts(Map<String, Long> employmentBasisCounts) {
+        this.employmentBasisCounts = employmentBasisCounts;
+    }
+
+    public Map<String, Long> getActiveEmploymentBasisCounts() {
+        return activeEmploymentBasisCounts;
+    }
+
+    public void setActiveEmploymentBasisCounts(Map<String, Long> activeEmploymentBasisCounts) {
+        this.activeEmploymentBasisCounts = activeEmploymentBasisCounts;
+    }
+
+    public Map<String, Long> getRoleCounts() {
+        return roleCounts;
+    }
+
+    public void setRoleCounts(Map<String, Long> roleCounts) {
+        this.roleCounts = roleCounts;
+    }
+
+    public Map<String, Long> getStartMonthCounts() {
+        return startMonthCounts;
+    }
+
+    public void setStartMonthCounts(Map<String, Long> startMonthCounts) {
+        this.startMonthCounts = startMonthCounts;
+    }
+}
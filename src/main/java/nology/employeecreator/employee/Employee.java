@@ -2,6 +2,11 @@ package nology.employeecreator.employee;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,9 +15,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
@@ -22,13 +29,35 @@ import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name="employees")
+@Table(name="employees", indexes = {
+    // prefix name search (searchMode=prefix) uses these instead of scanning with LOWER(...) LIKE '%term%'
+    @Index(name = "idx_employees_first_name_lower", columnList = "first_name_lower"),
+    @Index(name = "idx_employees_last_name_lower", columnList = "last_name_lower"),
+    // MAX(updated_at) for the list ETags (see EmployeeRepository.findCollectionVersion)
+    @Index(name = "idx_employees_updated_at", columnList = "updated_at"),
+    // search filters and sorts - the real schema comes from db/migration/V2__add_search_indexes.sql, these keep
+    // schemas generated from the entity (tests, H2 benchmarks) the same
+    @Index(name = "idx_employees_first_name", columnList = "first_name"),
+    @Index(name = "idx_employees_last_name", columnList = "last_name"),
+    @Index(name = "idx_employees_start_date", columnList = "start_date"),
+    @Index(name = "idx_employees_contract_first_name", columnList = "contract_type, first_name"),
+    @Index(name = "idx_employees_contract_basis_status", columnList = "contract_type, employment_basis, employment_status"),
+    @Index(name = "idx_employees_basis_status", columnList = "employment_basis, employment_status"),
+    @Index(name = "idx_employees_status_finish", columnList = "employment_status, finish_date"),
+    @Index(name = "idx_employees_role", columnList = "role")
+})
 public class Employee {
 
+    private static final Logger log = LoggerFactory.getLogger(Employee.class);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // optimistic locking: incremented by Hibernate on every update, which only succeeds if it is still the loaded value
+    @Version
+    private Long version;
+
 
     /* -------------------------- personal information -------------------------- */
     @NotBlank @Size(max=200)
@@ -40,6 +69,13 @@ public class Employee {
     @NotBlank @Size(max=200)
     private String lastName;
 
+    // lowercase copies of the names, kept in sync by onCreate/onUpdate so they can be indexed
+    @Column(name="first_name_lower", length=200)
+    private String firstNameLower;
+
+    @Column(name="last_name_lower", length=200)
+    private String lastNameLower;
+
     /* ----------------------------- image thumbnail ---------------------------- */
 
     @Size(max=500)
@@ -78,6 +114,11 @@ public class Employee {
     private LocalDate finishDate;   // null if ongoing
 
     private boolean ongoing; // true = no end date
+
+    // ACTIVE / ENDED / FUTURE, derived from startDate and finishDate in onCreate/onUpdate
+    @Enumerated(EnumType.STRING)
+    @Column(name="employment_status", nullable=false)
+    private EmploymentStatus employmentStatus;
     
     @Enumerated(EnumType.STRING)
     @NotNull
@@ -95,15 +136,31 @@ public class Employee {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
-       
+        // microseconds are all the database keeps, so the ETag built from updatedAt is the same before and after a reload
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
+        normalizeNames();
+        refreshEmploymentStatus();
     }
     
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
-        System.out.println("🔧 @PreUpdate called for employee ID: " + this.id + " - Setting updatedAt: " + this.updatedAt);
+        updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        normalizeNames();
+        refreshEmploymentStatus();
+        log.trace("@PreUpdate for employee {} - setting updatedAt: {}", id, updatedAt);
+    }
+ 
+
+    // same normalisation the search term gets in EmployeeService
+    private void normalizeNames() {
+        firstNameLower = firstName == null ? null : firstName.trim().toLowerCase(Locale.ROOT);
+        lastNameLower = lastName == null ? null : lastName.trim().toLowerCase(Locale.ROOT);
+    }
+ 
+
+    private void refreshEmploymentStatus() {
+        employmentStatus = EmploymentStatus.of(startDate, finishDate, LocalDate.now());
     }
  
 
@@ -137,6 +194,10 @@ public class Employee {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public EmployeeRole getRole(){
         return role;
     }
@@ -169,6 +230,14 @@ public class Employee {
         this.lastName = lastName;
     }
 
+    public String getFirstNameLower() {
+        return firstNameLower;
+    }
+
+    public String getLastNameLower() {
+        return lastNameLower;
+    }
+
     public String getEmail() {
         return email;
     }
@@ -225,6 +294,10 @@ public class Employee {
         this.ongoing = ongoing;
     }
 
+    public EmploymentStatus getEmploymentStatus() {
+        return employmentStatus;
+    }
+
     public EmploymentBasis getEmploymentBasis() {
         return employmentBasis;
     }
@@ -0,0 +1,80 @@
+package nology.employeecreator.employee;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+/* Inserts new employees with one JDBC batch per call. Used by the bulk import and the DataSeeder.
+
+   Plain JDBC is used on purpose: Employee ids are IDENTITY generated, which stops Hibernate from batching
+   inserts, and nothing is kept in a persistence context so memory stays flat however many rows are written.
+   Callers own the transaction */
+
+@Component
+public class EmployeeBatchInserter {
+
+    // Must list the same columns as the Employee entity - update this when a column is added there
+    static final String INSERT_SQL = "INSERT INTO employees (first_name, middle_name, last_name, first_name_lower, last_name_lower, "
+            + "email, mobile_number, residential_address, thumbnail_url, role, contract_type, employment_basis, "
+            + "start_date, finish_date, ongoing, employment_status, hours_per_week, created_at, updated_at, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeeBatchInserter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Returns the generated ids in the same order as the list
+    public List<Long> insert(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return List.of();
+        }
+
+        // fills createdAt/updatedAt, the lowercase name columns and the status, like JPA does on persist
+        employees.forEach(Employee::onCreate);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        Employee employee = employees.get(i);
+                        Object[] values = {
+                            employee.getFirstName(), employee.getMiddleName(), employee.getLastName(),
+                            employee.getFirstNameLower(), employee.getLastNameLower(),
+                            employee.getEmail(), employee.getMobileNumber(), employee.getResidentialAddress(),
+                            employee.getThumbnailUrl(), employee.getRole().name(), employee.getContractType().name(),
+                            employee.getEmploymentBasis().name(), employee.getStartDate(), employee.getFinishDate(),
+                            employee.isOngoing(), employee.getEmploymentStatus().name(), employee.getHoursPerWeek(), employee.getCreatedAt(), employee.getUpdatedAt()
+                        };
+                        for (int column = 0; column < values.length; column++) {
+                            StatementCreatorUtils.setParameterValue(statement, column + 1, SqlTypeValue.TYPE_UNKNOWN, values[column]);
+                        }
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return employees.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(employees.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
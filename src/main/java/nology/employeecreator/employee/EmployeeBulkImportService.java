@@ -0,0 +1,239 @@
+package nology.employeecreator.employee;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import nology.employeecreator.common.ValidationErrors;
+import nology.employeecreator.common.exceptions.BadRequestException;
+
+/* Bulk import for POST /api/employees/bulk. Rows are read one at a time from a JSON array, NDJSON or CSV body,
+   validated like CreateEmployeeDTO, and inserted through EmployeeBatchInserter in batches of
+   employee.import.batch-size, each batch in its own transaction */
+
+@Service
+public class EmployeeBulkImportService {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final EmployeeBatchInserter batchInserter;
+    private final TransactionTemplate transactionTemplate;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeSuggestionIndex suggestionIndex;
+    private final EmployeeSearchCache searchCache;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EmployeeMapper employeeMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final int batchSize;
+
+    public EmployeeBulkImportService(EmployeeBatchInserter batchInserter, PlatformTransactionManager transactionManager,
+            EmployeeRepository employeeRepository, EmployeeSuggestionIndex suggestionIndex, EmployeeSearchCache searchCache, Validator validator,
+            ObjectMapper objectMapper, EmployeeMapper employeeMapper, @Value("${employee.import.batch-size:500}") int batchSize) {
+        this.batchInserter = batchInserter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.employeeRepository = employeeRepository;
+        this.suggestionIndex = suggestionIndex;
+        this.searchCache = searchCache;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.employeeMapper = employeeMapper;
+        this.batchSize = batchSize;
+    }
+
+    /* --------------------------------- IMPORT --------------------------------- */
+    public BulkImportResultDTO importEmployees(InputStream body, MediaType contentType) throws IOException {
+        ImportRun run = new ImportRun();
+
+        if (contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            readNdjson(body, run);
+        } else if (contentType.isCompatibleWith(TEXT_CSV)) {
+            readCsv(body, run);
+        } else {
+            readJsonArray(body, run);
+        }
+        run.flush();
+
+        return run.result;
+    }
+
+    /* ------------------------------ INPUT FORMATS ------------------------------ */
+    // Every format hands rows to run.accept() as they are read; a row that can't be parsed is reported
+    // as failed without stopping the rest of the import
+
+    private void readJsonArray(InputStream body, ImportRun run) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadRequestException("Expected a JSON array of employees");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    run.acceptParseError("Expected a JSON object");
+                    continue;
+                }
+                // read the whole object first so a bad field can't leave the parser in the middle of a row
+                JsonNode node = parser.readValueAsTree();
+                try {
+                    run.accept(objectMapper.treeToValue(node, CreateEmployeeDTO.class));
+                } catch (JsonProcessingException e) {
+                    run.acceptParseError(e.getOriginalMessage());
+                }
+            }
+        }
+    }
+
+    private void readNdjson(InputStream body, ImportRun run) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                run.accept(objectMapper.readValue(line, CreateEmployeeDTO.class));
+            } catch (JsonProcessingException e) {
+                run.acceptParseError(e.getOriginalMessage());
+            }
+        }
+    }
+
+    // First line is the header with CreateEmployeeDTO field names, e.g. firstName,lastName,email,...
+    private void readCsv(InputStream body, ImportRun run) throws IOException {
+        CsvSchema schema = CsvSchema.emptySchema().withHeader();
+        try (MappingIterator<Map<String, String>> rows = csvMapper.readerFor(Map.class).with(schema).readValues(body)) {
+            while (rows.hasNextValue()) {
+                Map<String, String> row = rows.nextValue();
+                // empty cells mean "not provided"
+                row.values().removeIf(value -> value == null || value.isBlank());
+                try {
+                    run.accept(objectMapper.convertValue(row, CreateEmployeeDTO.class));
+                } catch (IllegalArgumentException e) {
+                    run.acceptParseError(e.getMessage());
+                }
+            }
+        }
+    }
+
+    /* ------------------------------- IMPORT STATE ------------------------------- */
+    // Holds the report and the batch that is waiting to be inserted
+    private class ImportRun {
+
+        final BulkImportResultDTO result = new BulkImportResultDTO();
+        final Set<String> seenEmails = new HashSet<>();
+        final List<BulkImportResultDTO.RowResult> pendingRows = new ArrayList<>();
+        final List<Employee> pendingEmployees = new ArrayList<>();
+
+        void accept(CreateEmployeeDTO data) {
+            BulkImportResultDTO.RowResult row = nextRow();
+
+            ValidationErrors errors = new ValidationErrors();
+            for (ConstraintViolation<CreateEmployeeDTO> violation : validator.validate(data)) {
+                errors.add(violation.getPropertyPath().toString(), violation.getMessage());
+            }
+            if (!errors.hasErrors() && !seenEmails.add(data.getEmail().trim().toLowerCase(Locale.ROOT))) {
+                errors.add("email", "duplicate email in this import");
+            }
+            if (errors.hasErrors()) {
+                fail(row, errors.getErrors());
+                return;
+            }
+
+            pendingRows.add(row);
+            pendingEmployees.add(employeeMapper.toNewEmployee(data));
+            if (pendingEmployees.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void acceptParseError(String message) {
+            fail(nextRow(), Map.of("row", List.of(message)));
+        }
+
+        // Inserts the pending batch in one transaction. Rows whose email already exists are failed first,
+        // so one duplicate doesn't make the unique constraint reject the whole batch
+        void flush() {
+            if (pendingEmployees.isEmpty()) {
+                return;
+            }
+
+            List<String> emails = pendingEmployees.stream().map(Employee::getEmail).toList();
+            Set<String> existing = new HashSet<>();
+            for (String email : employeeRepository.findExistingEmails(emails)) {
+                existing.add(email.toLowerCase(Locale.ROOT));
+            }
+
+            List<BulkImportResultDTO.RowResult> rows = new ArrayList<>();
+            List<Employee> employees = new ArrayList<>();
+            for (int i = 0; i < pendingEmployees.size(); i++) {
+                if (existing.contains(pendingEmployees.get(i).getEmail().toLowerCase(Locale.ROOT))) {
+                    fail(pendingRows.get(i), Map.of("email", List.of("an employee with this email already exists")));
+                } else {
+                    rows.add(pendingRows.get(i));
+                    employees.add(pendingEmployees.get(i));
+                }
+            }
+            pendingRows.clear();
+            pendingEmployees.clear();
+
+            try {
+                List<Long> ids = transactionTemplate.execute(status -> batchInserter.insert(employees));
+                for (int i = 0; i < rows.size(); i++) {
+                    rows.get(i).setStatus(BulkImportResultDTO.RowResult.Status.CREATED);
+                    rows.get(i).setId(ids.get(i));
+                }
+                suggestionIndex.putAll(ids, employees);
+                result.setCreated(result.getCreated() + rows.size());
+                searchCache.invalidate();
+            } catch (DataAccessException e) {
+                // the batch was rolled back as a whole
+                for (BulkImportResultDTO.RowResult row : rows) {
+                    fail(row, Map.of("row", List.of("batch insert failed: " + e.getMostSpecificCause().getMessage())));
+                }
+            }
+        }
+
+        private BulkImportResultDTO.RowResult nextRow() {
+            BulkImportResultDTO.RowResult row = new BulkImportResultDTO.RowResult(result.getTotal() + 1);
+            result.getRows().add(row);
+            result.setTotal(result.getTotal() + 1);
+            return row;
+        }
+
+        private void fail(BulkImportResultDTO.RowResult row, Map<String, ? extends List<String>> errors) {
+            Map<String, List<String>> copy = new LinkedHashMap<>();
+            errors.forEach((field, messages) -> copy.put(field, new ArrayList<>(messages)));
+            row.setStatus(BulkImportResultDTO.RowResult.Status.FAILED);
+            row.setErrors(copy);
+            result.setFailed(result.getFailed() + 1);
+        }
+    }
+}
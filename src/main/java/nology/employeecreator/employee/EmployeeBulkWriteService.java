@@ -0,0 +1,181 @@
+package nology.employeecreator.employee;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import nology.employeecreator.common.exceptions.BadRequestException;
+
+/* Bulk update and delete for PATCH /api/employees/bulk and POST /api/employees/bulk/delete.
+
+   The employees are given as ids or as a search filter. Either way they are processed employee.bulk.chunk-size
+   ids at a time, each chunk as one UPDATE/DELETE ... WHERE id IN (...) in its own transaction - a 50k-row
+   rollover neither holds locks on the whole table nor builds one huge undo log, and a failure only rolls back
+   the chunk it happened in. A filter is walked in id order and re-checked in every statement, so rows that
+   stopped matching in between are left alone */
+
+@Service
+public class EmployeeBulkWriteService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeBulkWriteService.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EmployeeSuggestionIndex suggestionIndex;
+    private final EmployeeDetailCache detailCache;
+    private final EmployeeSearchCache searchCache;
+    private final EmployeeMetrics metrics;
+    private final int chunkSize;
+
+    public EmployeeBulkWriteService(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager,
+            EmployeeSuggestionIndex suggestionIndex, EmployeeDetailCache detailCache, EmployeeSearchCache searchCache,
+            EmployeeMetrics metrics, @Value("${employee.bulk.chunk-size:1000}") int chunkSize) {
+        this.employeeRepository = employeeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.suggestionIndex = suggestionIndex;
+        this.detailCache = detailCache;
+        this.searchCache = searchCache;
+        this.metrics = metrics;
+        this.chunkSize = chunkSize;
+    }
+
+    /* --------------------------------- UPDATE --------------------------------- */
+    // Applies the change set like PATCH does (updatedAt, employmentStatus and version move with it)
+    public BulkWriteResultDTO updateEmployees(BulkUpdateEmployeesDTO request) {
+        UpdateEmployeeDTO changes = toUpdate(request.getChanges());
+        return metrics.timeService("bulkUpdate", () -> forEachChunk(request, (ids, where) -> {
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            return employeeRepository.updateWhere(changes, where, now, LocalDate.now());
+        }));
+    }
+
+    /* --------------------------------- DELETE --------------------------------- */
+    public BulkWriteResultDTO deleteEmployees(BulkEmployeeSelectionDTO request) {
+        return metrics.timeService("bulkDelete", () -> forEachChunk(request, (ids, where) -> {
+            int deleted = employeeRepository.deleteWhere(where);
+            // the typeahead index has to lose exactly the deleted ones
+            if (deleted == ids.size()) {
+                ids.forEach(suggestionIndex::remove);
+            } else {
+                Set<Long> remaining = new HashSet<>(employeeRepository.findExistingIds(ids));
+                ids.stream().filter(id -> !remaining.contains(id)).forEach(suggestionIndex::remove);
+            }
+            return deleted;
+        }));
+    }
+
+    /* --------------------------------- CHUNKS --------------------------------- */
+
+    @FunctionalInterface
+    private interface ChunkWrite {
+        // where = the chunk's ids (and the filter); returns the number of rows written
+        int apply(List<Long> ids, Specification<Employee> where);
+    }
+
+    private BulkWriteResultDTO forEachChunk(BulkEmployeeSelectionDTO request, ChunkWrite write) {
+        Specification<Employee> filter = toSpecification(request);
+        BulkWriteResultDTO result = new BulkWriteResultDTO();
+        try {
+            if (filter == null) {
+                // an id list: sorted, so concurrent bulk writes lock rows in the same order
+                List<Long> ids = new ArrayList<>(new TreeSet<>(request.getIds()));
+                for (int from = 0; from < ids.size(); from += chunkSize) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                    writeChunk(chunk, EmployeeSpecifications.idIn(chunk), write, result);
+                }
+            } else {
+                Long afterId = null;
+                while (true) {
+                    Long after = afterId;
+                    List<Long> chunk = transactionTemplate.execute(status -> {
+                        List<Long> ids = employeeRepository.findIdsAfter(filter, after, chunkSize);
+                        if (!ids.isEmpty()) {
+                            applyChunk(ids, filter.and(EmployeeSpecifications.idIn(ids)), write, result);
+                        }
+                        return ids;
+                    });
+                    if (chunk.size() < chunkSize) {
+                        break;
+                    }
+                    afterId = chunk.get(chunk.size() - 1);
+                }
+            }
+        } finally {
+            // also after a failed chunk - the chunks before it are committed.
+            // Every cached search or detail view may contain one of the changed rows
+            detailCache.invalidateAll();
+            searchCache.invalidate();
+        }
+        log.info("Bulk write changed {} employees in {} chunks", result.getAffected(), result.getChunks());
+        return result;
+    }
+
+    private void writeChunk(List<Long> ids, Specification<Employee> where, ChunkWrite write, BulkWriteResultDTO result) {
+        transactionTemplate.executeWithoutResult(status -> applyChunk(ids, where, write, result));
+    }
+
+    private static void applyChunk(List<Long> ids, Specification<Employee> where, ChunkWrite write, BulkWriteResultDTO result) {
+        result.setAffected(result.getAffected() + write.apply(ids, where));
+        result.setChunks(result.getChunks() + 1);
+    }
+
+    /* -------------------------------- REQUESTS -------------------------------- */
+
+    // The filter as a Specification, or null for an id list
+    private static Specification<Employee> toSpecification(BulkEmployeeSelectionDTO request) {
+        boolean hasIds = request.getIds() != null;
+        boolean hasFilter = request.getFilter() != null;
+        if (hasIds == hasFilter) {
+            throw new BadRequestException("Send either ids or filter");
+        }
+        if (hasIds) {
+            if (request.getIds().stream().anyMatch(id -> id == null)) {
+                throw new BadRequestException("ids must not contain null");
+            }
+            return null;
+        }
+
+        EmployeeFilterDTO filter = request.getFilter();
+        // the search's own name normalisation (contains term or escaped prefix pattern)
+        EmployeeSearchCache.Criteria names = EmployeeService.toSearchCriteria(filter.getFirstName(), filter.getLastName(),
+                null, null, null, 0, 1, null, null, filter.getSearchMode());
+        String nameTerm = names.firstName() != null ? names.firstName() : names.lastName();
+        if (nameTerm == null && names.namePrefix() == null && filter.getContractType() == null
+                && filter.getEmploymentBasis() == null && filter.getOngoing() == null) {
+            // almost certainly a mistake - and with a delete an expensive one
+            throw new BadRequestException("filter must have at least one condition");
+        }
+        return EmployeeSpecifications.withFilters(nameTerm, names.namePrefix(), filter.getContractType(),
+                filter.getEmploymentBasis(), filter.getOngoing());
+    }
+
+    private static UpdateEmployeeDTO toUpdate(BulkEmployeeChangesDTO changes) {
+        UpdateEmployeeDTO update = new UpdateEmployeeDTO();
+        update.setRole(changes.getRole());
+        update.setContractType(changes.getContractType());
+        update.setStartDate(changes.getStartDate());
+        update.setFinishDate(changes.getFinishDate());
+        update.setOngoing(changes.getOngoing());
+        update.setEmploymentBasis(changes.getEmploymentBasis());
+        update.setHoursPerWeek(changes.getHoursPerWeek());
+        if (update.getRole() == null && update.getContractType() == null && update.getStartDate() == null
+                && update.getFinishDate() == null && update.getOngoing() == null && update.getEmploymentBasis() == null
+                && update.getHoursPerWeek() == null) {
+            throw new BadRequestException("changes must set at least one field");
+        }
+        return update;
+    }
+}
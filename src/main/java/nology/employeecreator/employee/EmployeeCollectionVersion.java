@@ -0,0 +1,13 @@
+package nology.employeecreator.employee;
+
+import java.time.LocalDateTime;
+
+/* Row count and latest updatedAt of the employees table, read with one aggregate query.
+   Any create, update or delete changes at least one of the two, so together they version every list response */
+
+public interface EmployeeCollectionVersion {
+
+    long getCount();
+
+    LocalDateTime getLastUpdated(); // null when the table is empty
+}
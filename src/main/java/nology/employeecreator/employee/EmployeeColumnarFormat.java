@@ -0,0 +1,173 @@
+package nology.employeecreator.employee;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+
+/* The compact binary export (?format=columnar), laid out column by column like Parquet/Arrow row groups, so an
+   analytics job can read just the columns it needs and the values of one column compress well together.
+   All numbers are big-endian.
+
+     file      = "ECOL" version:u8 columnCount:u16 column* rowGroup* 0:i32
+     column    = name:utf type:u8 [ dictionarySize:u16 value:utf* ]     (dictionary only for DICTIONARY)
+     rowGroup  = rowCount:i32 block*                                     (one block per column, in column order)
+     block     = length:i32 nulls:bitmap body                            (length = bytes after it, to skip columns)
+
+   nulls has bit i (LSB first) set when row i is null; body only holds the non-null values:
+     INT64, INT32, DATE (epoch day), TIMESTAMP (epoch micros, no zone) - zigzag varint of the delta to the previous value
+     BOOLEAN    - bitmap of the values
+     DICTIONARY - one byte per value, the index into the column's dictionary (the enum's names, in ordinal order)
+     STRING     - varint UTF-8 length of every value, then all the UTF-8 bytes
+
+   The writer is EmployeeColumnarWriter; readRows decodes a whole file, e.g. for tests or small exports */
+
+public final class EmployeeColumnarFormat {
+
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType("application/vnd.employeecreator.columnar");
+
+    static final byte[] MAGIC = "ECOL".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+
+    // the type byte is the ordinal - only ever append
+    public enum ColumnType {
+        INT64, INT32, STRING, DICTIONARY, DATE, TIMESTAMP, BOOLEAN
+    }
+
+    private EmployeeColumnarFormat() {
+    }
+
+    /* --------------------------------- VARINTS --------------------------------- */
+
+    static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    /* --------------------------------- READER --------------------------------- */
+    // Every row as a map of field name to value (Long, Integer, String, LocalDate, LocalDateTime or Boolean)
+    public static List<Map<String, Object>> readRows(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        byte[] magic = in.readNBytes(MAGIC.length);
+        if (!Arrays.equals(magic, MAGIC) || in.readUnsignedByte() != VERSION) {
+            throw new IOException("Not a version " + VERSION + " columnar employee export");
+        }
+
+        int columnCount = in.readUnsignedShort();
+        String[] names = new String[columnCount];
+        ColumnType[] types = new ColumnType[columnCount];
+        String[][] dictionaries = new String[columnCount][];
+        for (int column = 0; column < columnCount; column++) {
+            names[column] = in.readUTF();
+            types[column] = ColumnType.values()[in.readUnsignedByte()];
+            if (types[column] == ColumnType.DICTIONARY) {
+                dictionaries[column] = new String[in.readUnsignedShort()];
+                for (int i = 0; i < dictionaries[column].length; i++) {
+                    dictionaries[column][i] = in.readUTF();
+                }
+            }
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        int rowCount;
+        while ((rowCount = in.readInt()) != 0) {
+            Object[][] values = new Object[columnCount][];
+            for (int column = 0; column < columnCount; column++) {
+                ByteBuffer block = ByteBuffer.wrap(in.readNBytes(in.readInt()));
+                values[column] = readBlock(block, rowCount, types[column], dictionaries[column]);
+            }
+            for (int row = 0; row < rowCount; row++) {
+                Map<String, Object> fields = new LinkedHashMap<>();
+                for (int column = 0; column < columnCount; column++) {
+                    fields.put(names[column], values[column][row]);
+                }
+                rows.add(fields);
+            }
+        }
+        return rows;
+    }
+
+    private static Object[] readBlock(ByteBuffer block, int rowCount, ColumnType type, String[] dictionary) {
+        byte[] nulls = new byte[(rowCount + 7) / 8];
+        block.get(nulls);
+        byte[] booleans = new byte[type == ColumnType.BOOLEAN ? nulls.length : 0];
+        block.get(booleans);
+
+        Object[] values = new Object[rowCount];
+        long previous = 0;
+        List<Integer> stringRows = new ArrayList<>();
+        List<Integer> stringLengths = new ArrayList<>();
+        for (int row = 0; row < rowCount; row++) {
+            if (isSet(nulls, row)) {
+                continue;
+            }
+            switch (type) {
+                case INT64, INT32, DATE, TIMESTAMP -> {
+                    previous += unZigZag(readVarLong(block));
+                    values[row] = switch (type) {
+                        case INT32 -> (int) previous;
+                        case DATE -> LocalDate.ofEpochDay(previous);
+                        case TIMESTAMP -> LocalDateTime.ofEpochSecond(Math.floorDiv(previous, 1_000_000L),
+                                (int) Math.floorMod(previous, 1_000_000L) * 1_000, ZoneOffset.UTC);
+                        default -> previous;
+                    };
+                }
+                case BOOLEAN -> values[row] = isSet(booleans, row);
+                case DICTIONARY -> values[row] = dictionary[block.get() & 0xFF];
+                case STRING -> {
+                    stringRows.add(row);
+                    stringLengths.add((int) readVarLong(block));
+                }
+            }
+        }
+        // the string bytes follow all the lengths
+        for (int i = 0; i < stringRows.size(); i++) {
+            byte[] bytes = new byte[stringLengths.get(i)];
+            block.get(bytes);
+            values[stringRows.get(i)] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return values;
+    }
+
+    private static boolean isSet(byte[] bitmap, int index) {
+        return (bitmap[index >> 3] & (1 << (index & 7))) != 0;
+    }
+}
@@ -0,0 +1,195 @@
+package nology.employeecreator.employee;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import nology.employeecreator.employee.EmployeeColumnarFormat.ColumnType;
+
+/* Writes the columnar export (format in EmployeeColumnarFormat) from the export cursor's rows. Values are encoded
+   into one buffer per column as the rows arrive and written out every rowGroupSize rows, so memory is bounded by
+   the row group, not the table */
+
+class EmployeeColumnarWriter {
+
+    private final DataOutputStream out;
+    private final int rowGroupSize;
+    private final List<ColumnBuffer> columns;
+    private int rows;
+
+    EmployeeColumnarWriter(OutputStream output, List<EmployeeExportColumn> columns, int rowGroupSize) throws IOException {
+        this.out = new DataOutputStream(output);
+        this.rowGroupSize = rowGroupSize;
+        this.columns = columns.stream().map(ColumnBuffer::new).toList();
+
+        out.write(EmployeeColumnarFormat.MAGIC);
+        out.writeByte(EmployeeColumnarFormat.VERSION);
+        out.writeShort(columns.size());
+        for (EmployeeExportColumn column : columns) {
+            out.writeUTF(column.fieldName);
+            out.writeByte(column.type.ordinal());
+            if (column.type == ColumnType.DICTIONARY) {
+                out.writeShort(column.dictionary.size());
+                for (String value : column.dictionary) {
+                    out.writeUTF(value);
+                }
+            }
+        }
+    }
+
+    // Reads the current row; column i of the result set is columns.get(i)
+    void addRow(ResultSet row) throws SQLException, IOException {
+        for (int index = 0; index < columns.size(); index++) {
+            columns.get(index).add(row, index + 1, rows);
+        }
+        if (++rows == rowGroupSize) {
+            writeRowGroup();
+        }
+    }
+
+    // Writes the last row group and the end marker. Doesn't close the stream
+    void finish() throws IOException {
+        if (rows > 0) {
+            writeRowGroup();
+        }
+        out.writeInt(0);
+        out.flush();
+    }
+
+    private void writeRowGroup() throws IOException {
+        out.writeInt(rows);
+        for (ColumnBuffer column : columns) {
+            column.writeBlock(out, rows);
+        }
+        rows = 0;
+    }
+
+    /* ------------------------------ COLUMN BUFFERS ------------------------------ */
+    // The encoded values of one column in the current row group
+    private static final class ColumnBuffer {
+
+        final EmployeeExportColumn column;
+        final Map<String, Integer> codes = new HashMap<>();
+        final BitSet nulls = new BitSet();
+        final BitSet booleans = new BitSet();
+        // varint deltas, dictionary codes or string lengths
+        final ByteArrayOutputStream values = new ByteArrayOutputStream();
+        final ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        long previous;
+
+        ColumnBuffer(EmployeeExportColumn column) {
+            this.column = column;
+            if (column.dictionary != null) {
+                for (int code = 0; code < column.dictionary.size(); code++) {
+                    codes.put(column.dictionary.get(code), code);
+                }
+            }
+        }
+
+        void add(ResultSet row, int index, int rowIndex) throws SQLException, IOException {
+            switch (column.type) {
+                case INT64 -> {
+                    long value = row.getLong(index);
+                    if (row.wasNull()) {
+                        nulls.set(rowIndex);
+                    } else {
+                        addDelta(value);
+                    }
+                }
+                case INT32 -> {
+                    int value = row.getInt(index);
+                    if (row.wasNull()) {
+                        nulls.set(rowIndex);
+                    } else {
+                        addDelta(value);
+                    }
+                }
+                case DATE -> {
+                    LocalDate value = row.getObject(index, LocalDate.class);
+                    if (value == null) {
+                        nulls.set(rowIndex);
+                    } else {
+                        addDelta(value.toEpochDay());
+                    }
+                }
+                case TIMESTAMP -> {
+                    LocalDateTime value = row.getObject(index, LocalDateTime.class);
+                    if (value == null) {
+                        nulls.set(rowIndex);
+                    } else {
+                        addDelta(EmployeeColumnarFormat.toEpochMicros(value));
+                    }
+                }
+                case BOOLEAN -> {
+                    boolean value = row.getBoolean(index);
+                    if (row.wasNull()) {
+                        nulls.set(rowIndex);
+                    } else if (value) {
+                        booleans.set(rowIndex);
+                    }
+                }
+                case DICTIONARY -> {
+                    String value = row.getString(index);
+                    if (value == null) {
+                        nulls.set(rowIndex);
+                    } else {
+                        Integer code = codes.get(value);
+                        if (code == null) {
+                            throw new IllegalStateException("Unknown " + column.fieldName + " value in the database: " + value);
+                        }
+                        values.write(code);
+                    }
+                }
+                case STRING -> {
+                    String value = row.getString(index);
+                    if (value == null) {
+                        nulls.set(rowIndex);
+                    } else {
+                        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                        EmployeeColumnarFormat.writeVarLong(values, bytes.length);
+                        strings.write(bytes);
+                    }
+                }
+            }
+        }
+
+        // ids, dates and timestamps are mostly close to the previous row's, so the deltas fit in one or two bytes
+        private void addDelta(long value) throws IOException {
+            EmployeeColumnarFormat.writeVarLong(values, EmployeeColumnarFormat.zigZag(value - previous));
+            previous = value;
+        }
+
+        void writeBlock(DataOutputStream out, int rows) throws IOException {
+            byte[] nullBitmap = toBitmap(nulls, rows);
+            byte[] booleanBitmap = column.type == ColumnType.BOOLEAN ? toBitmap(booleans, rows) : new byte[0];
+            out.writeInt(nullBitmap.length + booleanBitmap.length + values.size() + strings.size());
+            out.write(nullBitmap);
+            out.write(booleanBitmap);
+            values.writeTo(out);
+            strings.writeTo(out);
+
+            nulls.clear();
+            booleans.clear();
+            values.reset();
+            strings.reset();
+            previous = 0;
+        }
+
+        private static byte[] toBitmap(BitSet bits, int rows) {
+            byte[] bitmap = new byte[(rows + 7) / 8];
+            byte[] set = bits.toByteArray();
+            System.arraycopy(set, 0, bitmap, 0, set.length);
+            return bitmap;
+        }
+    }
+}
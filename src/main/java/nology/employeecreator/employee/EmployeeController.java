@@ -1,24 +1,45 @@
 package nology.employeecreator.employee;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.data.domain.Page; 
+import org.springframework.data.domain.Slice;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import jakarta.validation.Valid;
+import nology.employeecreator.common.exceptions.NotFoundException;
+import nology.employeecreator.job.JobDTO;
 import org.springframework.web.bind.annotation.RequestParam;
 
 
@@ -27,17 +48,31 @@ import org.springframework.web.bind.annotation.RequestParam;
 @Validated
 public class EmployeeController {
 
+    private static final Logger log = LoggerFactory.getLogger(EmployeeController.class);
+
     private final EmployeeService employeeService; //delegates business logic to service layer
+    private final EmployeeBulkImportService bulkImportService; // batched inserts for POST /bulk
+    private final EmployeeBulkWriteService bulkWriteService; // chunked set-based writes for PATCH /bulk and POST /bulk/delete
+    private final EmployeeJobService jobService; // exports and imports run as background jobs
+    private final EmployeeExportService exportService; // CSV and columnar exports straight from a JDBC cursor
+    private final ObjectMapper objectMapper; // Spring's configured mapper, used for streamed responses
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeBulkImportService bulkImportService,
+            EmployeeBulkWriteService bulkWriteService, EmployeeJobService jobService, EmployeeExportService exportService,
+            ObjectMapper objectMapper) {
         this.employeeService = employeeService;
+        this.bulkImportService = bulkImportService;
+        this.bulkWriteService = bulkWriteService;
+        this.jobService = jobService;
+        this.exportService = exportService;
+        this.objectMapper = objectMapper;
     }
 
     /* ------------------------------- END POINTS ------------------------------- */
 
    /* ------------------------ SEARCH / FILTER ENDPOINT ------------------------ */
 @GetMapping("/search")
-public Page<EmployeeResponseDTO> searchEmployees(
+public Page<?> searchEmployees(
     @RequestParam(required=false) String firstName,
     @RequestParam(required=false) String lastName,
     @RequestParam(required=false) String contractType,
@@ -50,26 +85,108 @@ public Page<EmployeeResponseDTO> searchEmployees(
                     
     // NEW: Pagination parameters
     @RequestParam(required = false, defaultValue = "0") int page,      // Page number (0-based)
-    @RequestParam(required = false, defaultValue = "10") int size      // Items per page
-        
+    @RequestParam(required = false, defaultValue = "10") int size,     // Items per page
+
+    // Name matching: contains (default, scans) or prefix (uses the lowercase name indexes)
+    @RequestParam(required = false, defaultValue = "contains") String searchMode,
+
+    // Sparse fieldset: "summary" or e.g. "firstName,lastName,role" - only those columns are selected.
+    // Omit for the full EmployeeResponseDTO
+    @RequestParam(required = false) String fields,
+
+    WebRequest request
 ) {
-    
-    return employeeService.advancedSearchWithPagination(
-           firstName,          // Search term (works for both first and last name)
-            lastName,
-            contractType,       // Contract type filter
-            employmentBasis,    // Employment basis filter
-            ongoing,            // Ongoing status filter
-            page,               // Page number
-            size,               // Page size
-            sortBy,             // Sort field
-            sortDirection       // Sort direction
-    );
+    // the ETag is read in the same (possibly replica) transaction as the page it tags
+    return employeeService.withCollectionVersion(version -> {
+        // 304 without running the search when nothing changed since the client's copy
+        if (request.checkNotModified(EmployeeETags.collection(version))) {
+            return null;
+        }
+
+        if (fields != null && !fields.isBlank()) {
+            return employeeService.advancedSearchWithFields(
+                    fields, firstName, lastName, contractType, employmentBasis, ongoing, page, size, sortBy, sortDirection, searchMode);
+        }
+
+        return employeeService.advancedSearchWithPagination(
+               firstName,          // Search term (works for both first and last name)
+                lastName,
+                contractType,       // Contract type filter
+                employmentBasis,    // Employment basis filter
+                ongoing,            // Ongoing status filter
+                page,               // Page number
+                size,               // Page size
+                sortBy,             // Sort field
+                sortDirection,      // Sort direction
+                searchMode          // Name matching mode
+        );
+    });
+}
+
+   /* ------------------- SEARCH WITHOUT TOTAL COUNT (?pagination=slice) ------------------- */
+   // Offset paging that skips the COUNT query - the response has hasNext but no totalElements/totalPages
+@GetMapping(value = "/search", params = "pagination=slice")
+public Slice<EmployeeResponseDTO> searchEmployeesSlice(
+    @RequestParam(required=false) String firstName,
+    @RequestParam(required=false) String contractType,
+    @RequestParam(required=false) String employmentBasis,
+    @RequestParam(required=false) Boolean ongoing,
+    @RequestParam(required = false, defaultValue = "firstName") String sortBy,
+    @RequestParam(required = false, defaultValue = "asc") String sortDirection,
+    @RequestParam(required = false, defaultValue = "0") int page,
+    @RequestParam(required = false, defaultValue = "10") int size,
+    @RequestParam(required = false, defaultValue = "contains") String searchMode,
+    WebRequest request
+) {
+    return employeeService.withCollectionVersion(version -> {
+        // 304 without running the search when nothing changed since the client's copy
+        if (request.checkNotModified(EmployeeETags.collection(version))) {
+            return null;
+        }
+        return employeeService.advancedSearchSlice(
+                firstName, contractType, employmentBasis, ongoing, page, size, sortBy, sortDirection, searchMode);
+    });
+}
+
+   /* --------------------- KEYSET SEARCH (?pagination=keyset&cursor=) --------------------- */
+   // Cursor-based paging: pass the nextCursor of the previous response to get the next page.
+   // Cost per page is constant however deep the client scrolls
+@GetMapping(value = "/search", params = "pagination=keyset")
+public EmployeeCursorPageDTO searchEmployeesKeyset(
+    @RequestParam(required=false) String firstName,
+    @RequestParam(required=false) String contractType,
+    @RequestParam(required=false) String employmentBasis,
+    @RequestParam(required=false) Boolean ongoing,
+    @RequestParam(required = false, defaultValue = "firstName") String sortBy,
+    @RequestParam(required = false, defaultValue = "asc") String sortDirection,
+    @RequestParam(required = false) String cursor,                         // omit for the first page
+    @RequestParam(required = false, defaultValue = "10") int size,
+    @RequestParam(required = false, defaultValue = "contains") String searchMode,
+    WebRequest request
+) {
+    return employeeService.withCollectionVersion(version -> {
+        // 304 without running the search when nothing changed since the client's copy
+        if (request.checkNotModified(EmployeeETags.collection(version))) {
+            return null;
+        }
+        return employeeService.advancedSearchWithCursor(
+                firstName, contractType, employmentBasis, ongoing, cursor, size, sortBy, sortDirection, searchMode);
+    });
 }
   
 
 
 
+    /* ------------------------- GET /api/employees/suggest ------------------------ */
+    // Typeahead: top matches for a partial name or email, answered from memory
+    @GetMapping("/suggest")
+    public List<EmployeeSuggestionDTO> suggestEmployees(
+        @RequestParam String q,
+        @RequestParam(required = false, defaultValue = "10") int limit   // capped at 50
+    ) {
+        return employeeService.suggestEmployees(q, limit);
+    }
+
     /* --------------------------- POST /api/employees -------------------------- */
     @PostMapping
     public ResponseEntity<EmployeeResponseDTO> createEmployee(@Valid @RequestBody CreateEmployeeDTO data) {
@@ -82,37 +199,153 @@ public Page<EmployeeResponseDTO> searchEmployees(
         return ResponseEntity.created(location).body(saved);
     }
     
+    /* ------------------------- POST /api/employees/bulk ------------------------- */
+    // Imports many employees in one request. Body is a JSON array, NDJSON (one employee per line) or CSV
+    // with a header row of field names. Every row is validated; valid rows are inserted in JDBC batches.
+    // Returns a report with the outcome of each row
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv" })
+    public BulkImportResultDTO bulkImportEmployees(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+        InputStream body
+    ) throws IOException {
+        return bulkImportService.importEmployees(body, contentType);
+    }
+    
+    /* ------------------------ PATCH /api/employees/bulk ------------------------ */
+    // Applies one change set (contractType, finishDate, ongoing, ...) to many employees, chosen by "ids" or by a
+    // search "filter". Runs as chunked UPDATE ... WHERE id IN statements; returns how many employees changed
+    @PatchMapping("/bulk")
+    public BulkWriteResultDTO bulkUpdateEmployees(@Valid @RequestBody BulkUpdateEmployeesDTO data) {
+        return bulkWriteService.updateEmployees(data);
+    }
+
+    /* ---------------------- POST /api/employees/bulk/delete ---------------------- */
+    // Deletes the employees chosen by "ids" or "filter" (a POST, since a DELETE body is often dropped by proxies)
+    @PostMapping("/bulk/delete")
+    public BulkWriteResultDTO bulkDeleteEmployees(@RequestBody BulkEmployeeSelectionDTO data) {
+        return bulkWriteService.deleteEmployees(data);
+    }
+    
+    /* ----------------------- POST /api/employees/exports ----------------------- */
+    // Starts an export job (format ndjson, csv or columnar, like /all) and answers 202 with it; the file is
+    // downloaded from /api/jobs/{id}/artifact when done
+    @PostMapping("/exports")
+    public ResponseEntity<JobDTO> startExport(@RequestParam(defaultValue = "ndjson") String format) {
+        return accepted(jobService.startExport(format));
+    }
+
+    /* ----------------------- POST /api/employees/imports ----------------------- */
+    // Same bodies as POST /bulk, imported by a job; the row-by-row report becomes the job's artifact
+    @PostMapping(value = "/imports", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv" })
+    public ResponseEntity<JobDTO> startImport(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+        InputStream body
+    ) {
+        return accepted(jobService.startImport(body, contentType));
+    }
+
+    private static ResponseEntity<JobDTO> accepted(JobDTO job) {
+        return ResponseEntity.accepted().location(URI.create("/api/jobs/" + job.getId())).body(job);
+    }
+
        /* --------------------------- GET /api/employees (PAGINATED) --------------------- */
    // NEW: Main endpoint now supports pagination for browsing all employees
    // This allows users to navigate through employees 10 at a time
    @GetMapping
-    public Page<EmployeeResponseDTO> getAllEmployeesPaginated(
+    public Page<?> getAllEmployeesPaginated(
         @RequestParam(required = false, defaultValue = "0") int page,         // Page number (0-based)
         @RequestParam(required = false, defaultValue = "10") int size,        // Items per page  
         @RequestParam(required = false, defaultValue = "firstName") String sortBy,     // Field to sort by
-        @RequestParam(required = false, defaultValue = "asc") String sortDirection    // Sort direction
+        @RequestParam(required = false, defaultValue = "asc") String sortDirection,   // Sort direction
+        @RequestParam(required = false) String fields,                                // "summary" or a column list, see /search
+        WebRequest request
     ) {
-        System.out.println("GET /api/employees with pagination - Page: " + page + ", Size: " + size);
-        return employeeService.getAllEmployeesPaginated(page, size, sortBy, sortDirection);
+        // the ETag is read in the same (possibly replica) transaction as the page it tags
+        return employeeService.withCollectionVersion(version -> {
+            if (request.checkNotModified(EmployeeETags.collection(version))) {
+                return null; // 304, the client's page is still current
+            }
+            if (fields != null && !fields.isBlank()) {
+                // an unfiltered search, so the SELECT only reads the requested columns
+                return employeeService.advancedSearchWithFields(fields, null, null, null, null, null, page, size, sortBy, sortDirection, "contains");
+            }
+            log.debug("GET /api/employees with pagination - page: {}, size: {}", page, size);
+            return employeeService.getAllEmployeesPaginated(page, size, sortBy, sortDirection);
+        });
     }
 
     /* --------------------------- GET /api/employees/all (NON-PAGINATED) --------------------- */
     // Keep original endpoint for backward compatibility (dashboard stats, etc.)
     @GetMapping("/all")
-    public List<EmployeeResponseDTO> getAllEmployeesNonPaginated() {
-        System.out.println("GET /api/employees/all - returning all employees");
-        return employeeService.getAllEmployees();
+    public List<EmployeeResponseDTO> getAllEmployeesNonPaginated(WebRequest request) {
+        // the ETag is read in the same (possibly replica) transaction as the list it tags
+        return employeeService.withCollectionVersion(version -> {
+            if (request.checkNotModified(EmployeeETags.collection(version))) {
+                return null; // 304, the client's copy is still current
+            }
+            log.debug("GET /api/employees/all - returning all employees");
+            return employeeService.getAllEmployees();
+        });
+    }
+
+    /* ------------------- GET /api/employees/all?format=ndjson (STREAMED) ------------------- */
+    // Same data as /all but written as newline-delimited JSON, one employee per line, while the
+    // table is being read. Nothing is buffered, so memory and time-to-first-byte don't grow with table size
+    @GetMapping(value = "/all", params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        // let the output buffers fill up instead of flushing the socket after every row
+        ObjectWriter writer = objectMapper.writerFor(EmployeeResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                // the servlet container owns the output stream, so don't let Jackson close it
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                employeeService.streamAllEmployees(employee -> {
+                    try {
+                        writer.writeValue(generator, employee);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /* ------------------ GET /api/employees/all?format=csv|columnar (STREAMED) ------------------ */
+    // The same columns as /all for analytics, streamed while the table is read. Written from the JDBC rows
+    // directly, without EmployeeResponse objects. columnar is the compact binary format in EmployeeColumnarFormat
+    @GetMapping(value = "/all", params = "format=csv")
+    public ResponseEntity<StreamingResponseBody> streamAllEmployeesCsv() {
+        StreamingResponseBody body = outputStream -> exportService.writeCsv(outputStream, rows -> { });
+        return ResponseEntity.ok().contentType(ExportFormat.CSV.getMediaType()).body(body);
+    }
+
+    @GetMapping(value = "/all", params = "format=columnar")
+    public ResponseEntity<StreamingResponseBody> streamAllEmployeesColumnar() {
+        StreamingResponseBody body = outputStream -> exportService.writeColumnar(outputStream, rows -> { });
+        return ResponseEntity.ok().contentType(ExportFormat.COLUMNAR.getMediaType()).body(body);
     }
 
 
 
 
     /* --------------------------- GET /api/employees --------------------------- */
+    // Sends ETag/Last-Modified from updatedAt. A matching If-None-Match (or If-Modified-Since) gets a 304
+    // after a one-column lookup, without loading, mapping or serializing the employee
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeResponseDTO> getEmployee(@PathVariable Long id) {
+    public ResponseEntity<EmployeeResponseDTO> getEmployee(@PathVariable Long id, WebRequest request) {
         try{
-            EmployeeResponseDTO employee = this.employeeService.findById(id);
-            return ResponseEntity.ok(employee); // return 200 OK with employee data
+            // the ETag is read in the same (possibly replica) transaction as the employee it tags
+            return this.employeeService.withUpdatedAt(id, updatedAt -> {
+                if (updatedAt != null && request.checkNotModified(EmployeeETags.employee(id, updatedAt), toEpochMillis(updatedAt))) {
+                    return null; // 304 Not Modified, headers already set by checkNotModified
+                }
+                EmployeeResponseDTO employee = this.employeeService.findById(id);
+                return ResponseEntity.ok(employee); // return 200 OK with employee data
+            });
         }catch (RuntimeException e) {
             // If employee not found, service throws RuntimeException
             // We catch it and return 404 Not Found instead of letting it become 500
@@ -121,30 +354,58 @@ public Page<EmployeeResponseDTO> searchEmployees(
     }
     
     /* --------------------------- PUT /api/employees/{id} ----------------------- */
+    // Optimistic concurrency: send the ETag from GET as If-Match, or the version from the body. If the employee
+    // has changed since, the update is rejected with 409 Conflict - reload and try again
     @PutMapping("/{id}")
     public EmployeeResponseDTO updateEmployee(
         @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Valid @RequestBody UpdateEmployeeDTO data) {
 
-        return employeeService.update(id, data);
+        return employeeService.update(id, data, ifMatch);
 
     }
     
+    /* -------------------------- PATCH /api/employees/{id} ----------------------- */
+    // Partial update in a single UPDATE statement: only the fields in the body are written, nothing is read first.
+    // Same If-Match/version rules as PUT (409 when stale, 404 when missing); no body is returned - GET it if needed
+    @PatchMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void patchEmployee(
+        @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @Valid @RequestBody UpdateEmployeeDTO data) throws NotFoundException {
+
+        employeeService.patch(id, data, ifMatch);
+    }
+    
     /* --------------------------- DELETE /api/employees/{id} -------------------- */
     @DeleteMapping("/{id}")
-    @ResponseStatus(HttpStatus.NO_CONTENT) // 204 No Content
+    @ResponseStatus(HttpStatus.NO_CONTENT) // 204 No Content, or 404 if there was no such employee
     // No response body, just status code
-    public void deleteEmployee(@PathVariable Long id) {
+    public void deleteEmployee(@PathVariable Long id) throws NotFoundException {
         employeeService.delete(id);
 
     }
 
-//     /* ----------------------------- Dashboard stats ---------------------------- */
-//     @GetMapping("/dashboard-stats")
-//     public ResponseEntity<Map<String, Long>> getDashboardStats() {
-//     Map<String, Long> stats = employeeService.getDashboardStats();
-//     return ResponseEntity.ok(stats);
-// }
+    /* ------------------------------- Cache stats ------------------------------- */
+    // Hit/miss/eviction counters of the in-process caches
+    @GetMapping("/cache-stats")
+    public Map<String, CacheStatsDTO> getCacheStats() {
+        return employeeService.getCacheStats();
+    }
 
+    /* ----------------------------- Dashboard stats ---------------------------- */
+    // Aggregated counts for the dashboard - replaces downloading /all and counting in the browser
+    @GetMapping("/dashboard-stats")
+    public ResponseEntity<DashboardStatsDTO> getDashboardStats() {
+        DashboardStatsDTO stats = employeeService.getDashboardStats();
+        return ResponseEntity.ok(stats);
+    }
 
+    /* ------------------------------ ETAG HELPERS ------------------------------ */
+    // updatedAt is written with LocalDateTime.now(), i.e. in the server's time zone
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
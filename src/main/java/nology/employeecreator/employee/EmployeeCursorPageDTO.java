@@ -0,0 +1,62 @@
+package nology.employeecreator.employee;
+
+import java.util.List;
+
+
+/* response for keyset (cursor) paginated search. There is no totalElements/totalPages on purpose: the whole point is to
+   avoid the COUNT query, so clients just follow nextCursor until hasNext is false */
+
+public class EmployeeCursorPageDTO {
+
+        private List<EmployeeResponseDTO> content;
+        private int size;            // requested page size
+        private boolean hasNext;
+        private String nextCursor;   // null when there are no more results
+
+    /* --------------------------- CONSTRUCTORS --------------------------- */
+    public EmployeeCursorPageDTO() {
+        // Default constructor
+    }
+
+    public EmployeeCursorPageDTO(List<EmployeeResponseDTO> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+
+    /* --------------------------- getters and setters -------------------------- */
+
+    public List<EmployeeResponseDTO> getContent() {
+        return content;
+    }
+
+    public void setContent(List<EmployeeResponseDTO> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,73 @@
+package nology.employeecreator.employee;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import nology.employeecreator.config.ReplicaRoutingDataSource;
+
+/* Read-through cache in front of EmployeeService.findById (GET /api/employees/{id}), so opening the same
+   employee again doesn't go to MySQL. Caffeine evicts with W-TinyLFU once employee.cache.detail.max-size
+   is reached, and entries expire employee.cache.detail.ttl after they were written.
+
+   EmployeeService keeps it exact: create puts the new employee, update replaces the entry and delete removes it.
+   Cached DTOs are shared between requests, so callers must not modify them */
+
+@Component
+public class EmployeeDetailCache {
+
+    // async only so loads run outside the map's lock (see CacheLoads) - everything here completes on the caller's thread
+    private final AsyncCache<Long, EmployeeResponseDTO> cache;
+
+    public EmployeeDetailCache(@Value("${employee.cache.detail.max-size:10000}") long maxSize,
+            @Value("${employee.cache.detail.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    // Returns the cached employee, or loads it with loader and caches it. Concurrent misses for the same id
+    // wait for a single load. Nothing is cached when the loader throws (e.g. employee not found)
+    public EmployeeResponseDTO get(Long id, Function<Long, EmployeeResponseDTO> loader) {
+        if (ReplicaRoutingDataSource.isPinnedToPrimary()) {
+            // a client reading its own write: another client's miss may have cached the row from a lagging replica
+            return loader.apply(id);
+        }
+        return CacheLoads.getOrLoad(cache, id, loader);
+    }
+
+    // Cached copy or null - never loads or waits for a load, and not counted as a hit or miss
+    public EmployeeResponseDTO peek(Long id) {
+        if (ReplicaRoutingDataSource.isPinnedToPrimary()) {
+            // see get
+            return null;
+        }
+        CompletableFuture<EmployeeResponseDTO> future = cache.asMap().get(id);
+        return future != null && future.state() == Future.State.SUCCESS ? future.resultNow() : null;
+    }
+
+    public void put(EmployeeResponseDTO employee) {
+        cache.put(employee.getId(), CompletableFuture.completedFuture(employee));
+    }
+
+    public void invalidate(Long id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public CacheStatsDTO stats() {
+        return CacheStatsDTO.from(cache.synchronous().stats(), cache.synchronous().estimatedSize());
+    }
+}
@@ -0,0 +1,76 @@
+package nology.employeecreator.employee;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+// ETags of the employee endpoints. The controller sends them, EmployeeService.update/patch check If-Match against them
+final class EmployeeETags {
+
+    private EmployeeETags() {
+    }
+
+    // Strong ETag of one employee: changes whenever updatedAt does (microsecond precision, like the column)
+    static String employee(Long id, LocalDateTime updatedAt) {
+        return "\"" + id + "-" + Long.toHexString(toMicros(updatedAt)) + "\"";
+    }
+
+    // Weak ETag shared by every list/search response: table row count + latest updatedAt.
+    // Weak because a response can also change without a write (the active filter depends on today's date).
+    // No Last-Modified goes with it - a delete doesn't move MAX(updatedAt), so only the ETag is reliable
+    static String collection(EmployeeCollectionVersion version) {
+        LocalDateTime lastUpdated = version.getLastUpdated();
+        long micros = lastUpdated == null ? 0 : toMicros(lastUpdated);
+        return "W/\"" + version.getCount() + "-" + Long.toHexString(micros) + "\"";
+    }
+
+    // If-Match: "*" or a comma-separated list of strong ETags, one of which has to be the current one
+    static boolean matches(String ifMatch, String currentETag) {
+        for (String candidate : ifMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(currentETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-Match: * - any current version will do
+    static boolean matchesAny(String ifMatch) {
+        for (String candidate : ifMatch.split(",")) {
+            if (candidate.trim().equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The updatedAt values encoded in the If-Match ETags of this employee, so PATCH can put them into its WHERE
+    // clause instead of reading the row first. ETags of other employees and malformed ones are skipped
+    static List<LocalDateTime> updatedAtsOf(String ifMatch, Long id) {
+        List<LocalDateTime> updatedAts = new ArrayList<>();
+        String prefix = "\"" + id + "-";
+        for (String candidate : ifMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (!trimmed.startsWith(prefix) || !trimmed.endsWith("\"") || trimmed.length() <= prefix.length() + 1) {
+                continue;
+            }
+            try {
+                updatedAts.add(fromMicros(Long.parseUnsignedLong(trimmed.substring(prefix.length(), trimmed.length() - 1), 16)));
+            } catch (NumberFormatException e) {
+                // not one of ours, can't match
+            }
+        }
+        return updatedAts;
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,56 @@
+package nology.employeecreator.employee;
+
+import java.util.Arrays;
+import java.util.List;
+
+import nology.employeecreator.employee.EmployeeColumnarFormat.ColumnType;
+
+/* The columns of the CSV and columnar exports, in EmployeeResponse order and with its field names, so every export
+   format has the same shape as /all. They are read straight off the JDBC cursor by index (see EmployeeExportService).
+   Must list the same columns as EmployeeResponse - update this when a field is added there */
+
+enum EmployeeExportColumn {
+
+    ID("id", "id", ColumnType.INT64),
+    FIRST_NAME("firstName", "first_name", ColumnType.STRING),
+    MIDDLE_NAME("middleName", "middle_name", ColumnType.STRING),
+    LAST_NAME("lastName", "last_name", ColumnType.STRING),
+    EMAIL("email", "email", ColumnType.STRING),
+    MOBILE_NUMBER("mobileNumber", "mobile_number", ColumnType.STRING),
+    RESIDENTIAL_ADDRESS("residentialAddress", "residential_address", ColumnType.STRING),
+    CONTRACT_TYPE("contractType", "contract_type", ContractType.class),
+    START_DATE("startDate", "start_date", ColumnType.DATE),
+    FINISH_DATE("finishDate", "finish_date", ColumnType.DATE),
+    ONGOING("ongoing", "ongoing", ColumnType.BOOLEAN),
+    EMPLOYMENT_BASIS("employmentBasis", "employment_basis", EmploymentBasis.class),
+    HOURS_PER_WEEK("hoursPerWeek", "hours_per_week", ColumnType.INT32),
+    THUMBNAIL_URL("thumbnailUrl", "thumbnail_url", ColumnType.STRING),
+    CREATED_AT("createdAt", "created_at", ColumnType.TIMESTAMP),
+    UPDATED_AT("updatedAt", "updated_at", ColumnType.TIMESTAMP),
+    VERSION("version", "version", ColumnType.INT64),
+    ROLE("role", "role", EmployeeRole.class);
+
+    static final String SELECT_SQL = "SELECT "
+            + String.join(", ", Arrays.stream(values()).map(column -> column.sqlName).toList())
+            + " FROM employees ORDER BY id";
+
+    final String fieldName;
+    final String sqlName;
+    final ColumnType type;
+    // the enum's names, in ordinal order - the dictionary of a DICTIONARY column
+    final List<String> dictionary;
+
+    EmployeeExportColumn(String fieldName, String sqlName, ColumnType type) {
+        this.fieldName = fieldName;
+        this.sqlName = sqlName;
+        this.type = type;
+        this.dictionary = null;
+    }
+
+    EmployeeExportColumn(String fieldName, String sqlName, Class<? extends Enum<?>> enumType) {
+        this.fieldName = fieldName;
+        this.sqlName = sqlName;
+        this.type = ColumnType.DICTIONARY;
+        this.dictionary = Arrays.stream(enumType.getEnumConstants()).map(Enum::name).toList();
+    }
+}
@@ -0,0 +1,179 @@
+package nology.employeecreator.employee;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+/* CSV and columnar exports of the whole employee table (/all?format=csv|columnar and export jobs).
+
+   Unlike the JSON exports, no Employee entity or EmployeeResponse is built: the rows come from a plain JDBC cursor
+   (employee.export.fetch-size rows per round trip, MySQL needs useCursorFetch=true for that) and every column is
+   written from the ResultSet straight to the output. Runs in a read-only transaction, so it goes to a read
+   replica when there are any */
+
+@Service
+public class EmployeeExportService {
+
+    private static final List<EmployeeExportColumn> COLUMNS = List.of(EmployeeExportColumn.values());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final EmployeeMetrics metrics;
+    private final CsvSchema csvSchema;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final int fetchSize;
+    private final int rowGroupSize;
+
+    public EmployeeExportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            EmployeeMetrics metrics, @Value("${employee.export.fetch-size:1000}") int fetchSize,
+            @Value("${employee.export.row-group-size:65536}") int rowGroupSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        this.metrics = metrics;
+        this.fetchSize = fetchSize;
+        this.rowGroupSize = rowGroupSize;
+
+        // nulls are written as empty cells
+        CsvSchema.Builder schema = CsvSchema.builder().setUseHeader(true).setNullValue("");
+        COLUMNS.forEach(column -> schema.addColumn(column.fieldName));
+        this.csvSchema = schema.build();
+    }
+
+    /* ----------------------------------- CSV ----------------------------------- */
+    // onRow gets the number of rows written so far after every row (progress, cancellation). Returns the row count
+    public long writeCsv(OutputStream output, LongConsumer onRow) {
+        return metrics.timeService("exportCsv", () -> {
+            try (CsvGenerator generator = csvMapper.getFactory().createGenerator(output)) {
+                // the caller owns the stream
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // quote only the cells that need it (separator, quote, line break), not e.g. every timestamp
+                generator.enable(CsvGenerator.Feature.STRICT_CHECK_FOR_QUOTING);
+                generator.setSchema(csvSchema);
+                // each row is written as an object, so every cell goes to the schema column of its name (in array
+                // mode a null doesn't take up a position and the following cells shift left)
+                return forEachRow(row -> {
+                    generator.writeStartObject();
+                    for (int index = 1; index <= COLUMNS.size(); index++) {
+                        EmployeeExportColumn column = COLUMNS.get(index - 1);
+                        generator.writeFieldName(column.fieldName);
+                        writeCsvValue(generator, row, index, column);
+                    }
+                    generator.writeEndObject();
+                }, onRow);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static void writeCsvValue(CsvGenerator generator, ResultSet row, int index, EmployeeExportColumn column)
+            throws SQLException, IOException {
+        switch (column.type) {
+            case INT64 -> {
+                long value = row.getLong(index);
+                if (row.wasNull()) {
+                    generator.writeNull();
+                } else {
+                    generator.writeNumber(value);
+                }
+            }
+            case INT32 -> {
+                int value = row.getInt(index);
+                if (row.wasNull()) {
+                    generator.writeNull();
+                } else {
+                    generator.writeNumber(value);
+                }
+            }
+            case BOOLEAN -> {
+                boolean value = row.getBoolean(index);
+                if (row.wasNull()) {
+                    generator.writeNull();
+                } else {
+                    generator.writeBoolean(value);
+                }
+            }
+            // ISO-8601, the same text as the JSON exports (LocalDateTime.toString() would drop zero seconds)
+            case DATE -> writeText(generator, row.getObject(index, LocalDate.class));
+            case TIMESTAMP -> {
+                LocalDateTime value = row.getObject(index, LocalDateTime.class);
+                writeText(generator, value == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            }
+            case STRING, DICTIONARY -> writeText(generator, row.getString(index));
+        }
+    }
+
+    private static void writeText(CsvGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    /* --------------------------------- COLUMNAR --------------------------------- */
+    // See EmployeeColumnarFormat. Returns the row count
+    public long writeColumnar(OutputStream output, LongConsumer onRow) {
+        return metrics.timeService("exportColumnar", () -> {
+            try {
+                EmployeeColumnarWriter writer = new EmployeeColumnarWriter(output, COLUMNS, rowGroupSize);
+                long rows = forEachRow(writer::addRow, onRow);
+                writer.finish();
+                return rows;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /* ---------------------------------- CURSOR ---------------------------------- */
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet row) throws SQLException, IOException;
+    }
+
+    // Runs the export query and hands every row to the writer while the cursor is on it
+    private long forEachRow(RowWriter writer, LongConsumer onRow) throws IOException {
+        long[] rows = { 0 };
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(EmployeeExportColumn.SELECT_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                onRow.accept(++rows[0]);
+            }));
+        } catch (UncheckedIOException e) {
+            // e.g. the client went away - stop reading and let the caller decide
+            throw e.getCause();
+        }
+        return rows[0];
+    }
+}
@@ -0,0 +1,20 @@
+package nology.employeecreator.employee;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/* Custom fragment of EmployeeRepository for ?fields=a,b,c - the column list is only known at runtime,
+   which a fixed @Query or projection interface can't express. Filtered with EmployeeSpecifications like the other searches */
+
+public interface EmployeeFieldsRepository {
+
+    // One map per row with exactly the given entity attributes, in that order. fields must already be validated
+    Page<Map<String, Object>> findFieldsBy(List<String> fields, Specification<Employee> specification, Pageable pageable);
+
+    // ?fields=summary: only the six columns of EmployeeSummaryDTO, filled by a constructor expression
+    Page<EmployeeSummaryDTO> findSummariesBy(Specification<Employee> specification, Pageable pageable);
+}
@@ -0,0 +1,64 @@
+package nology.employeecreator.employee;
+
+/* Filter of a bulk update/delete - the filters of GET /api/employees/search.
+   Unlike the search, an unknown contractType or employmentBasis is a 400 rather than "no filter" */
+
+public class EmployeeFilterDTO {
+
+    private String firstName;       // matches first or last name, like the search
+    private String lastName;
+    private String searchMode;      // contains (default) or prefix
+    private ContractType contractType;
+    private EmploymentBasis employmentBasis;
+    private Boolean ongoing;        // true = active, false = ended
+
+    /* --------------------------- getters and setters -------------------------- */
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getSearchMode() {
+        return searchMode;
+    }
+
+    public void setSearchMode(String searchMode) {
+        this.searchMode = searchMode;
+    }
+
+    public ContractType getContractType() {
+        return contractType;
+    }
+
+    public void setContractType(ContractType contractType) {
+        this.contractType = contractType;
+    }
+
+    public EmploymentBasis getEmploymentBasis() {
+        return employmentBasis;
+    }
+
+    public void setEmploymentBasis(EmploymentBasis employmentBasis) {
+        this.employmentBasis = employmentBasis;
+    }
+
+    public Boolean getOngoing() {
+        return ongoing;
+    }
+
+    public void setOngoing(Boolean ongoing) {
+        this.ongoing = ongoing;
+    }
+}
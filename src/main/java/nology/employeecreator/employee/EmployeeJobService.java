@@ -0,0 +1,97 @@
+package nology.employeecreator.employee;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import nology.employeecreator.job.JobDTO;
+import nology.employeecreator.job.JobService;
+import nology.employeecreator.job.JobType;
+
+/* Employee exports and imports run as jobs (POST /api/employees/exports and /imports). The work is the same as
+   GET /all?format=... and POST /bulk, only on a job worker instead of the request thread, so the request
+   returns 202 right away and the proxy timeout no longer limits the table or upload size */
+
+@Service
+public class EmployeeJobService {
+
+    private final JobService jobService;
+    private final EmployeeService employeeService;
+    private final EmployeeBulkImportService bulkImportService;
+    private final EmployeeExportService exportService;
+    private final EmployeeRepository employeeRepository;
+    private final ObjectMapper objectMapper;
+
+    public EmployeeJobService(JobService jobService, EmployeeService employeeService,
+            EmployeeBulkImportService bulkImportService, EmployeeExportService exportService,
+            EmployeeRepository employeeRepository, ObjectMapper objectMapper) {
+        this.jobService = jobService;
+        this.employeeService = employeeService;
+        this.bulkImportService = bulkImportService;
+        this.exportService = exportService;
+        this.employeeRepository = employeeRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /* --------------------------------- EXPORT --------------------------------- */
+    // The whole table as an artifact; progress is counted in employees
+    public JobDTO startExport(String format) {
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        return jobService.submit(JobType.EMPLOYEE_EXPORT, exportFormat.getFileName(), exportFormat.getMediaType().toString(), null,
+                context -> {
+                    // an estimate, rows added during the export are still written
+                    context.setTotal(employeeRepository.count());
+                    LongConsumer onRow = rows -> {
+                        context.checkCancelled();
+                        context.setProgress(rows);
+                    };
+                    long exported = switch (exportFormat) {
+                        case CSV -> exportService.writeCsv(context.artifact(), onRow);
+                        case COLUMNAR -> exportService.writeColumnar(context.artifact(), onRow);
+                        case NDJSON -> writeNdjson(context.artifact(), onRow);
+                    };
+                    context.setMessage(exported + " employees exported");
+                });
+    }
+
+    private long writeNdjson(OutputStream output, LongConsumer onRow) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(EmployeeResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        AtomicLong written = new AtomicLong();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            employeeService.streamAllEmployees(employee -> {
+                try {
+                    writer.writeValue(generator, employee);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                onRow.accept(written.incrementAndGet());
+            });
+        }
+        return written.get();
+    }
+
+    /* --------------------------------- IMPORT --------------------------------- */
+    // The body is saved with the job and imported by POST /bulk's code; the artifact is its row-by-row report.
+    // Progress is counted in bytes of the upload, the number of rows isn't known before it has been read
+    public JobDTO startImport(InputStream body, MediaType contentType) {
+        return jobService.submit(JobType.EMPLOYEE_IMPORT, "import-report.json", MediaType.APPLICATION_JSON_VALUE, body,
+                context -> {
+                    BulkImportResultDTO result = bulkImportService.importEmployees(context.input(), contentType);
+                    objectMapper.writeValue(context.artifact(), result);
+                    context.setMessage(result.getCreated() + " created, " + result.getFailed() + " failed");
+                });
+    }
+}
@@ -0,0 +1,63 @@
+package nology.employeecreator.employee;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/* Entity <-> DTO mapping, generated by MapStruct at compile time (EmployeeMapperImpl): plain getter/setter calls,
+   no reflection. Unmapped properties on either side fail the build, so a field added to Employee or to a DTO
+   can't be silently dropped - map it here or list it as ignored */
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.ERROR,
+        unmappedSourcePolicy = ReportingPolicy.ERROR)
+public interface EmployeeMapper {
+
+    /* -------------------------------- RESPONSES -------------------------------- */
+    // the lowercase name columns and the stored status only exist for indexed search
+
+    @BeanMapping(ignoreUnmappedSourceProperties = { "firstNameLower", "lastNameLower", "employmentStatus" })
+    EmployeeResponseDTO toResponseDTO(Employee employee);
+
+    @BeanMapping(ignoreUnmappedSourceProperties = { "firstNameLower", "lastNameLower", "employmentStatus" })
+    EmployeeResponse toResponse(Employee employee);
+
+    /* --------------------------------- REQUESTS -------------------------------- */
+    // Text typed into the form is trimmed; timestamps are set by the entity itself
+
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "firstName", qualifiedByName = "trim")
+    @Mapping(target = "middleName", qualifiedByName = "trim")
+    @Mapping(target = "lastName", qualifiedByName = "trim")
+    @Mapping(target = "email", qualifiedByName = "trim")
+    @Mapping(target = "mobileNumber", qualifiedByName = "trim")
+    @Mapping(target = "residentialAddress", qualifiedByName = "trim")
+    Employee toNewEmployee(CreateEmployeeDTO data);
+
+    // Copies only the properties that were sent (null = leave unchanged). ongoing/finishDate depend on each
+    // other and are applied by EmployeeService.update, which also checks version
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
+            ignoreUnmappedSourceProperties = { "ongoing", "finishDate", "version" })
+    @Mapping(target = "ongoing", ignore = true)
+    @Mapping(target = "finishDate", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "firstName", qualifiedByName = "trim")
+    @Mapping(target = "middleName", qualifiedByName = "trim")
+    @Mapping(target = "lastName", qualifiedByName = "trim")
+    @Mapping(target = "email", qualifiedByName = "trim")
+    @Mapping(target = "mobileNumber", qualifiedByName = "trim")
+    @Mapping(target = "residentialAddress", qualifiedByName = "trim")
+    void updateEmployee(UpdateEmployeeDTO data, @MappingTarget Employee employee);
+
+    @Named("trim")
+    default String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+}
@@ -0,0 +1,81 @@
+package nology.employeecreator.employee;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/* Micrometer meters for the hot paths of EmployeeService, scraped from /actuator/prometheus.
+
+   employee.service     whole service call, tagged by method (search, searchFields, searchSlice, searchKeyset, list,
+                        create, update, delete, ...) and exception
+   employee.query       the search's page query and its COUNT query, timed separately (query=select|count), and the
+                        page query of the other search variants (selectFields|selectSummaries|selectSlice|selectKeyset)
+   employee.mapping     entity -> DTO mapping of a result page
+   employee.results     rows returned per search / list page
+
+   Every meter publishes a percentile histogram, so p95/p99 can be aggregated across instances in Prometheus
+   (histogram_quantile over the _bucket series). Searches served from EmployeeSearchCache only show up in
+   employee.service - the query and mapping meters count the ones that reached the database.
+   Hikari pool metrics (hikaricp_connections_*) are registered by Spring Boot itself */
+
+@Component
+public class EmployeeMetrics {
+
+    private final MeterRegistry registry;
+
+    public EmployeeMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public <T> T timeService(String method, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(timer("employee.service", "Time spent in EmployeeService methods", "method", method, "exception", exception));
+        }
+    }
+
+    public void timeService(String method, Runnable call) {
+        timeService(method, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public <T> T timeQuery(String query, Supplier<T> call) {
+        return timer("employee.query", "Time spent in the search queries", "query", query).record(call);
+    }
+
+    public <T> T timeMapping(String method, Supplier<T> call) {
+        return timer("employee.mapping", "Time spent mapping entities to DTOs", "method", method).record(call);
+    }
+
+    public void recordResultSize(String method, int rows) {
+        DistributionSummary.builder("employee.results")
+                .description("Rows returned per result page")
+                .baseUnit("rows")
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1000.0)
+                .register(registry)
+                .record(rows);
+    }
+
+    // register() returns the existing timer after the first call
+    private Timer timer(String name, String description, String... tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -1,43 +1,118 @@
 package nology.employeecreator.employee;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee>, EmployeeFieldsRepository,
+        EmployeeUpdateRepository {
     
-    // Custom query method that handles filtering AND pagination/sorting at the database level
-     @Query("SELECT e FROM Employee e WHERE " +
-           // If firstName is null, skip this clause; otherwise match first or last name
-             "(:firstName IS NULL OR LOWER(e.firstName) LIKE LOWER(CONCAT('%', :firstName, '%')) OR LOWER(e.lastName) LIKE LOWER(CONCAT('%', :firstName, '%'))) AND "
-             +
-            // If contractType is null, skip; otherwise match exact
-             "(:contractType IS NULL OR e.contractType = :contractType) AND "
-             +
-            // If employmentBasis is null, skip; otherwise match exact
-             "(:employmentBasis IS NULL OR e.employmentBasis = :employmentBasis) AND "
-             +
-            // If isActive is null, skip; otherwise evaluate active vs inactive
-             "(:isActive IS NULL OR "
-             +
-             // Active: finishDate is null (ongoing) OR finishDate >= today
-             "(:isActive = true AND (e.finishDate IS NULL OR e.finishDate >= CURRENT_DATE)) OR "
-             +
-           // Inactive employees: finish date < today
-            "(:isActive = false AND (e.finishDate IS NOT NULL AND e.finishDate < CURRENT_DATE)))")
-
-
-    Page<Employee> findWithFilters(
-            @Param("firstName") String firstName,
-            @Param("firstName") String lastName,
-            @Param("contractType") ContractType contractType,
-            @Param("employmentBasis") EmploymentBasis employmentBasis,
-            @Param("isActive") Boolean isActive,
-            Pageable pageable                           // This handles sorting + pagination automatically
-    );
+    // JPQL enum literals have to be fully qualified
+    String STATUS = "nology.employeecreator.employee.EmploymentStatus";
+
+    // Version of a single employee for conditional GETs - reads one column instead of the whole row
+    @Query("SELECT e.updatedAt FROM Employee e WHERE e.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    // Version of the whole table for conditional GETs on the list/search endpoints
+    @Query("SELECT COUNT(e) AS count, MAX(e.updatedAt) AS lastUpdated FROM Employee e")
+    EmployeeCollectionVersion findCollectionVersion();
+
+    // Which of these emails are already taken - used by the bulk import before inserting a batch
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Which of these ids still exist - used by the bulk delete when fewer rows were deleted than selected
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Fills the lowercase name columns for rows written before they existed
+    @Modifying
+    @Transactional
+    @Query("UPDATE Employee e SET e.firstNameLower = LOWER(TRIM(e.firstName)), e.lastNameLower = LOWER(TRIM(e.lastName)) " +
+           "WHERE e.firstNameLower IS NULL OR e.lastNameLower IS NULL")
+    int backfillNormalizedNames();
+
+    // DELETE /api/employees/{id} in one statement - the row count tells whether there was anything to delete
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Employee e WHERE e.id = :id")
+    int deleteEmployeeById(@Param("id") Long id);
+
+    // Daily status refresh (EmploymentStatusRefresher). updatedAt is bumped so the list ETags change with the results
+    @Modifying
+    @Transactional
+    @Query("UPDATE Employee e SET e.employmentStatus = " + STATUS + ".ENDED, e.updatedAt = :now " +
+           "WHERE e.employmentStatus IN (" + STATUS + ".ACTIVE, " + STATUS + ".FUTURE) AND e.finishDate < :today")
+    int markEnded(@Param("today") LocalDate today, @Param("now") LocalDateTime now);
+
+    // Run after markEnded, so a FUTURE row whose finish date has passed as well is already ENDED
+    @Modifying
+    @Transactional
+    @Query("UPDATE Employee e SET e.employmentStatus = " + STATUS + ".ACTIVE, e.updatedAt = :now " +
+           "WHERE e.employmentStatus = " + STATUS + ".FUTURE AND e.startDate <= :today")
+    int markStarted(@Param("today") LocalDate today, @Param("now") LocalDateTime now);
+
+    /* ------------------------------ STREAMING READ ------------------------------ */
+    // Reads the table through a JDBC cursor instead of materialising a List, so exports use flat memory.
+    // Must be consumed inside a (read-only) transaction and closed afterwards.
+    // Note: MySQL only honours the fetch size when the URL has useCursorFetch=true
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e ORDER BY e.id")
+    Stream<Employee> streamAllBy();
+
+    // Only the columns the typeahead index needs ([id, firstName, middleName, lastName, email, thumbnailUrl]),
+    // so loading it doesn't build an entity per row
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.id, e.firstName, e.middleName, e.lastName, e.email, e.thumbnailUrl FROM Employee e ORDER BY e.id")
+    Stream<Object[]> streamSuggestionFields();
+
+    /* ---------------------------- DASHBOARD AGGREGATES ---------------------------- */
+    // Each query returns one row per group ([groupValue, count]) so the result size
+    // is bounded by the number of enum values / months, not by the number of employees
+
+    @Query("SELECT e.contractType, COUNT(e) FROM Employee e GROUP BY e.contractType")
+    List<Object[]> countByContractType();
+
+    @Query("SELECT e.employmentBasis, COUNT(e) FROM Employee e GROUP BY e.employmentBasis")
+    List<Object[]> countByEmploymentBasis();
+
+    @Query("SELECT e.role, COUNT(e) FROM Employee e GROUP BY e.role")
+    List<Object[]> countByRole();
+
+    // Same active rule as EmployeeSpecifications.withFilters: ACTIVE or FUTURE
+    @Query("SELECT e.employmentBasis, COUNT(e) FROM Employee e " +
+           "WHERE e.employmentStatus IN (" + STATUS + ".ACTIVE, " + STATUS + ".FUTURE) " +
+           "GROUP BY e.employmentBasis")
+    List<Object[]> countActiveByEmploymentBasis();
+
+    // [year, month, count] ordered oldest first
+    @Query("SELECT YEAR(e.startDate), MONTH(e.startDate), COUNT(e) FROM Employee e " +
+           "WHERE e.startDate IS NOT NULL " +
+           "GROUP BY YEAR(e.startDate), MONTH(e.startDate) " +
+           "ORDER BY YEAR(e.startDate), MONTH(e.startDate)")
+    List<Object[]> countByStartMonth();
+
+    @Query("SELECT AVG(e.hoursPerWeek) FROM Employee e")
+    Double averageHoursPerWeek();
     
 }
@@ -0,0 +1,29 @@
+package nology.employeecreator.employee;
+
+import java.time.LocalDateTime;
+import java.time.LocalDate;
+
+
+/* immutable version of EmployeeResponseDTO with the same JSON shape. Built in one constructor call by EmployeeMapper,
+   and safe to share between threads - used by the streamed export (/all?format=ndjson) */
+
+public record EmployeeResponse(
+        Long id,
+        String firstName,
+        String middleName,
+        String lastName,
+        String email,
+        String mobileNumber,
+        String residentialAddress,
+        ContractType contractType,
+        LocalDate startDate,
+        LocalDate finishDate,
+        boolean ongoing,
+        EmploymentBasis employmentBasis,
+        Integer hoursPerWeek,
+        String thumbnailUrl,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version,
+        EmployeeRole role) {
+}
@@ -25,6 +25,7 @@ public class EmployeeResponseDTO {
         private String thumbnailUrl;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
+        private Long version; // send back in UpdateEmployeeDTO.version to detect concurrent edits
         private EmployeeRole role;
 
     /* --------------------------- CONSTRUCTORS --------------------------- */
@@ -108,6 +109,10 @@ public class EmployeeResponseDTO {
         return updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     /* --------------------------------- SETTERS -------------------------------- */
     public void setId(Long id) {
         this.id = id;
@@ -170,4 +175,8 @@ public class EmployeeResponseDTO {
      public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,70 @@
+package nology.employeecreator.employee;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import nology.employeecreator.config.ReplicaRoutingDataSource;
+
+/* Caches whole result pages of advancedSearchWithPagination (query + COUNT), keyed on the normalized filters,
+   sort and page, so tabbing back to a page already seen doesn't hit MySQL again.
+
+   Every key carries the current generation. Each write (EmployeeService create/update/delete, bulk import)
+   calls invalidate() after it has committed, which bumps the generation, so pages cached before the write
+   can never be served again - even one whose query was still running while the write happened.
+   The date is part of the key too, because who is active changes with the date (EmploymentStatusRefresher) */
+
+@Component
+public class EmployeeSearchCache {
+
+    // Everything that decides the result of one search, after EmployeeService has normalized it
+    public record Criteria(String firstName, String lastName, String namePrefix, ContractType contractType,
+            EmploymentBasis employmentBasis, Boolean isActive, int page, int size, Sort sort) {
+    }
+
+    private record Key(long generation, LocalDate date, Criteria criteria) {
+    }
+
+    private final AtomicLong generation = new AtomicLong();
+    // async only so searches run outside the map's lock (see CacheLoads)
+    private final AsyncCache<Key, Page<EmployeeResponseDTO>> cache;
+
+    public EmployeeSearchCache(@Value("${employee.cache.search.max-size:1000}") long maxSize,
+            @Value("${employee.cache.search.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    // Returns the cached page, or runs the search and caches its result. Cached pages are shared, callers must not modify them
+    public Page<EmployeeResponseDTO> get(Criteria criteria, Supplier<Page<EmployeeResponseDTO>> search) {
+        if (ReplicaRoutingDataSource.isPinnedToPrimary()) {
+            // a client reading its own write: a page cached from a lagging replica could still miss it
+            return search.get();
+        }
+        Key key = new Key(generation.get(), LocalDate.now(), criteria);
+        return CacheLoads.getOrLoad(cache, key, ignored -> search.get());
+    }
+
+    // Call after every committed write to the employees table
+    public void invalidate() {
+        generation.incrementAndGet();
+        // entries of older generations are unreachable now, free them straight away instead of waiting for the TTL
+        cache.synchronous().invalidateAll();
+    }
+
+    public CacheStatsDTO stats() {
+        return CacheStatsDTO.from(cache.synchronous().stats(), cache.synchronous().estimatedSize());
+    }
+}
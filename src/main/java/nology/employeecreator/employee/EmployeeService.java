@@ -1,30 +1,91 @@
 package nology.employeecreator.employee;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import nology.employeecreator.common.exceptions.BadRequestException;
+import nology.employeecreator.common.exceptions.ConflictException;
+import nology.employeecreator.common.exceptions.NotFoundException;
 
 
 
 @Service
 public class EmployeeService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeService.class);
     
     // inject the EmployeeRepository to interact with the database
      // Repository for CRUD operations on Employee entities
     private EmployeeRepository employeeRepository;
 
+    // Used to detach streamed entities so the persistence context doesn't grow during exports
+    private EntityManager entityManager;
+
+    // In-memory typeahead index, kept in sync by create/update/patch/delete below
+    private EmployeeSuggestionIndex suggestionIndex;
+
+    // Read-through cache for findById, also kept in sync by create/update/patch/delete below
+    private EmployeeDetailCache detailCache;
+
+    // Result pages of advancedSearchWithPagination, invalidated by every write below
+    private EmployeeSearchCache searchCache;
+
+    // Generated entity <-> DTO mapping
+    private EmployeeMapper employeeMapper;
+
+    // Timers and histograms for the methods below (see /actuator/prometheus)
+    private EmployeeMetrics metrics;
+
     // Constructor injection for EmployeeRepository
-    public EmployeeService(EmployeeRepository employeeRepository) {
+    public EmployeeService(EmployeeRepository employeeRepository, EntityManager entityManager,
+            EmployeeSuggestionIndex suggestionIndex, EmployeeDetailCache detailCache, EmployeeSearchCache searchCache,
+            EmployeeMapper employeeMapper, EmployeeMetrics metrics) {
         this.employeeRepository = employeeRepository;
+        this.entityManager = entityManager;
+        this.suggestionIndex = suggestionIndex;
+        this.detailCache = detailCache;
+        this.searchCache = searchCache;
+        this.employeeMapper = employeeMapper;
+        this.metrics = metrics;
     }
     
+    // ?fields= values: the summary projection, or any of these EmployeeResponseDTO properties
+    static final String SUMMARY_FIELDS = "summary";
+    static final List<String> SELECTABLE_FIELDS = List.of("id", "firstName", "middleName", "lastName", "email",
+            "mobileNumber", "residentialAddress", "contractType", "startDate", "finishDate", "ongoing",
+            "employmentBasis", "hoursPerWeek", "thumbnailUrl", "createdAt", "updatedAt", "role");
+
     /* -------------------------- SEARCH FUNCTIONALITY -------------------------- */
     // Database-level search with pagination and sorting
+    // read-only transactions go to a read replica when employee.datasource.replica-urls is set (ReadReplicaDataSourceConfig)
+    @Transactional(readOnly = true)
     public Page<EmployeeResponseDTO> advancedSearchWithPagination(
             String firstName,           // Search term for name
             String lastName,            // Search term for name
@@ -34,51 +95,277 @@ public class EmployeeService {
             int page,                   // Page number (0-based)
             int size,                   // Number of items per page
             String sortBy,              // Field to sort by
-            String sortDirection        // Sort direction: asc or desc
+            String sortDirection,       // Sort direction: asc or desc
+            String searchMode           // Name matching: contains (default) or prefix (indexed)
+    ) {
+        return metrics.timeService("search", () -> {
+            // Steps 1-3: validate and normalize the parameters (see toSearchCriteria)
+            EmployeeSearchCache.Criteria criteria = toSearchCriteria(firstName, lastName, contractType, employmentBasis,
+                    ongoing, page, size, sortBy, sortDirection, searchMode);
+
+            // Step 4: Create Pageable object (combines pagination + sorting)
+            Pageable pageable = PageRequest.of(page, size, criteria.sort());
+
+            // Step 5: Serve a repeated search from the result cache
+            return searchCache.get(criteria, () -> {
+                // Step 6: Execute database query with the filters that are set, sorting, and pagination.
+                // The COUNT is a separate statement (timed on its own) and, like in Spring Data's Page queries,
+                // is skipped when the page already shows the total (e.g. a first page that isn't full)
+                Specification<Employee> filters = toSpecification(criteria);
+                List<Employee> employees = metrics.timeQuery("select",
+                        () -> employeeRepository.findBy(filters, query -> query.slice(pageable)).getContent());
+                Page<Employee> employeePage = PageableExecutionUtils.getPage(employees, pageable,
+                        () -> metrics.timeQuery("count", () -> employeeRepository.count(filters)));
+
+                // Step 7: Convert Page<Employee> to Page<EmployeeResponseDTO>
+                // map() transforms each Employee entity to EmployeeResponseDTO
+                Page<EmployeeResponseDTO> result = metrics.timeMapping("search", () -> employeePage.map(this::convertToResponseDTO));
+                metrics.recordResultSize("search", result.getNumberOfElements());
+                return result;
+            });
+        });
+    }
+
+    /* --------------------------- SEARCH WITH FIELDS --------------------------- */
+    // Same filters as advancedSearchWithPagination, but the SELECT only reads the requested columns.
+    // fields=summary returns EmployeeSummaryDTO rows; otherwise fields is a comma-separated list of
+    // EmployeeResponseDTO property names and each row is a map of just those (id is always included)
+    @Transactional(readOnly = true)
+    public Page<?> advancedSearchWithFields(
+            String fields,
+            String firstName,
+            String lastName,
+            String contractType,
+            String employmentBasis,
+            Boolean ongoing,
+            int page,
+            int size,
+            String sortBy,
+            String sortDirection,
+            String searchMode
     ) {
+        return metrics.timeService("searchFields", () -> {
+            EmployeeSearchCache.Criteria criteria = toSearchCriteria(firstName, lastName, contractType, employmentBasis,
+                    ongoing, page, size, sortBy, sortDirection, searchMode);
+            Pageable pageable = PageRequest.of(page, size, criteria.sort());
+
+            // the rows come back as DTOs / maps already, so there is no mapping step to time.
+            // The query timer includes the COUNT the repository runs for the page total
+            Page<?> result;
+            if (SUMMARY_FIELDS.equalsIgnoreCase(fields.trim())) {
+                result = metrics.timeQuery("selectSummaries",
+                        () -> employeeRepository.findSummariesBy(toSpecification(criteria), pageable));
+            } else {
+                List<String> selected = parseFields(fields);
+                result = metrics.timeQuery("selectFields",
+                        () -> employeeRepository.findFieldsBy(selected, toSpecification(criteria), pageable));
+            }
+            metrics.recordResultSize("searchFields", result.getNumberOfElements());
+            return result;
+        });
+    }
+
+    // The filters of a search that are set, as the WHERE clause (see EmployeeSpecifications).
+    // The firstName and lastName terms both match either name
+    private static Specification<Employee> toSpecification(EmployeeSearchCache.Criteria criteria) {
+        String nameTerm = criteria.firstName() != null ? criteria.firstName() : criteria.lastName();
+        return EmployeeSpecifications.withFilters(nameTerm, criteria.namePrefix(), criteria.contractType(),
+                criteria.employmentBasis(), criteria.isActive());
+    }
+
+    // Validates and normalizes the search parameters. The name terms are matched case-insensitively,
+    // so "Ann", " ann " and "ANN" end up the same (and share one search cache entry).
+    // Public so the reactive read API (src/reactive) accepts exactly the same parameters
+    public static EmployeeSearchCache.Criteria toSearchCriteria(String firstName, String lastName, String contractType,
+            String employmentBasis, Boolean ongoing, int page, int size, String sortBy, String sortDirection, String searchMode) {
         // Step 1: Convert string parameters to enums (with validation)
-        ContractType contractTypeEnum = null;
-        if (contractType != null && !"ALL".equals(contractType)) {
-            try {
-                contractTypeEnum = ContractType.valueOf(contractType);
-            } catch (IllegalArgumentException e) {
-                System.out.println("Invalid contract type: " + contractType);
+        ContractType contractTypeEnum = parseContractType(contractType);
+        EmploymentBasis employmentBasisEnum = parseEmploymentBasis(employmentBasis);
+
+        // In prefix mode the term goes to the indexed namePrefix condition instead of the contains match
+        String namePrefix = null;
+        if (parseSearchMode(searchMode) == NameSearchMode.PREFIX) {
+            namePrefix = toNamePrefixPattern(firstName);
+            firstName = null;
+            lastName = null;
+        }
+
+        // Step 2: ongoing maps straight onto the repository's isActive filter (true = active, false = inactive)
+
+        // Step 3: Create Sort object for database-level sorting
+        Sort sort = createSort(sortBy, sortDirection);
+
+        return new EmployeeSearchCache.Criteria(toSearchTerm(firstName), toSearchTerm(lastName), namePrefix,
+                contractTypeEnum, employmentBasisEnum, ongoing, page, size, sort);
+    }
+
+    // Turns "firstName, role,email" into [id, firstName, role, email]; unknown names are a 400
+    private List<String> parseFields(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
             }
+            if (!SELECTABLE_FIELDS.contains(name)) {
+                throw new BadRequestException("Unknown field '" + name + "'. Use 'summary' or any of " + SELECTABLE_FIELDS);
+            }
+            selected.add(name);
+        }
+        return new ArrayList<>(selected);
+    }
+
+    // Trimmed, lowercased contains term; blank means no filter
+    private static String toSearchTerm(String term) {
+        if (term == null || term.trim().isEmpty()) {
+            return null;
         }
+        return term.trim().toLowerCase(Locale.ROOT);
+    }
 
-        EmploymentBasis employmentBasisEnum = null;
-        if (employmentBasis != null && !"ALL".equals(employmentBasis)) {
+    /* ------------------------ SEARCH WITHOUT TOTAL COUNT ------------------------ */
+    // Same as advancedSearchWithPagination but returns a Slice, so the COUNT query is skipped.
+    // Useful when the client only needs "next/previous" rather than the total number of pages
+    @Transactional(readOnly = true)
+    public Slice<EmployeeResponseDTO> advancedSearchSlice(
+            String firstName,
+            String contractType,
+            String employmentBasis,
+            Boolean ongoing,
+            int page,
+            int size,
+            String sortBy,
+            String sortDirection,
+            String searchMode
+    ) {
+        return metrics.timeService("searchSlice", () -> {
+            boolean prefix = parseSearchMode(searchMode) == NameSearchMode.PREFIX;
+            Pageable pageable = PageRequest.of(page, size, createSort(sortBy, sortDirection));
+            Specification<Employee> filters = EmployeeSpecifications.withFilters(
+                    prefix ? null : firstName, prefix ? toNamePrefixPattern(firstName) : null,
+                    parseContractType(contractType), parseEmploymentBasis(employmentBasis), ongoing);
+            // Spring Data fetches size + 1 rows to know if there is a next page
+            Slice<Employee> employeeSlice = metrics.timeQuery("selectSlice",
+                    () -> employeeRepository.findBy(filters, query -> query.slice(pageable)));
+            Slice<EmployeeResponseDTO> result = metrics.timeMapping("searchSlice", () -> employeeSlice.map(this::convertToResponseDTO));
+            metrics.recordResultSize("searchSlice", result.getNumberOfElements());
+            return result;
+        });
+    }
+
+    /* ------------------------ SEARCH WITH KEYSET CURSOR ------------------------ */
+    // Keyset (seek) pagination: instead of OFFSET n the query asks for rows after the last (sortField, id)
+    // that was returned, so it can use an index and page 5,000 costs the same as page 1. No COUNT query either
+    @Transactional(readOnly = true)
+    public EmployeeCursorPageDTO advancedSearchWithCursor(
+            String firstName,
+            String contractType,
+            String employmentBasis,
+            Boolean ongoing,
+            String cursor,              // nextCursor from the previous response, null/blank for the first page
+            int size,
+            String sortBy,
+            String sortDirection,
+            String searchMode
+    ) {
+        return metrics.timeService("searchKeyset", () -> {
+            if (size < 1) {
+                throw new BadRequestException("Page size must be at least 1");
+            }
+
+            // reuse createSort's validation to get a safe column name and direction
+            Sort.Order order = createSort(sortBy, sortDirection).iterator().next();
+            String sortField = order.getProperty();
+            Sort.Direction direction = order.getDirection();
+            if (!SearchCursor.supportsSortField(sortField)) {
+                throw new BadRequestException("Keyset pagination can't sort by " + sortField + ", use pagination=slice instead");
+            }
+
+            boolean prefix = parseSearchMode(searchMode) == NameSearchMode.PREFIX;
+            Specification<Employee> specification = EmployeeSpecifications.withFilters(
+                    prefix ? null : firstName, prefix ? toNamePrefixPattern(firstName) : null,
+                    parseContractType(contractType), parseEmploymentBasis(employmentBasis), ongoing);
+
+            if (cursor != null && !cursor.isBlank()) {
+                SearchCursor after = SearchCursor.decode(cursor);
+                // a cursor only makes sense for the ordering it was created with
+                if (!after.getSortField().equals(sortField) || after.getDirection() != direction) {
+                    throw new BadRequestException("Cursor does not match the requested sort order");
+                }
+                specification = specification.and(EmployeeSpecifications.after(after));
+            }
+
+            // fetch one extra row to find out whether there is a next page
+            Sort sort = EmployeeSpecifications.keysetSort(sortField, direction);
+            Specification<Employee> keyset = specification;   // effectively final for the lambda
+            List<Employee> rows = metrics.timeQuery("selectKeyset",
+                    () -> employeeRepository.findBy(keyset, query -> query.sortBy(sort).limit(size + 1).all()));
+
+            boolean hasNext = rows.size() > size;
+            List<Employee> employees = hasNext ? rows.subList(0, size) : rows;
+
+            String nextCursor = null;
+            if (hasNext) {
+                nextCursor = SearchCursor.of(employees.get(employees.size() - 1), sortField, direction).encode();
+            }
+
+            List<EmployeeResponseDTO> content = metrics.timeMapping("searchKeyset",
+                    () -> employees.stream().map(this::convertToResponseDTO).collect(Collectors.toList()));
+            metrics.recordResultSize("searchKeyset", content.size());
+            return new EmployeeCursorPageDTO(content, size, hasNext, nextCursor);
+        });
+    }
+
+    /* ----------------------------- FILTER HELPERS ----------------------------- */
+    // Missing or unknown mode falls back to the original contains search
+    private static NameSearchMode parseSearchMode(String searchMode) {
+        if (searchMode != null && !searchMode.isBlank()) {
             try {
-                employmentBasisEnum = EmploymentBasis.valueOf(employmentBasis);
+                return NameSearchMode.valueOf(searchMode.trim().toUpperCase(Locale.ROOT));
             } catch (IllegalArgumentException e) {
-                System.out.println("Invalid employment basis: " + employmentBasis);
+                log.debug("Invalid search mode: {}, using contains", searchMode);
             }
         }
+        return NameSearchMode.CONTAINS;
+    }
 
-            // Convert ongoing boolean to isActive for repository
-        Boolean isActive = null;
-        if (ongoing != null) {
-            isActive = ongoing; // true = active, false = inactive
-            System.out.println("Converting ongoing=" + ongoing + " to isActive=" + isActive);
+    // Builds the LIKE pattern for prefix search: normalised like Employee.firstNameLower, with LIKE
+    // wildcards in the user's input escaped ('!' is the escape character) so only the trailing % is a wildcard
+    private static String toNamePrefixPattern(String term) {
+        if (term == null || term.isBlank()) {
+            return null;
         }
-        
-
-        // Step 2: Create Sort object for database-level sorting
-        Sort sort = createSort(sortBy, sortDirection);
-
-        // Step 3: Create Pageable object (combines pagination + sorting)
-        Pageable pageable = PageRequest.of(page, size, sort);
+        String normalized = term.trim().toLowerCase(Locale.ROOT);
+        String escaped = normalized.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return escaped + "%";
+    }
 
-        // Step 4: Execute database query with all filters, sorting, and pagination
-        Page<Employee> employeePage = employeeRepository.findWithFilters(firstName, lastName, contractTypeEnum, employmentBasisEnum, isActive, pageable);
+    // "ALL" or an unknown value means no filter
+    private static ContractType parseContractType(String contractType) {
+        if (contractType != null && !"ALL".equals(contractType)) {
+            try {
+                return ContractType.valueOf(contractType);
+            } catch (IllegalArgumentException e) {
+                log.debug("Invalid contract type: {}", contractType);
+            }
+        }
+        return null;
+    }
 
-        // Step 5: Convert Page<Employee> to Page<EmployeeResponseDTO>
-        // map() transforms each Employee entity to EmployeeResponseDTO
-        return employeePage.map(this::convertToResponseDTO);
+    private static EmploymentBasis parseEmploymentBasis(String employmentBasis) {
+        if (employmentBasis != null && !"ALL".equals(employmentBasis)) {
+            try {
+                return EmploymentBasis.valueOf(employmentBasis);
+            } catch (IllegalArgumentException e) {
+                log.debug("Invalid employment basis: {}", employmentBasis);
+            }
+        }
+        return null;
     }
 
 /* ----------------------------- SORTING HELPERS ---------------------------- */
-private Sort createSort(String sortBy, String sortDirection) {
+static Sort createSort(String sortBy, String sortDirection) {
         // Default sorting if no parameters provided
     if (sortBy == null || sortBy.trim().isEmpty()) {
             return Sort.by(Sort.Direction.ASC, "firstName");
@@ -111,7 +398,7 @@ private Sort createSort(String sortBy, String sortDirection) {
                 break;
             default:
                 validatedSortBy = "firstName"; // Fallback to safe default
-                System.out.println("Invalid sort field: " + sortBy + ", using firstName");
+                log.debug("Invalid sort field: {}, using firstName", sortBy);
         }
 
         
@@ -128,35 +415,25 @@ private Sort createSort(String sortBy, String sortDirection) {
 /* --------------------------------- CREATE --------------------------------- */
     //Creates a new Employee record from the given DTO saves it to the database, and returns the saved data as a DTO.
     public EmployeeResponseDTO createEmployee(CreateEmployeeDTO data) {
-        //create new emp entity
-        Employee employee = new Employee();
-
-        //copy data from DTO to entity because DTO is what comes from frontend, Entity is what goes to the db
-        employee.setFirstName(data.getFirstName().trim());
-        if (data.getMiddleName() != null) {
-            employee.setMiddleName(data.getMiddleName().trim());
-        }
-        employee.setLastName(data.getLastName().trim());
-        employee.setEmail(data.getEmail().trim());
-        employee.setMobileNumber(data.getMobileNumber().trim());
-        employee.setResidentialAddress(data.getResidentialAddress().trim());
-        employee.setContractType(data.getContractType());
-        employee.setStartDate(data.getStartDate());
-        employee.setFinishDate(data.getFinishDate());
-        employee.setOngoing(data.isOngoing());
-        employee.setEmploymentBasis(data.getEmploymentBasis());
-        employee.setHoursPerWeek(data.getHoursPerWeek());
-        employee.setThumbnailUrl(data.getThumbnailUrl());
-        employee.setRole(data.getRole());
-
-        //save employee to db
-        Employee savedEmployee = this.employeeRepository.save(employee);
-
-        //convert saved entity back to response DTO so we can return it to the client
-        return convertToResponseDTO(savedEmployee);
+        return metrics.timeService("create", () -> {
+            //create new emp entity from the DTO (trimmed text fields, see EmployeeMapper)
+            Employee employee = employeeMapper.toNewEmployee(data);
+
+            //save employee to db
+            Employee savedEmployee = this.employeeRepository.save(employee);
+            suggestionIndex.put(savedEmployee);
+            searchCache.invalidate();
+
+            //convert saved entity back to response DTO so we can return it to the client
+            EmployeeResponseDTO response = convertToResponseDTO(savedEmployee);
+            // the detail modal is usually opened right after creating, so cache it now
+            detailCache.put(response);
+            return response;
+        });
     }
 
     /* -------------------------------- READ ALL -------------------------------- */
+    @Transactional(readOnly = true)
     public List<EmployeeResponseDTO> getAllEmployees() {
         // get all employees from db as a List<Employee>
         List<Employee> employees = employeeRepository.findAll();
@@ -164,28 +441,59 @@ private Sort createSort(String sortBy, String sortDirection) {
         return employees.stream().map(this::convertToResponseDTO).collect(Collectors.toList());
         }
 
+    /* ----------------------------- READ ALL (STREAMED) ----------------------------- */
+    // Hands each employee to the consumer as soon as it is read and mapped, instead of building
+    // a List of the whole table first. Memory use stays flat regardless of table size.
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<EmployeeResponse> consumer) {
+        try (Stream<Employee> employees = employeeRepository.streamAllBy()) {
+            employees.forEach(employee -> {
+                consumer.accept(employeeMapper.toResponse(employee));
+                // drop the entity from the persistence context once it has been written
+                entityManager.detach(employee);
+            });
+        }
+    }
+
     /* -------------------------- READ ALL WITH PAGINATION ----------------------- */
     // NEW: Get all employees with pagination support for better UI experience
     // This method enables "10 per page" functionality on the frontend
+    @Transactional(readOnly = true)
     public Page<EmployeeResponseDTO> getAllEmployeesPaginated(int page, int size, String sortBy, String sortDirection) {
-        // Step 1: Create Sort object based on direction parameter
-        Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
-        Sort sort = Sort.by(direction, sortBy);
-        
-        // Step 2: Create Pageable object with page, size, and sort parameters
-        Pageable pageable = PageRequest.of(page, size, sort);
-        
-        // Step 3: Query database with pagination - returns Page<Employee>
-        Page<Employee> employeePage = employeeRepository.findAll(pageable);
-        
-        // Step 4: Convert Page<Employee> to Page<EmployeeResponseDTO>
-        // The map() method preserves pagination metadata (totalPages, totalElements, etc.)
-        return employeePage.map(this::convertToResponseDTO);
+        return metrics.timeService("list", () -> {
+            // Step 1: Create Sort object based on direction parameter
+            Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+            Sort sort = Sort.by(direction, sortBy);
+
+            // Step 2: Create Pageable object with page, size, and sort parameters
+            Pageable pageable = PageRequest.of(page, size, sort);
+
+            // Step 3: Query database with pagination - returns Page<Employee>
+            Page<Employee> employeePage = employeeRepository.findAll(pageable);
+
+            // Step 4: Convert Page<Employee> to Page<EmployeeResponseDTO>
+            // The map() method preserves pagination metadata (totalPages, totalElements, etc.)
+            Page<EmployeeResponseDTO> result = metrics.timeMapping("list", () -> employeePage.map(this::convertToResponseDTO));
+            metrics.recordResultSize("list", result.getNumberOfElements());
+            return result;
+        });
     }
 
 
+    /* ------------------------------- TYPEAHEAD ------------------------------- */
+    // Served entirely from the in-memory trigram index - no database query
+    public List<EmployeeSuggestionDTO> suggestEmployees(String query, int limit) {
+        return suggestionIndex.suggest(query, limit);
+    }
+
     /* -------------------------------- READ ONE -------------------------------- */
+    // Served from the detail cache when possible; only a miss reaches the database (a replica, if configured)
+    @Transactional(readOnly = true)
     public EmployeeResponseDTO findById(Long id) {
+        return detailCache.get(id, this::loadById);
+    }
+
+    private EmployeeResponseDTO loadById(Long id) {
         // Try to find employee by ID - returns Optional<Employee>
         Optional<Employee> employee = this.employeeRepository.findById(id);
         // Check if employee was found
@@ -200,86 +508,205 @@ private Sort createSort(String sortBy, String sortDirection) {
 
 
 
-    /* ------------------------------- UPDATE ONE ------------------------------- */
-    public EmployeeResponseDTO update(Long id, UpdateEmployeeDTO data) {
-        // Find existing employee
-        Employee employeeToUpdate = employeeRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Employee with id " + id + " not found"));
-        
-        
-       
-        
-        // Update fields if they are provided
-        if (data.getFirstName() != null) {
-            employeeToUpdate.setFirstName(data.getFirstName().trim());
+    /* ------------------------------ VERSIONS (ETags) ------------------------------ */
+    // updatedAt of one employee, from the detail cache when it's there, otherwise a single-column query.
+    // Lets the controller answer If-None-Match without loading or mapping the employee (see withUpdatedAt)
+    private LocalDateTime findUpdatedAt(Long id) {
+        EmployeeResponseDTO cached = detailCache.peek(id);
+        if (cached != null) {
+            return cached.getUpdatedAt();
         }
-        if (data.getMiddleName() != null) {
-            employeeToUpdate.setMiddleName(data.getMiddleName().trim());
-        }
-        if (data.getLastName() != null) {
-            employeeToUpdate.setLastName(data.getLastName().trim());
-        }
-        if (data.getEmail() != null) {
-            employeeToUpdate.setEmail(data.getEmail().trim());
-        }
-        if (data.getMobileNumber() != null) {
-            employeeToUpdate.setMobileNumber(data.getMobileNumber().trim());
-        }
-        if (data.getResidentialAddress() != null) {
-            employeeToUpdate.setResidentialAddress(data.getResidentialAddress().trim());
-        }
-        if (data.getContractType() != null) {
-            employeeToUpdate.setContractType(data.getContractType());
-        }
-        if (data.getStartDate() != null) {
-            employeeToUpdate.setStartDate(data.getStartDate());
-        }
-        if (data.getFinishDate() != null) {
-            employeeToUpdate.setFinishDate(data.getFinishDate());
-        }
-        // Only set finish date if employee is NOT ongoing
-        if (data.getFinishDate() != null && !employeeToUpdate.isOngoing()) {
-        employeeToUpdate.setFinishDate(data.getFinishDate());
-        System.out.println("📅 Setting finish date: " + data.getFinishDate());
-        }
-        if (data.getEmploymentBasis() != null) {
-            employeeToUpdate.setEmploymentBasis(data.getEmploymentBasis());
+        return employeeRepository.findUpdatedAtById(id)
+            .orElseThrow(() -> new RuntimeException("Employee with id " + id + " not found"));
+    }
+
+    // Reads the version of the whole table (count + latest updatedAt, see EmployeeETags.collection) first and hands it
+    // to read, in one read-only transaction: both go to the same replica connection (and MySQL's REPEATABLE READ
+    // snapshot), so a lagging replica can't get its rows tagged with another database's version. read may return null
+    // (e.g. after answering 304)
+    @Transactional(readOnly = true)
+    public <T> T withCollectionVersion(Function<EmployeeCollectionVersion, T> read) {
+        return read.apply(employeeRepository.findCollectionVersion());
+    }
+
+    // Same for one employee: findUpdatedAt and then read (findById), on the same connection
+    @Transactional(readOnly = true)
+    public <T> T withUpdatedAt(Long id, Function<LocalDateTime, T> read) {
+        return read.apply(findUpdatedAt(id));
+    }
+
+    /* ------------------------------- UPDATE ONE ------------------------------- */
+    // Optimistic locking: ifMatch (an ETag) and data.version are the state the client edited; either one being stale
+    // is a conflict. Between our read and our write the @Version column catches other writers - no row locks are held
+    public EmployeeResponseDTO update(Long id, UpdateEmployeeDTO data, String ifMatch) {
+        return metrics.timeService("update", () -> {
+            // Find existing employee
+            Employee employeeToUpdate = employeeRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Employee with id " + id + " not found"));
+
+            if (ifMatch != null && !EmployeeETags.matches(ifMatch, EmployeeETags.employee(id, employeeToUpdate.getUpdatedAt()))) {
+                throw conflict(id);
+            }
+            if (data.getVersion() != null && !data.getVersion().equals(employeeToUpdate.getVersion())) {
+                throw conflict(id);
+            }
+
+            // Update fields if they are provided (null = unchanged)
+            employeeMapper.updateEmployee(data, employeeToUpdate);
+
+            if (data.getFinishDate() != null) {
+                employeeToUpdate.setFinishDate(data.getFinishDate());
+                log.debug("Setting finish date of employee {}: {}", id, data.getFinishDate());
+            }
+            if (data.getOngoing() != null) {
+                employeeToUpdate.setOngoing(data.getOngoing());
+            }
+            if (Boolean.TRUE.equals(data.getOngoing())) {
+                employeeToUpdate.setFinishDate(null);
+                log.debug("Employee {} marked as ongoing - clearing finish date", id);
+            }
+
+            // Save updated employee. The UPDATE is "... WHERE id = ? AND version = ?", so a concurrent write fails it
+            Employee updatedEmployee;
+            try {
+                updatedEmployee = employeeRepository.save(employeeToUpdate);
+            } catch (ObjectOptimisticLockingFailureException e) {
+                throw conflict(id);
+            }
+            suggestionIndex.put(updatedEmployee);
+            searchCache.invalidate();
+            EmployeeResponseDTO response = convertToResponseDTO(updatedEmployee);
+            detailCache.put(response);
+            return response;
+        });
+    }
+
+    /* ------------------------------- PATCH ONE ------------------------------- */
+    // Same changes and the same version/If-Match checks as update, but as one UPDATE statement that only sets the
+    // fields that were sent - the employee is never loaded. The checks become part of the WHERE clause, so when no
+    // row is changed a second (rare) query tells a missing employee from a stale one
+    public void patch(Long id, UpdateEmployeeDTO data, String ifMatch) throws NotFoundException {
+        // the entity's @NotBlank isn't checked by a bulk update
+        requireNotBlank("firstName", data.getFirstName());
+        requireNotBlank("lastName", data.getLastName());
+        requireNotBlank("email", data.getEmail());
+
+        boolean updated = metrics.timeService("patch", () -> {
+            Specification<Employee> where = EmployeeSpecifications.hasId(id);
+            if (data.getVersion() != null) {
+                where = where.and(EmployeeSpecifications.hasVersion(data.getVersion()));
+            }
+            if (ifMatch != null && !EmployeeETags.matchesAny(ifMatch)) {
+                List<LocalDateTime> updatedAts = EmployeeETags.updatedAtsOf(ifMatch, id);
+                if (updatedAts.isEmpty()) {
+                    return false; // no ETag of this employee, can't match
+                }
+                where = where.and(EmployeeSpecifications.updatedAtIn(updatedAts));
+            }
+
+            // truncated like Employee.onUpdate, so the ETag of the next GET matches what is stored
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            Specification<Employee> condition = where;
+            return metrics.timeQuery("patch", () -> employeeRepository.updateWhere(data, condition, now, LocalDate.now())) > 0;
+        });
+
+        if (!updated) {
+            if (employeeRepository.existsById(id)) {
+                throw conflict(id);
+            }
+            throw new NotFoundException("Employee with id " + id + " not found");
         }
-        if (data.getHoursPerWeek() != null) {
-            employeeToUpdate.setHoursPerWeek(data.getHoursPerWeek());
+        if (data.getFirstName() != null || data.getMiddleName() != null || data.getLastName() != null
+                || data.getEmail() != null || data.getThumbnailUrl() != null) {
+            suggestionIndex.patch(id, employeeMapper.trim(data.getFirstName()), employeeMapper.trim(data.getMiddleName()),
+                    employeeMapper.trim(data.getLastName()), employeeMapper.trim(data.getEmail()), data.getThumbnailUrl());
         }
-        if (data.getOngoing() != null) {
-            employeeToUpdate.setOngoing(data.getOngoing());
+        detailCache.invalidate(id);
+        searchCache.invalidate();
+    }
+
+    private static void requireNotBlank(String field, String value) {
+        if (value != null && value.isBlank()) {
+            throw new BadRequestException(field + " must not be blank");
         }
-        if (data.getOngoing()) {
-            employeeToUpdate.setFinishDate(null);
-            System.out.println("🔄 Employee marked as ongoing - clearing finish date");
+    }
+
+    private ConflictException conflict(Long id) {
+        // the cached copy may be the stale one the client was sent, so the retry's GET reloads it
+        detailCache.invalidate(id);
+        return new ConflictException("Employee with id " + id + " was changed by someone else, reload and try again");
+    }
+
+    /* ----------------------------- DASHBOARD STATS ----------------------------- */
+    // Builds the dashboard numbers from grouped COUNT/AVG queries, so the work and the payload
+    // stay the same size no matter how many employees are in the table
+    @Transactional(readOnly = true)
+    public DashboardStatsDTO getDashboardStats() {
+        DashboardStatsDTO stats = new DashboardStatsDTO();
+
+        stats.setContractTypeCounts(toCountMap(ContractType.values(), employeeRepository.countByContractType()));
+        stats.setEmploymentBasisCounts(toCountMap(EmploymentBasis.values(), employeeRepository.countByEmploymentBasis()));
+        stats.setRoleCounts(toCountMap(EmployeeRole.values(), employeeRepository.countByRole()));
+        stats.setActiveEmploymentBasisCounts(toCountMap(EmploymentBasis.values(), employeeRepository.countActiveByEmploymentBasis()));
+
+        // every employee has an employment basis, so the totals can be derived from the grouped counts
+        long total = stats.getEmploymentBasisCounts().values().stream().mapToLong(Long::longValue).sum();
+        long active = stats.getActiveEmploymentBasisCounts().values().stream().mapToLong(Long::longValue).sum();
+        stats.setTotalEmployees(total);
+        stats.setActiveCount(active);
+        stats.setInactiveCount(total - active);
+        stats.setAverageHoursPerWeek(employeeRepository.averageHoursPerWeek());
+
+        Map<String, Long> startMonthCounts = new LinkedHashMap<>();
+        for (Object[] row : employeeRepository.countByStartMonth()) {
+            int year = ((Number) row[0]).intValue();
+            int month = ((Number) row[1]).intValue();
+            startMonthCounts.put(String.format("%04d-%02d", year, month), ((Number) row[2]).longValue());
         }
+        stats.setStartMonthCounts(startMonthCounts);
+
+        return stats;
+    }
 
-        if (data.getRole() != null) {
-            employeeToUpdate.setRole(data.getRole());
+    // Turns [enumValue, count] rows into a map that always contains every enum value (0 when missing)
+    private <E extends Enum<E>> Map<String, Long> toCountMap(E[] values, List<Object[]> rows) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (E value : values) {
+            counts.put(value.name(), 0L);
         }
-      
-        if (data.getThumbnailUrl() != null) { // Add this block
-            employeeToUpdate.setThumbnailUrl(data.getThumbnailUrl());
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                counts.put(((Enum<?>) row[0]).name(), ((Number) row[1]).longValue());
+            }
         }
-     
-        // Save updated employee
-        Employee updatedEmployee = employeeRepository.save(employeeToUpdate);
-        return convertToResponseDTO(updatedEmployee);
+        return counts;
     }
 
     /* --------------------------------- DELETE --------------------------------- */
-    public void delete(Long id) {
-        // Check if employee exists
-        Optional<Employee> employee = employeeRepository.findById(id);
+    // One DELETE statement; no row deleted means there was no such employee
+    public void delete(Long id) throws NotFoundException {
+        int deleted = metrics.timeService("delete", () -> {
+            int rows = employeeRepository.deleteEmployeeById(id);
+            if (rows > 0) {
+                suggestionIndex.remove(id);
+                detailCache.invalidate(id);
+                searchCache.invalidate();
+            }
+            return rows;
+        });
 
-        if (employee.isEmpty()) {
-            throw new RuntimeException("Employee with id " + id + " not found");
+        if (deleted == 0) {
+            throw new NotFoundException("Employee with id " + id + " not found");
         }
+    }
 
-        // Delete the employee
-        employeeRepository.deleteById(id);
+    /* ------------------------------- CACHE STATS ------------------------------- */
+    // Counters for the in-process caches, keyed by cache name
+    public Map<String, CacheStatsDTO> getCacheStats() {
+        Map<String, CacheStatsDTO> stats = new LinkedHashMap<>();
+        stats.put("employeeDetails", detailCache.stats());
+        stats.put("employeeSearches", searchCache.stats());
+        return stats;
     }
 
 
@@ -288,29 +715,8 @@ private Sort createSort(String sortBy, String sortDirection) {
 
     /* ------------------------------ HELPER METHOD ----------------------------- */
     // this is a helper method to convert an Employee entity to EmployeeResponseDTO
-    private EmployeeResponseDTO convertToResponseDTO(Employee employee) {
-        
-        EmployeeResponseDTO response = new EmployeeResponseDTO();
-
-        response.setId(employee.getId());
-        response.setFirstName(employee.getFirstName());
-        response.setMiddleName(employee.getMiddleName());
-        response.setLastName(employee.getLastName());
-        response.setEmail(employee.getEmail());
-        response.setMobileNumber(employee.getMobileNumber());
-        response.setResidentialAddress(employee.getResidentialAddress());
-        response.setContractType(employee.getContractType());
-        response.setStartDate(employee.getStartDate());
-        response.setFinishDate(employee.getFinishDate());
-        response.setOngoing(employee.isOngoing());
-        response.setEmploymentBasis(employee.getEmploymentBasis());
-        response.setHoursPerWeek(employee.getHoursPerWeek());
-        response.setThumbnailUrl(employee.getThumbnailUrl());
-        response.setCreatedAt(employee.getCreatedAt());
-        response.setUpdatedAt(employee.getUpdatedAt());
-        response.setRole(employee.getRole());
-        
-        return response;
+    EmployeeResponseDTO convertToResponseDTO(Employee employee) {
+        return employeeMapper.toResponseDTO(employee);
     }
 }
 
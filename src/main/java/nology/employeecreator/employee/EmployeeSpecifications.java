@@ -0,0 +1,118 @@
+package nology.employeecreator.employee;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/* The search filters as Criteria API specifications, used by every search in EmployeeService.
+   Only the filters that are set end up in the SQL, so MySQL sees the plain equality / range predicates the indexes of
+   the migrations were chosen for, however the driver sends the parameters. They also cover query shapes that change
+   at runtime (e.g. keyset pagination, where the WHERE clause depends on the sort column) */
+
+public final class EmployeeSpecifications {
+
+    private EmployeeSpecifications() {
+    }
+
+    /* ------------------------------ SEARCH FILTERS ----------------------------- */
+    // A null argument means "don't filter"; the filters that are set are ANDed
+    public static Specification<Employee> withFilters(String name, String namePrefix, ContractType contractType,
+            EmploymentBasis employmentBasis, Boolean isActive) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            // match first OR last name containing the term, case-insensitive
+            if (name != null) {
+                String pattern = "%" + name.toLowerCase() + "%";
+                predicates.add(cb.or(
+                        cb.like(cb.lower(root.get("firstName")), pattern),
+                        cb.like(cb.lower(root.get("lastName")), pattern)));
+            }
+            // namePrefix is an already escaped LIKE pattern for the indexed lowercase columns
+            if (namePrefix != null) {
+                predicates.add(cb.or(
+                        cb.like(root.get("firstNameLower"), namePrefix, '!'),
+                        cb.like(root.get("lastNameLower"), namePrefix, '!')));
+            }
+            if (contractType != null) {
+                predicates.add(cb.equal(root.get("contractType"), contractType));
+            }
+            if (employmentBasis != null) {
+                predicates.add(cb.equal(root.get("employmentBasis"), employmentBasis));
+            }
+            if (isActive != null) {
+                Path<EmploymentStatus> status = root.get("employmentStatus");
+                if (isActive) {
+                    // Active: still employed or not started yet
+                    predicates.add(status.in(EmploymentStatus.ACTIVE, EmploymentStatus.FUTURE));
+                } else {
+                    // Inactive: finish date has passed
+                    predicates.add(cb.equal(status, EmploymentStatus.ENDED));
+                }
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /* ---------------------------- CONDITIONAL WRITES ---------------------------- */
+    // WHERE clauses of the single-statement PATCH and the bulk endpoints (EmployeeRepository.updateWhere/deleteWhere)
+
+    public static Specification<Employee> hasId(Long id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    public static Specification<Employee> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    // the version the client last read (UpdateEmployeeDTO.version)
+    public static Specification<Employee> hasVersion(Long version) {
+        return (root, query, cb) -> cb.equal(root.get("version"), version);
+    }
+
+    // the updatedAt values behind the client's If-Match ETags (EmployeeETags.updatedAtsOf)
+    public static Specification<Employee> updatedAtIn(Collection<LocalDateTime> updatedAts) {
+        return (root, query, cb) -> root.get("updatedAt").in(updatedAts);
+    }
+
+    /* ---------------------------- KEYSET PAGINATION ---------------------------- */
+    // Rows that come strictly after the cursor in (sortField, id) order. Nulls in the sort column are
+    // treated as the lowest value, matching how the database orders them in keysetSort()
+    public static Specification<Employee> after(SearchCursor cursor) {
+        return (root, query, cb) -> {
+            Path<Comparable<Object>> column = root.get(cursor.getSortField());
+            Path<Long> id = root.get("id");
+            boolean ascending = cursor.getDirection() == Sort.Direction.ASC;
+            @SuppressWarnings("unchecked")
+            Comparable<Object> value = (Comparable<Object>) cursor.getSortValue();
+
+            Predicate idAfter = ascending ? cb.greaterThan(id, cursor.getId()) : cb.lessThan(id, cursor.getId());
+
+            if (value == null) {
+                Predicate sameGroup = cb.and(cb.isNull(column), idAfter);
+                // ascending: nulls come first, so every non-null value is still ahead of us
+                return ascending ? cb.or(sameGroup, cb.isNotNull(column)) : sameGroup;
+            }
+
+            Predicate beyond = ascending ? cb.greaterThan(column, value) : cb.lessThan(column, value);
+            Predicate tieBreak = cb.and(cb.equal(column, value), idAfter);
+            // descending: nulls come last, so they are still ahead of any non-null value
+            return ascending ? cb.or(beyond, tieBreak) : cb.or(beyond, tieBreak, cb.isNull(column));
+        };
+    }
+
+    // Sort used with after(): the sort column plus id as a unique tie-breaker.
+    // Relies on the database sorting NULL as the lowest value (MySQL and H2 both do), because
+    // Spring Data can't apply NULLS FIRST/LAST to Criteria queries
+    public static Sort keysetSort(String sortField, Sort.Direction direction) {
+        return Sort.by(new Sort.Order(direction, sortField), new Sort.Order(direction, "id"));
+    }
+
+}
@@ -0,0 +1,79 @@
+package nology.employeecreator.employee;
+
+
+/* small DTO for typeahead results (GET /api/employees/suggest) - just enough to render a suggestion row */
+
+public class EmployeeSuggestionDTO {
+
+        private Long id;
+        private String firstName;
+        private String middleName;
+        private String lastName;
+        private String email;
+        private String thumbnailUrl;
+
+    /* --------------------------- CONSTRUCTORS --------------------------- */
+    public EmployeeSuggestionDTO() {
+        // Default constructor
+    }
+
+    public EmployeeSuggestionDTO(Long id, String firstName, String middleName, String lastName, String email, String thumbnailUrl) {
+        this.id = id;
+        this.firstName = firstName;
+        this.middleName = middleName;
+        this.lastName = lastName;
+        this.email = email;
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+
+    /* --------------------------- getters and setters -------------------------- */
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getMiddleName() {
+        return middleName;
+    }
+
+    public void setMiddleName(String middleName) {
+        this.middleName = middleName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+}
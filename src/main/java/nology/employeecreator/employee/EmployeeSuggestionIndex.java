@@ -0,0 +1,475 @@
+package nology.employeecreator.employee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/* In-memory trigram index over first, middle and last name and email, used for typeahead (GET /api/employees/suggest)
+   so suggestions never touch MySQL. It is loaded once when the app is ready and then kept up to date by
+   EmployeeService on create/update/patch/delete.
+
+   Every word is indexed with two leading '$' so short queries can match word starts: "john" -> $$j, $jo, joh, ohn.
+   The postings of a trigram are kept sorted in tie-break order (shorter name, then name, then id - see POSTING_ORDER),
+   not by id. A query walks them in that order, so among equally scored employees the first ones it finds are the
+   ones that rank first, and it can stop as soon as it holds `limit` employees with the best possible score. A
+   common prefix ("jo", or "com" from the emails) then costs a handful of postings, not all of them */
+
+@Component
+public class EmployeeSuggestionIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSuggestionIndex.class);
+
+    private static final String PADDING = "$$";
+    private static final int MAX_LIMIT = 50;
+    private static final int PREFIX_BONUS = 5;
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // all state below is guarded by lock
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, IndexedEmployee> employees = new HashMap<>();
+
+    public EmployeeSuggestionIndex(EmployeeRepository employeeRepository, PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /* ---------------------------------- LOAD ---------------------------------- */
+    // Runs after the CommandLineRunners (e.g. DataSeeder), so seeded employees are included.
+    // Holds the write lock while loading, so suggestions wait instead of seeing a half-built index
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            employees.clear();
+            List<IndexedEmployee> loaded = new ArrayList<>();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = employeeRepository.streamSuggestionFields()) {
+                    rows.forEach(row -> loaded.add(new IndexedEmployee((Long) row[0], (String) row[1],
+                            (String) row[2], (String) row[3], (String) row[4], (String) row[5])));
+                }
+            });
+            addAllInternal(loaded);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Suggestion index loaded with {} employees", size());
+    }
+
+    /* ------------------------------ INCREMENTAL UPDATES ------------------------------ */
+    // Adds the employee, or replaces the previous version if it was already indexed
+    public void put(Employee employee) {
+        IndexedEmployee indexed = new IndexedEmployee(employee.getId(), employee.getFirstName(),
+                employee.getMiddleName(), employee.getLastName(), employee.getEmail(), employee.getThumbnailUrl());
+        lock.writeLock().lock();
+        try {
+            removeInternal(indexed.id);
+            addInternal(indexed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // For rows inserted outside JPA in batches (bulk import): ids.get(i) is the generated key of employees.get(i). Every posting
+    // list is merged once for the whole batch instead of once per row
+    public void putAll(List<Long> ids, List<Employee> employees) {
+        List<IndexedEmployee> batch = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Employee employee = employees.get(i);
+            batch.add(new IndexedEmployee(ids.get(i), employee.getFirstName(), employee.getMiddleName(),
+                    employee.getLastName(), employee.getEmail(), employee.getThumbnailUrl()));
+        }
+        lock.writeLock().lock();
+        try {
+            batch.forEach(indexed -> removeInternal(indexed.id));
+            addAllInternal(batch);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // For PATCH, which never loads the employee: null means unchanged, the rest comes from the indexed copy
+    public void patch(Long id, String firstName, String middleName, String lastName, String email, String thumbnailUrl) {
+        lock.writeLock().lock();
+        try {
+            IndexedEmployee previous = employees.get(id);
+            if (previous == null) {
+                return;
+            }
+            IndexedEmployee indexed = new IndexedEmployee(id,
+                    firstName != null ? firstName : previous.firstName,
+                    middleName != null ? middleName : previous.middleName,
+                    lastName != null ? lastName : previous.lastName,
+                    email != null ? email : previous.email,
+                    thumbnailUrl != null ? thumbnailUrl : previous.thumbnailUrl);
+            removeInternal(id);
+            addInternal(indexed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return employees.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* --------------------------------- QUERY --------------------------------- */
+    // Ranks employees by how many of the query's trigrams they contain, with a bonus for words that start
+    // with a query token. Up to 40% of the trigrams may be missing, so a typo in a longer term still matches
+    public List<EmployeeSuggestionDTO> suggest(String query, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        int maxResults = Math.min(limit, MAX_LIMIT);
+
+        // tokens of 3+ characters match anywhere in a word; shorter ones only at the start of a word
+        Set<String> queryTrigrams = new LinkedHashSet<>();
+        for (String token : tokens) {
+            if (token.length() >= 3) {
+                addTrigrams(token, queryTrigrams);
+            } else {
+                addTrigrams(PADDING + token, queryTrigrams);
+            }
+        }
+        int required = queryTrigrams.size() <= 3 ? queryTrigrams.size() : (int) Math.ceil(queryTrigrams.size() * 0.6);
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(queryTrigrams.size());
+            for (String trigram : queryTrigrams) {
+                Postings list = postings.get(trigram);
+                if (list != null) {
+                    lists.add(list);
+                }
+            }
+            if (lists.size() < required) {
+                return List.of();
+            }
+
+            // An employee in at least `required` of the lists is in at least one of the (lists - required + 1) shortest
+            // ones. So only those are walked, merged in posting order; the longer lists (common trigrams) are just
+            // binary-searched for each candidate
+            lists.sort(Comparator.comparingInt(list -> list.size));
+            int merged = lists.size() - required + 1;
+            PriorityQueue<PostingsCursor> cursors = new PriorityQueue<>(merged,
+                    Comparator.comparing(PostingsCursor::current, POSTING_ORDER));
+            for (int i = 0; i < merged; i++) {
+                cursors.add(new PostingsCursor(lists.get(i)));
+            }
+            // candidates come in posting order, so each probed list is searched from where the last search ended
+            int[] probeFrom = new int[lists.size()];
+
+            // keep only the best maxResults candidates (worst one at the head of the queue)
+            PriorityQueue<ScoredEmployee> best = new PriorityQueue<>(maxResults + 1, RANKING.reversed());
+            int maxBonus = tokens.size() * PREFIX_BONUS;
+            int maxScore = lists.size() * 10 + maxBonus;
+            while (!cursors.isEmpty()) {
+                IndexedEmployee employee = cursors.peek().current();
+                int matches = 0;
+                while (!cursors.isEmpty() && cursors.peek().current() == employee) {
+                    PostingsCursor cursor = cursors.poll();
+                    matches++;
+                    if (cursor.advance()) {
+                        cursors.add(cursor);
+                    }
+                }
+                // stop probing once even matching every list left can't reach `required`, or beat the worst kept score
+                int worst = best.size() == maxResults ? best.peek().score : -1;
+                for (int i = merged; i < lists.size() && matches + (lists.size() - i) >= required
+                        && (matches + lists.size() - i) * 10 + maxBonus > worst; i++) {
+                    Postings list = lists.get(i);
+                    int position = Arrays.binarySearch(list.entries, probeFrom[i], list.size, employee, POSTING_ORDER);
+                    if (position >= 0) {
+                        matches++;
+                        probeFrom[i] = position + 1;
+                    } else {
+                        probeFrom[i] = -position - 1;
+                    }
+                }
+                if (matches < required) {
+                    continue;
+                }
+
+                // every candidate still to come loses a tie against the ones already queued, so once the queue is
+                // full it only takes a strictly higher score - and nothing scores higher than maxScore
+                boolean full = best.size() == maxResults;
+                if (full && matches * 10 + maxBonus <= best.peek().score) {
+                    continue;
+                }
+                int score = matches * 10 + prefixBonus(employee, tokens);
+                if (full && score <= best.peek().score) {
+                    continue;
+                }
+                best.add(new ScoredEmployee(employee, score));
+                if (best.size() > maxResults) {
+                    best.poll();
+                }
+                if (best.size() == maxResults && best.peek().score == maxScore) {
+                    break;
+                }
+            }
+
+            List<ScoredEmployee> ranked = new ArrayList<>(best);
+            ranked.sort(RANKING);
+            List<EmployeeSuggestionDTO> results = new ArrayList<>(ranked.size());
+            for (ScoredEmployee scored : ranked) {
+                results.add(scored.employee.toDTO());
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* -------------------------------- HELPERS -------------------------------- */
+
+    // shorter names first (closer match), then alphabetical, then id for stability - the order of every posting list
+    private static final Comparator<IndexedEmployee> POSTING_ORDER = Comparator
+            .comparingInt((IndexedEmployee employee) -> employee.nameLength)
+            .thenComparing(employee -> employee.sortName)
+            .thenComparingLong(employee -> employee.id);
+
+    // highest score first, ties in posting order
+    private static final Comparator<ScoredEmployee> RANKING = Comparator
+            .comparingInt((ScoredEmployee scored) -> -scored.score)
+            .thenComparing(scored -> scored.employee, POSTING_ORDER);
+
+    private static int prefixBonus(IndexedEmployee employee, List<String> tokens) {
+        int bonus = 0;
+        for (String token : tokens) {
+            for (String word : employee.words) {
+                if (word.startsWith(token)) {
+                    bonus += PREFIX_BONUS;
+                    break;
+                }
+            }
+        }
+        return bonus;
+    }
+
+    private void addInternal(IndexedEmployee employee) {
+        employees.put(employee.id, employee);
+        for (String trigram : employee.trigrams) {
+            postings.computeIfAbsent(trigram, key -> new Postings()).add(employee);
+        }
+    }
+
+    // Many employees at once (load, bulk import): the batch is sorted once, so the new postings of every trigram come
+    // out already in order and are merged into the list in one pass
+    private void addAllInternal(List<IndexedEmployee> batch) {
+        batch.sort(POSTING_ORDER);
+        Map<String, List<IndexedEmployee>> added = new HashMap<>();
+        for (IndexedEmployee employee : batch) {
+            employees.put(employee.id, employee);
+            for (String trigram : employee.trigrams) {
+                added.computeIfAbsent(trigram, key -> new ArrayList<>()).add(employee);
+            }
+        }
+        added.forEach((trigram, entries) -> postings.computeIfAbsent(trigram, key -> new Postings()).addAll(entries));
+    }
+
+    private void removeInternal(Long id) {
+        IndexedEmployee previous = employees.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String trigram : previous.trigrams) {
+            Postings list = postings.get(trigram);
+            if (list != null) {
+                list.remove(previous);
+                if (list.size == 0) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    // lowercase words made of letters/digits, e.g. "Mary-Jane.o'Brien@x.com" -> mary, jane, o, brien, x, com
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static void addTrigrams(String text, Set<String> into) {
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            into.add(text.substring(i, i + 3));
+        }
+    }
+
+    /* ------------------------------ INNER CLASSES ------------------------------ */
+
+    // What the index keeps per employee: the fields to return plus what is needed to rank and to un-index it
+    private static final class IndexedEmployee {
+        final long id;
+        final String firstName;
+        final String middleName;
+        final String lastName;
+        final String email;
+        final String thumbnailUrl;
+        final String[] words;
+        final String[] trigrams;
+        final int nameLength;
+        final String sortName;
+
+        IndexedEmployee(Long id, String firstName, String middleName, String lastName, String email, String thumbnailUrl) {
+            this.id = id;
+            this.firstName = firstName;
+            this.middleName = middleName;
+            this.lastName = lastName;
+            this.email = email;
+            this.thumbnailUrl = thumbnailUrl;
+
+            List<String> allWords = new ArrayList<>();
+            allWords.addAll(tokenize(firstName));
+            allWords.addAll(tokenize(middleName));
+            allWords.addAll(tokenize(lastName));
+            allWords.addAll(tokenize(email));
+            this.words = allWords.toArray(new String[0]);
+
+            Set<String> uniqueTrigrams = new LinkedHashSet<>();
+            for (String word : allWords) {
+                addTrigrams(PADDING + word, uniqueTrigrams);
+            }
+            this.trigrams = uniqueTrigrams.toArray(new String[0]);
+
+            this.sortName = ((lastName == null ? "" : lastName) + " " + (firstName == null ? "" : firstName)).toLowerCase(Locale.ROOT);
+            this.nameLength = sortName.length();
+        }
+
+        EmployeeSuggestionDTO toDTO() {
+            return new EmployeeSuggestionDTO(id, firstName, middleName, lastName, email, thumbnailUrl);
+        }
+    }
+
+    private static final class ScoredEmployee {
+        final IndexedEmployee employee;
+        final int score;
+
+        ScoredEmployee(IndexedEmployee employee, int score) {
+            this.employee = employee;
+            this.score = score;
+        }
+    }
+
+    // Position in one posting list while it is merged with others (see suggest)
+    private static final class PostingsCursor {
+        final IndexedEmployee[] entries;
+        final int size;
+        int position;
+
+        PostingsCursor(Postings list) {
+            this.entries = list.entries;
+            this.size = list.size;
+        }
+
+        IndexedEmployee current() {
+            return entries[position];
+        }
+
+        // false once the list is used up
+        boolean advance() {
+            return ++position < size;
+        }
+    }
+
+    // Growable array of the employees that contain one trigram, sorted in POSTING_ORDER
+    private static final class Postings {
+        static final int SMALL_BATCH = 8;
+
+        IndexedEmployee[] entries = new IndexedEmployee[4];
+        int size;
+
+        void add(IndexedEmployee employee) {
+            int position = Arrays.binarySearch(entries, 0, size, employee, POSTING_ORDER);
+            if (position >= 0) {
+                return; // already present
+            }
+            int insertAt = -position - 1;
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, entries.length * 2);
+            }
+            System.arraycopy(entries, insertAt, entries, insertAt + 1, size - insertAt);
+            entries[insertAt] = employee;
+            size++;
+        }
+
+        // added must be sorted in POSTING_ORDER. A few are inserted one by one; more are merged in one pass, which finds
+        // where each one goes by binary search and copies the runs of existing entries in between
+        void addAll(List<IndexedEmployee> added) {
+            if (added.size() <= SMALL_BATCH) {
+                added.forEach(this::add);
+                return;
+            }
+            IndexedEmployee[] result = new IndexedEmployee[size + added.size()];
+            int count = 0;
+            int from = 0;
+            for (IndexedEmployee employee : added) {
+                int position = Arrays.binarySearch(entries, from, size, employee, POSTING_ORDER);
+                int insertAt = position >= 0 ? position : -position - 1;
+                System.arraycopy(entries, from, result, count, insertAt - from);
+                count += insertAt - from;
+                from = insertAt;
+                if (position < 0 && (count == 0 || result[count - 1] != employee)) {
+                    result[count++] = employee;
+                }
+            }
+            System.arraycopy(entries, from, result, count, size - from);
+            entries = result;
+            size = count + size - from;
+        }
+
+        // employee must be the instance that was added, its fields decide where it is
+        void remove(IndexedEmployee employee) {
+            int position = Arrays.binarySearch(entries, 0, size, employee, POSTING_ORDER);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(entries, position + 1, entries, position, size - position - 1);
+            entries[--size] = null;
+        }
+    }
+}
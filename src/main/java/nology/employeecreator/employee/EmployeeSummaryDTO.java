@@ -0,0 +1,80 @@
+package nology.employeecreator.employee;
+
+
+/* lean row for list views (?fields=summary) - only what an employee tile shows. Filled by a constructor
+   expression in EmployeeRepository.findSummariesBy, so only these six columns are read */
+
+public class EmployeeSummaryDTO {
+
+        private Long id;
+        private String firstName;
+        private String lastName;
+        private EmployeeRole role;
+        private ContractType contractType;
+        private String thumbnailUrl;
+
+    /* --------------------------- CONSTRUCTORS --------------------------- */
+    public EmployeeSummaryDTO() {
+        // Default constructor
+    }
+
+    public EmployeeSummaryDTO(Long id, String firstName, String lastName, EmployeeRole role, ContractType contractType, String thumbnailUrl) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.role = role;
+        this.contractType = contractType;
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+
+    /* --------------------------- getters and setters -------------------------- */
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public EmployeeRole getRole() {
+        return role;
+    }
+
+    public void setRole(EmployeeRole role) {
+        this.role = role;
+    }
+
+    public ContractType getContractType() {
+        return contractType;
+    }
+
+    public void setContractType(ContractType contractType) {
+        this.contractType = contractType;
+    }
+
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+}
@@ -0,0 +1,25 @@
+package nology.employeecreator.employee;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/* Custom fragment of EmployeeRepository for PATCH and the bulk endpoints - the SET and WHERE clauses depend on
+   what the client sent, which a fixed @Modifying @Query can't express */
+
+public interface EmployeeUpdateRepository {
+
+    // One UPDATE ... SET <the non-null fields of changes> WHERE <where>, without loading the rows first.
+    // Also keeps what onUpdate() would (updatedAt, lowercase names, employmentStatus) and bumps version.
+    // Returns the number of rows changed
+    int updateWhere(UpdateEmployeeDTO changes, Specification<Employee> where, LocalDateTime now, LocalDate today);
+
+    // Up to limit ids matching where, after afterId in id order (null = from the start). The bulk endpoints walk
+    // the matching rows with it chunk by chunk, so every chunk is a short transaction with a bounded IN list
+    List<Long> findIdsAfter(Specification<Employee> where, Long afterId, int limit);
+
+    // One DELETE ... WHERE <where>; returns the number of rows deleted
+    int deleteWhere(Specification<Employee> where);
+}
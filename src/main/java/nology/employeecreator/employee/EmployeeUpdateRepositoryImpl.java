@@ -0,0 +1,157 @@
+package nology.employeecreator.employee;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+// Picked up by Spring Data through the Impl suffix. Builds Criteria bulk updates/deletes from what the client sent
+class EmployeeUpdateRepositoryImpl implements EmployeeUpdateRepository {
+
+    private final EntityManager entityManager;
+
+    EmployeeUpdateRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public int updateWhere(UpdateEmployeeDTO changes, Specification<Employee> where, LocalDateTime now, LocalDate today) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Employee> update = cb.createCriteriaUpdate(Employee.class);
+        Root<Employee> root = update.from(Employee.class);
+
+        // text is trimmed like EmployeeMapper.updateEmployee does, the lowercase copies like Employee.normalizeNames
+        String firstName = trim(changes.getFirstName());
+        if (firstName != null) {
+            update.set(root.<String>get("firstName"), firstName);
+            update.set(root.<String>get("firstNameLower"), firstName.toLowerCase(Locale.ROOT));
+        }
+        String lastName = trim(changes.getLastName());
+        if (lastName != null) {
+            update.set(root.<String>get("lastName"), lastName);
+            update.set(root.<String>get("lastNameLower"), lastName.toLowerCase(Locale.ROOT));
+        }
+        setIfPresent(update, root, "middleName", trim(changes.getMiddleName()));
+        setIfPresent(update, root, "email", trim(changes.getEmail()));
+        setIfPresent(update, root, "mobileNumber", trim(changes.getMobileNumber()));
+        setIfPresent(update, root, "residentialAddress", trim(changes.getResidentialAddress()));
+        setIfPresent(update, root, "thumbnailUrl", changes.getThumbnailUrl());
+        setIfPresent(update, root, "role", changes.getRole());
+        setIfPresent(update, root, "contractType", changes.getContractType());
+        setIfPresent(update, root, "employmentBasis", changes.getEmploymentBasis());
+        setIfPresent(update, root, "hoursPerWeek", changes.getHoursPerWeek());
+        setIfPresent(update, root, "startDate", changes.getStartDate());
+
+        // same rules as EmployeeService.update: ongoing=true clears the finish date
+        boolean ongoing = Boolean.TRUE.equals(changes.getOngoing());
+        if (changes.getOngoing() != null) {
+            update.set(root.<Boolean>get("ongoing"), changes.getOngoing());
+        }
+        if (ongoing) {
+            update.set(root.<LocalDate>get("finishDate"), cb.nullLiteral(LocalDate.class));
+        } else if (changes.getFinishDate() != null) {
+            update.set(root.<LocalDate>get("finishDate"), changes.getFinishDate());
+        }
+        setEmploymentStatus(update, root, cb, changes, ongoing, today);
+
+        update.set(root.<LocalDateTime>get("updatedAt"), now);
+        Path<Long> version = root.get("version");
+        update.set(version, cb.sum(version, 1L));
+
+        Predicate predicate = where.toPredicate(root, null, cb);
+        if (predicate != null) {
+            update.where(predicate);
+        }
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public List<Long> findIdsAfter(Specification<Employee> where, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Employee> root = query.from(Employee.class);
+        Path<Long> id = root.get("id");
+
+        Predicate predicate = where.toPredicate(root, query, cb);
+        if (afterId != null) {
+            predicate = predicate == null ? cb.greaterThan(id, afterId) : cb.and(predicate, cb.greaterThan(id, afterId));
+        }
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(id).orderBy(cb.asc(id));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    @Transactional
+    public int deleteWhere(Specification<Employee> where) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<Employee> delete = cb.createCriteriaDelete(Employee.class);
+        Root<Employee> root = delete.from(Employee.class);
+        Predicate predicate = where.toPredicate(root, null, cb);
+        if (predicate != null) {
+            delete.where(predicate);
+        }
+        return entityManager.createQuery(delete).executeUpdate();
+    }
+
+    // EmploymentStatus.of over the new dates where they were sent and the stored ones where they weren't.
+    // The CASE only reads columns this statement doesn't set, so MySQL's left-to-right SET order doesn't matter
+    private void setEmploymentStatus(CriteriaUpdate<Employee> update, Root<Employee> root, CriteriaBuilder cb,
+            UpdateEmployeeDTO changes, boolean ongoing, LocalDate today) {
+        boolean finishKnown = ongoing || changes.getFinishDate() != null;
+        boolean startKnown = changes.getStartDate() != null;
+        if (!finishKnown && !startKnown) {
+            return; // neither date changes, neither does the status
+        }
+        Path<EmploymentStatus> status = root.get("employmentStatus");
+        LocalDate finishDate = ongoing ? null : changes.getFinishDate();
+
+        if (startKnown && finishKnown) {
+            update.set(status, EmploymentStatus.of(changes.getStartDate(), finishDate, today));
+            return;
+        }
+        if (finishKnown && finishDate != null && finishDate.isBefore(today)) {
+            update.set(status, EmploymentStatus.ENDED);
+            return;
+        }
+
+        CriteriaBuilder.Case<EmploymentStatus> statusCase = cb.selectCase();
+        if (!finishKnown) {
+            statusCase = statusCase.when(cb.lessThan(root.<LocalDate>get("finishDate"), today), EmploymentStatus.ENDED);
+        }
+        Expression<EmploymentStatus> newStatus;
+        if (startKnown) {
+            newStatus = statusCase.otherwise(changes.getStartDate().isAfter(today) ? EmploymentStatus.FUTURE : EmploymentStatus.ACTIVE);
+        } else {
+            newStatus = statusCase.when(cb.greaterThan(root.<LocalDate>get("startDate"), today), EmploymentStatus.FUTURE)
+                    .otherwise(EmploymentStatus.ACTIVE);
+        }
+        update.set(status, newStatus);
+    }
+
+    private static <Y> void setIfPresent(CriteriaUpdate<Employee> update, Root<Employee> root, String attribute, Y value) {
+        if (value != null) {
+            update.set(root.<Y>get(attribute), value);
+        }
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+}
@@ -0,0 +1,21 @@
+package nology.employeecreator.employee;
+
+import java.time.LocalDate;
+
+// Stored on Employee so the active/inactive search filter is an indexed equality lookup.
+// Derived from the dates on every write and moved on daily by EmploymentStatusRefresher
+public enum EmploymentStatus {
+    ACTIVE, ENDED, FUTURE;
+
+    // Same rule the isActive filter used to evaluate per row: ended once the finish date has passed.
+    // ACTIVE and FUTURE both count as active
+    public static EmploymentStatus of(LocalDate startDate, LocalDate finishDate, LocalDate today) {
+        if (finishDate != null && finishDate.isBefore(today)) {
+            return ENDED;
+        }
+        if (startDate != null && startDate.isAfter(today)) {
+            return FUTURE;
+        }
+        return ACTIVE;
+    }
+}
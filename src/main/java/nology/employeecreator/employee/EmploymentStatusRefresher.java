@@ -0,0 +1,57 @@
+package nology.employeecreator.employee;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/* Moves Employee.employmentStatus on as the dates pass: ENDED once the finish date is in the past, ACTIVE once a
+   FUTURE starter's start date is reached. Writes keep the status right for the day they happen, this catches up
+   every row whose dates were crossed since.
+
+   Runs shortly after midnight (employee.status.refresh-cron) and once at startup, in case the app was down then.
+   Both statements are indexed on (employment_status, ...) and only touch the rows that change */
+
+@Component
+public class EmploymentStatusRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(EmploymentStatusRefresher.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeSearchCache searchCache;
+    private final EmployeeDetailCache detailCache;
+
+    public EmploymentStatusRefresher(EmployeeRepository employeeRepository, EmployeeSearchCache searchCache,
+            EmployeeDetailCache detailCache) {
+        this.employeeRepository = employeeRepository;
+        this.searchCache = searchCache;
+        this.detailCache = detailCache;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${employee.status.refresh-cron:0 5 0 * * *}")
+    public void refreshToday() {
+        refresh(LocalDate.now());
+    }
+
+    // Returns the number of rows whose status changed
+    public int refresh(LocalDate today) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int ended = employeeRepository.markEnded(today, now);
+        int started = employeeRepository.markStarted(today, now);
+
+        if (ended + started > 0) {
+            // search results changed, and the cached details carry the old updatedAt
+            searchCache.invalidate();
+            detailCache.invalidateAll();
+            log.info("Employment status refreshed for {}: {} ended, {} started", today, ended, started);
+        }
+        return ended + started;
+    }
+}
@@ -0,0 +1,43 @@
+package nology.employeecreator.employee;
+
+import org.springframework.http.MediaType;
+
+import nology.employeecreator.common.exceptions.BadRequestException;
+
+// ?format= of GET /api/employees/all and POST /api/employees/exports
+public enum ExportFormat {
+
+    // one EmployeeResponse JSON object per line
+    NDJSON("ndjson", "employees.ndjson", MediaType.APPLICATION_NDJSON),
+    // header row of EmployeeResponse field names, one employee per row (can be sent back to POST /bulk)
+    CSV("csv", "employees.csv", EmployeeBulkImportService.TEXT_CSV),
+    // binary, column by column, see EmployeeColumnarFormat
+    COLUMNAR("columnar", "employees.ecol", EmployeeColumnarFormat.MEDIA_TYPE);
+
+    private final String param;
+    private final String fileName;
+    private final MediaType mediaType;
+
+    ExportFormat(String param, String fileName, MediaType mediaType) {
+        this.param = param;
+        this.fileName = fileName;
+        this.mediaType = mediaType;
+    }
+
+    public static ExportFormat fromParam(String param) {
+        for (ExportFormat format : values()) {
+            if (format.param.equalsIgnoreCase(param)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Unsupported export format: " + param + " (use ndjson, csv or columnar)");
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,7 @@
+package nology.employeecreator.employee;
+
+// How the name search term is matched
+public enum NameSearchMode {
+    CONTAINS,   // term anywhere in first/last name - flexible but can't use an index
+    PREFIX      // first/last name starts with term - served by the *_name_lower indexes
+}
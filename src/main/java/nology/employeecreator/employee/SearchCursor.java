@@ -0,0 +1,104 @@
+package nology.employeecreator.employee;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+
+import nology.employeecreator.common.exceptions.BadRequestException;
+
+/* Position of the last row returned by a keyset-paginated search: the value of the sort column and the id.
+   It is sent to clients as an opaque Base64 string (nextCursor) and handed back to fetch the following page */
+
+public class SearchCursor {
+
+    // Not contractType: MySQL orders an ENUM column by the position of the value in its definition but compares it
+    // with a string as a string, so a "rows after this value" condition wouldn't match the ORDER BY
+    private static final Set<String> SORT_FIELDS = Set.of("firstName", "lastName", "email", "startDate");
+
+    private final String sortField;
+    private final Sort.Direction direction;
+    private final Long id;
+    private final Object sortValue; // may be null (e.g. employee without a start date)
+
+    public SearchCursor(String sortField, Sort.Direction direction, Long id, Object sortValue) {
+        this.sortField = sortField;
+        this.direction = direction;
+        this.id = id;
+        this.sortValue = sortValue;
+    }
+
+    // Builds the cursor pointing just after the given employee
+    public static SearchCursor of(Employee employee, String sortField, Sort.Direction direction) {
+        Object value;
+        switch (sortField) {
+            case "firstName": value = employee.getFirstName(); break;
+            case "lastName": value = employee.getLastName(); break;
+            case "email": value = employee.getEmail(); break;
+            case "startDate": value = employee.getStartDate(); break;
+            default: throw new IllegalArgumentException("Unsupported keyset sort field: " + sortField);
+        }
+        return new SearchCursor(sortField, direction, employee.getId(), value);
+    }
+
+    // Whether keyset pagination can sort by this (already validated, see EmployeeService.createSort) field
+    public static boolean supportsSortField(String sortField) {
+        return SORT_FIELDS.contains(sortField);
+    }
+
+    /* ----------------------------- ENCODE / DECODE ----------------------------- */
+    // Format before Base64: sortField|direction|id|value - the value goes last because it may contain '|',
+    // and an empty value part means null (a present value is prefixed with '=')
+    public String encode() {
+        String value = sortValue == null ? "" : "=" + sortValue;
+        String raw = sortField + "|" + direction.name() + "|" + id + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            String sortField = parts[0];
+            Sort.Direction direction = Sort.Direction.valueOf(parts[1]);
+            Long id = Long.valueOf(parts[2]);
+            Object value = parts[3].isEmpty() ? null : parseValue(sortField, parts[3].substring(1));
+            return new SearchCursor(sortField, direction, id, value);
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid search cursor");
+        }
+    }
+
+    private static Object parseValue(String sortField, String value) {
+        switch (sortField) {
+            case "firstName":
+            case "lastName":
+            case "email":
+                return value;
+            case "startDate":
+                return LocalDate.parse(value);
+            default:
+                throw new IllegalArgumentException("Unsupported keyset sort field: " + sortField);
+        }
+    }
+
+    /* --------------------------------- GETTERS -------------------------------- */
+
+    public String getSortField() {
+        return sortField;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Object getSortValue() {
+        return sortValue;
+    }
+}
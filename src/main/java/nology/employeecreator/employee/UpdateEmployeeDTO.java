@@ -43,6 +43,9 @@ public class UpdateEmployeeDTO {
     @Size(max = 500)
     private String thumbnailUrl;
 
+    // Optional: the version the client last read (EmployeeResponseDTO.version). A stale one is rejected with 409
+    private Long version;
+
     /* --------------------------- getters and setters -------------------------- */
 
     public EmployeeRole getRole() {
@@ -158,6 +161,14 @@ public class UpdateEmployeeDTO {
         this.thumbnailUrl = thumbnailUrl;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
 
 
 
@@ -0,0 +1,180 @@
+package nology.employeecreator.job;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+// One row per background job (see JobService). The real schema comes from db/migration/V5__create_jobs_table.sql
+// The worker changes it through the @Modifying queries of JobRepository only, so it never overwrites cancelRequested
+@Entity
+@Table(name = "jobs", indexes = {
+    // the hourly purge of expired artifacts
+    @Index(name = "idx_jobs_status_finished_at", columnList = "status, finished_at")
+})
+public class Job {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false)
+    private JobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobStatus status;
+
+    // in the job's own unit: rows for exports, bytes of the upload for imports
+    private long processed;
+
+    private Long total;
+
+    // why it failed, or a short summary of the result
+    @Column(length = 1000)
+    private String message;
+
+    // set by POST /api/jobs/{id}/cancel, checked by the worker between units of work
+    @Column(name = "cancel_requested")
+    private boolean cancelRequested;
+
+    // the request body of an import, saved before the job is queued
+    @Column(name = "input_path", length = 1000)
+    private String inputPath;
+
+    @Column(name = "artifact_path", length = 1000)
+    private String artifactPath;
+
+    @Column(name = "artifact_name")
+    private String artifactName;
+
+    @Column(name = "artifact_content_type", length = 100)
+    private String artifactContentType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /* --------------------------- getters and setters -------------------------- */
+
+    public Long getId() {
+        return id;
+    }
+
+    public JobType getType() {
+        return type;
+    }
+
+    public void setType(JobType type) {
+        this.type = type;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobStatus status) {
+        this.status = status;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public void setCancelRequested(boolean cancelRequested) {
+        this.cancelRequested = cancelRequested;
+    }
+
+    public String getInputPath() {
+        return inputPath;
+    }
+
+    public void setInputPath(String inputPath) {
+        this.inputPath = inputPath;
+    }
+
+    public String getArtifactPath() {
+        return artifactPath;
+    }
+
+    public void setArtifactPath(String artifactPath) {
+        this.artifactPath = artifactPath;
+    }
+
+    public String getArtifactName() {
+        return artifactName;
+    }
+
+    public void setArtifactName(String artifactName) {
+        this.artifactName = artifactName;
+    }
+
+    public String getArtifactContentType() {
+        return artifactContentType;
+    }
+
+    public void setArtifactContentType(String artifactContentType) {
+        this.artifactContentType = artifactContentType;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,9 @@
+package nology.employeecreator.job;
+
+// Thrown inside a job by JobContext once cancel has been requested; JobService marks the job CANCELLED
+public class JobCancelledException extends RuntimeException {
+
+    public JobCancelledException(Long id) {
+        super("Job " + id + " was cancelled");
+    }
+}
@@ -0,0 +1,29 @@
+package nology.employeecreator.job;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/* What a running JobTask gets from JobService: where to read its input and write its artifact, and how to report
+   progress. Progress is kept in memory and written to the jobs table at most every job.progress-interval */
+
+public interface JobContext {
+
+    // The request body saved when the job was submitted. Reading it reports progress in bytes and stops
+    // with JobCancelledException once the job is cancelled
+    InputStream input() throws IOException;
+
+    // The file that GET /api/jobs/{id}/artifact serves once the job has succeeded
+    OutputStream artifact() throws IOException;
+
+    // null = unknown (no percentage)
+    void setTotal(Long total);
+
+    void setProgress(long processed);
+
+    // Short summary shown with the finished job, e.g. "42 created, 3 failed"
+    void setMessage(String message);
+
+    // Throws JobCancelledException if the job has been cancelled - call it between units of work
+    void checkCancelled();
+}
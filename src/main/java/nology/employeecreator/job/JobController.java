@@ -0,0 +1,52 @@
+package nology.employeecreator.job;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import nology.employeecreator.common.exceptions.NotFoundException;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class JobController {
+
+    private final JobService jobService;
+
+    public JobController(JobService jobService) {
+        this.jobService = jobService;
+    }
+
+    /* ----------------------------- GET /api/jobs/{id} ----------------------------- */
+    // Status and progress of a job; poll it until status is SUCCEEDED, FAILED or CANCELLED
+    @GetMapping("/{id}")
+    public JobDTO getJob(@PathVariable Long id) throws NotFoundException {
+        return jobService.get(id);
+    }
+
+    /* ------------------------- POST /api/jobs/{id}/cancel ------------------------- */
+    // 409 if the job has already finished
+    @PostMapping("/{id}/cancel")
+    public JobDTO cancelJob(@PathVariable Long id) throws NotFoundException {
+        return jobService.cancel(id);
+    }
+
+    /* ------------------------- GET /api/jobs/{id}/artifact ------------------------- */
+    // The file a succeeded job produced, served from disk (409 before that, 404 once it has expired)
+    @GetMapping("/{id}/artifact")
+    public ResponseEntity<Resource> getArtifact(@PathVariable Long id) throws NotFoundException {
+        JobService.JobArtifact artifact = jobService.getArtifact(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(artifact.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(artifact.fileName()).build().toString())
+                .body(new FileSystemResource(artifact.path()));
+    }
+}
@@ -0,0 +1,54 @@
+package nology.employeecreator.job;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface JobRepository extends JpaRepository<Job, Long> {
+
+    // JPQL enum literals have to be fully qualified
+    String STATUS = "nology.employeecreator.job.JobStatus";
+
+    // QUEUED -> RUNNING, unless it was cancelled while waiting in the queue
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = " + STATUS + ".RUNNING, j.startedAt = :now " +
+           "WHERE j.id = :id AND j.status = " + STATUS + ".QUEUED AND j.cancelRequested = false")
+    int markRunning(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = :status, j.message = :message, j.processed = :processed, j.total = :total, " +
+           "j.artifactPath = :artifactPath, j.finishedAt = :now WHERE j.id = :id")
+    int markFinished(@Param("id") Long id, @Param("status") JobStatus status, @Param("message") String message,
+            @Param("processed") long processed, @Param("total") Long total, @Param("artifactPath") String artifactPath,
+            @Param("now") LocalDateTime now);
+
+    // Progress flush of a running job, at most every job.progress-interval
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.processed = :processed, j.total = :total WHERE j.id = :id")
+    int updateProgress(@Param("id") Long id, @Param("processed") long processed, @Param("total") Long total);
+
+    // Read with every progress flush, so a cancel sent to another instance reaches the worker too
+    @Query("SELECT j.cancelRequested FROM Job j WHERE j.id = :id")
+    boolean isCancelRequested(@Param("id") Long id);
+
+    // Only unfinished jobs can be cancelled; returns 0 for finished or missing ones
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.cancelRequested = true WHERE j.id = :id AND j.status IN :statuses")
+    int requestCancel(@Param("id") Long id, @Param("statuses") Collection<JobStatus> statuses);
+
+    List<Job> findByStatusIn(Collection<JobStatus> statuses);
+
+    List<Job> findByStatusInAndFinishedAtBefore(Collection<JobStatus> statuses, LocalDateTime finishedBefore);
+}
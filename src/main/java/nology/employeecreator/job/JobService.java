@@ -0,0 +1,454 @@
+package nology.employeecreator.job;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import nology.employeecreator.common.exceptions.ConflictException;
+import nology.employeecreator.common.exceptions.NotFoundException;
+import nology.employeecreator.common.exceptions.ServiceUnavailableException;
+
+/* Runs long exports and imports off the request thread. POST answers 202 with the job, the client polls
+   GET /api/jobs/{id} and downloads the artifact when it is done.
+
+   - bounded: job.executor.threads workers and a queue of job.executor.queue-capacity. Beyond that submit answers
+     503, so a burst of exports can't drain the Hikari pool. A worker holds at most one DB connection at a time:
+     progress and cancel requests are written and read by a single progress thread of its own (one more connection
+     while it flushes), never from inside a task's transaction such as an export's open cursor
+   - persistent: every job is a row in the jobs table, so its status survives the worker and can be read by any
+     instance. Jobs that were queued or running when the app stopped are marked FAILED at the next start
+     (this assumes jobs are only run by the instance that accepted them)
+   - artifacts are files under job.artifacts.dir, written to a .part file and renamed when the job succeeds.
+     Finished jobs and their files are purged after job.artifacts.retention */
+
+@Service
+public class JobService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobService.class);
+
+    private static final List<JobStatus> UNFINISHED = List.of(JobStatus.QUEUED, JobStatus.RUNNING);
+    private static final List<JobStatus> FINISHED = List.of(JobStatus.SUCCEEDED, JobStatus.FAILED, JobStatus.CANCELLED);
+
+    private final JobRepository jobRepository;
+    private final TransactionTemplate progressTransaction;
+    private final ThreadPoolTaskExecutor executor;
+    private final ThreadPoolTaskScheduler progressFlusher;
+    private final Path artifactsDir;
+    private final Duration retention;
+
+    // jobs running on this instance - live progress for GET and immediate cancellation
+    private final Map<Long, RunningJob> running = new ConcurrentHashMap<>();
+
+    public JobService(JobRepository jobRepository, PlatformTransactionManager transactionManager,
+            @Value("${job.executor.threads:2}") int threads,
+            @Value("${job.executor.queue-capacity:10}") int queueCapacity,
+            @Value("${job.artifacts.dir:${java.io.tmpdir}/employeecreator-jobs}") String artifactsDir,
+            @Value("${job.artifacts.retention:24h}") Duration retention,
+            @Value("${job.progress-interval:1s}") Duration progressInterval) {
+        this.jobRepository = jobRepository;
+        this.progressTransaction = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+
+        this.artifactsDir = Paths.get(artifactsDir);
+        try {
+            Files.createDirectories(this.artifactsDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't create the job artifacts directory " + artifactsDir, e);
+        }
+
+        // not a bean, so Spring Boot's own applicationTaskExecutor (used for streamed responses) stays as it is
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("job-");
+        executor.initialize();
+
+        this.progressFlusher = new ThreadPoolTaskScheduler();
+        progressFlusher.setPoolSize(1);
+        progressFlusher.setThreadNamePrefix("job-progress-");
+        progressFlusher.initialize();
+        progressFlusher.scheduleWithFixedDelay(this::flushProgress, progressInterval);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // running jobs are interrupted and marked FAILED at the next start
+        executor.shutdown();
+        progressFlusher.shutdown();
+    }
+
+    /* --------------------------------- SUBMIT --------------------------------- */
+    // Saves the job (and input, if given, e.g. an uploaded file) and queues it. Returns as soon as it is queued
+    public JobDTO submit(JobType type, String artifactName, String artifactContentType, InputStream input, JobTask task) {
+        // don't take a whole upload only to reject it afterwards
+        if (isFull()) {
+            throw new ServiceUnavailableException("Too many jobs queued, try again later");
+        }
+
+        Job job = new Job();
+        job.setType(type);
+        job.setStatus(JobStatus.QUEUED);
+        job.setArtifactName(artifactName);
+        job.setArtifactContentType(artifactContentType);
+        job.setCreatedAt(now());
+        job = jobRepository.save(job);
+        Long id = job.getId();
+
+        Path inputPath = null;
+        try {
+            if (input != null) {
+                inputPath = artifactsDir.resolve("job-" + id + ".input");
+                Files.copy(input, inputPath, StandardCopyOption.REPLACE_EXISTING);
+                job.setInputPath(inputPath.toString());
+                job = jobRepository.save(job);
+            }
+            Job queued = job;
+            executor.execute(() -> run(queued, task));
+        } catch (IOException | TaskRejectedException e) {
+            deleteQuietly(inputPath);
+            jobRepository.deleteById(id);
+            if (e instanceof IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+            throw new ServiceUnavailableException("Too many jobs queued, try again later");
+        }
+        log.info("Job {} ({}) queued", id, type);
+        return toDTO(job);
+    }
+
+    private boolean isFull() {
+        return executor.getActiveCount() >= executor.getMaxPoolSize()
+                && executor.getThreadPoolExecutor().getQueue().remainingCapacity() == 0;
+    }
+
+    /* ---------------------------------- READ ---------------------------------- */
+    // read-write transaction, so the status comes from the primary even when reads go to replicas
+    @Transactional
+    public JobDTO get(Long id) throws NotFoundException {
+        return toDTO(find(id));
+    }
+
+    // The finished artifact on disk; 409 while the job hasn't succeeded
+    @Transactional
+    public JobArtifact getArtifact(Long id) throws NotFoundException {
+        Job job = find(id);
+        if (job.getStatus() != JobStatus.SUCCEEDED || job.getArtifactPath() == null) {
+            throw new ConflictException("Job " + id + " has no artifact (status " + job.getStatus() + ")");
+        }
+        Path path = Paths.get(job.getArtifactPath());
+        if (!Files.exists(path)) {
+            throw new NotFoundException("The artifact of job " + id + " has expired");
+        }
+        return new JobArtifact(path, job.getArtifactName(), job.getArtifactContentType());
+    }
+
+    public record JobArtifact(Path path, String fileName, String contentType) {
+    }
+
+    private Job find(Long id) throws NotFoundException {
+        return jobRepository.findById(id).orElseThrow(() -> new NotFoundException("Job with id " + id + " not found"));
+    }
+
+    /* --------------------------------- CANCEL --------------------------------- */
+    // A queued job won't start, a running one stops at its next checkCancelled(). 409 once it has finished
+    @Transactional
+    public JobDTO cancel(Long id) throws NotFoundException {
+        if (jobRepository.requestCancel(id, UNFINISHED) == 0) {
+            Job job = find(id);
+            throw new ConflictException("Job " + id + " has already finished (status " + job.getStatus() + ")");
+        }
+        RunningJob runningJob = running.get(id);
+        if (runningJob != null) {
+            runningJob.cancelled = true;
+        }
+        return get(id);
+    }
+
+    /* --------------------------------- WORKER --------------------------------- */
+    // job is the row as submitted - the worker doesn't read it back, a read-only findById could hit a lagging replica
+    private void run(Job job, JobTask task) {
+        Long id = job.getId();
+        if (jobRepository.markRunning(id, now()) == 0) {
+            jobRepository.markFinished(id, JobStatus.CANCELLED, "Cancelled before it started", 0, null, null, now());
+            deleteQuietly(job.getInputPath());
+            return;
+        }
+
+        RunningJob context = new RunningJob(job);
+        running.put(id, context);
+        try {
+            task.run(context);
+            String artifactPath = context.finishArtifact();
+            jobRepository.markFinished(id, JobStatus.SUCCEEDED, context.message, context.processed, context.total,
+                    artifactPath, now());
+            log.info("Job {} ({}) succeeded after {} units", id, job.getType(), context.processed);
+        } catch (Exception e) {
+            if (context.cancelled || e instanceof JobCancelledException) {
+                jobRepository.markFinished(id, JobStatus.CANCELLED, "Cancelled", context.processed, context.total, null, now());
+                log.info("Job {} ({}) cancelled", id, job.getType());
+            } else {
+                jobRepository.markFinished(id, JobStatus.FAILED, truncate(String.valueOf(e.getMessage())),
+                        context.processed, context.total, null, now());
+                log.warn("Job {} ({}) failed", id, job.getType(), e);
+            }
+        } finally {
+            running.remove(id);
+            context.closeQuietly();
+            deleteQuietly(context.partPath);
+            deleteQuietly(job.getInputPath());
+        }
+    }
+
+    // What a JobTask sees of its job. Only the worker thread calls these, except for the cancelled flag
+    private final class RunningJob implements JobContext {
+
+        final Job job;
+        final Path partPath;
+        volatile boolean cancelled;
+        volatile long processed;
+        volatile Long total;
+        volatile String message;
+        InputStream input;
+        OutputStream artifact;
+
+        RunningJob(Job job) {
+            this.job = job;
+            this.partPath = artifactsDir.resolve("job-" + job.getId() + ".part");
+        }
+
+        @Override
+        public InputStream input() throws IOException {
+            if (job.getInputPath() == null) {
+                throw new IllegalStateException("Job " + job.getId() + " has no input");
+            }
+            if (input == null) {
+                Path path = Paths.get(job.getInputPath());
+                setTotal(Files.size(path));
+                input = new ProgressInputStream(Files.newInputStream(path), this);
+            }
+            return input;
+        }
+
+        @Override
+        public OutputStream artifact() throws IOException {
+            if (artifact == null) {
+                artifact = new BufferedOutputStream(Files.newOutputStream(partPath));
+            }
+            return artifact;
+        }
+
+        @Override
+        public void setTotal(Long total) {
+            this.total = total;
+        }
+
+        @Override
+        public void setProgress(long processed) {
+            this.processed = processed;
+        }
+
+        @Override
+        public void setMessage(String message) {
+            this.message = truncate(message);
+        }
+
+        // Only reads the flag - cancel() and flushProgress() set it, so no query runs on the worker
+        @Override
+        public void checkCancelled() {
+            if (cancelled) {
+                throw new JobCancelledException(job.getId());
+            }
+        }
+
+        // Closes the artifact and moves it to its final name; null if the task didn't write one
+        String finishArtifact() throws IOException {
+            if (artifact == null) {
+                return null;
+            }
+            artifact.close();
+            Path target = artifactsDir.resolve("job-" + job.getId() + "-" + job.getArtifactName());
+            Files.move(partPath, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target.toString();
+        }
+
+        void closeQuietly() {
+            for (AutoCloseable closeable : new AutoCloseable[] { input, artifact }) {
+                if (closeable != null) {
+                    try {
+                        closeable.close();
+                    } catch (Exception e) {
+                        log.debug("Closing a stream of job {} failed", job.getId(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    // Counts the bytes read as the job's progress and stops reading once the job is cancelled
+    private static final class ProgressInputStream extends FilterInputStream {
+
+        private final JobContext context;
+        private long bytesRead;
+
+        ProgressInputStream(InputStream in, JobContext context) {
+            super(in);
+            this.context = context;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                advance(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                advance(count);
+            }
+            return count;
+        }
+
+        private void advance(long count) {
+            bytesRead += count;
+            context.setProgress(bytesRead);
+            context.checkCancelled();
+        }
+    }
+
+    /* --------------------------------- PROGRESS --------------------------------- */
+    // Every job.progress-interval: writes the progress of the jobs running here and picks up cancels sent to another
+    // instance. Runs on the progress thread, never inside a task's transaction
+    private void flushProgress() {
+        for (RunningJob runningJob : running.values()) {
+            Long id = runningJob.job.getId();
+            try {
+                boolean cancelRequested = progressTransaction.execute(status -> {
+                    jobRepository.updateProgress(id, runningJob.processed, runningJob.total);
+                    return jobRepository.isCancelRequested(id);
+                });
+                if (cancelRequested) {
+                    runningJob.cancelled = true;
+                }
+            } catch (RuntimeException e) {
+                // try again next time, an exception would stop the schedule
+                log.warn("Could not save the progress of job {}", id, e);
+            }
+        }
+    }
+
+    /* ------------------------------- HOUSEKEEPING ------------------------------- */
+    // Jobs this instance was running when it stopped can't be resumed
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void failInterruptedJobs() {
+        for (Job job : jobRepository.findByStatusIn(UNFINISHED)) {
+            jobRepository.markFinished(job.getId(), JobStatus.FAILED, "Interrupted by a restart", job.getProcessed(),
+                    job.getTotal(), null, now());
+            deleteQuietly(job.getInputPath());
+            deleteQuietly(artifactsDir.resolve("job-" + job.getId() + ".part"));
+            log.info("Job {} ({}) was interrupted by a restart", job.getId(), job.getType());
+        }
+    }
+
+    // Deletes finished jobs older than job.artifacts.retention together with their artifacts
+    @Scheduled(cron = "${job.cleanup-cron:0 15 * * * *}")
+    @Transactional
+    public void purgeExpiredJobs() {
+        List<Job> expired = jobRepository.findByStatusInAndFinishedAtBefore(FINISHED, now().minus(retention));
+        for (Job job : expired) {
+            deleteQuietly(job.getArtifactPath());
+        }
+        jobRepository.deleteAllInBatch(expired);
+        if (!expired.isEmpty()) {
+            log.info("Purged {} expired jobs", expired.size());
+        }
+    }
+
+    /* --------------------------------- HELPERS --------------------------------- */
+
+    private JobDTO toDTO(Job job) {
+        JobDTO dto = new JobDTO();
+        dto.setId(job.getId());
+        dto.setType(job.getType());
+        dto.setStatus(job.getStatus());
+        dto.setMessage(job.getMessage());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+
+        // the row is only updated every progress-interval, the worker on this instance knows better
+        RunningJob runningJob = running.get(job.getId());
+        long processed = runningJob != null && job.getStatus() == JobStatus.RUNNING ? runningJob.processed : job.getProcessed();
+        Long total = runningJob != null && job.getStatus() == JobStatus.RUNNING ? runningJob.total : job.getTotal();
+        dto.setProcessed(processed);
+        dto.setTotal(total);
+        if (total != null && total > 0) {
+            dto.setPercent((int) Math.min(100, processed * 100 / total));
+        } else if (job.getStatus() == JobStatus.SUCCEEDED) {
+            dto.setPercent(100);
+        }
+        if (job.getStatus() == JobStatus.SUCCEEDED && job.getArtifactPath() != null) {
+            dto.setArtifactUrl("/api/jobs/" + job.getId() + "/artifact");
+        }
+        return dto;
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static String truncate(String message) {
+        return message == null || message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+
+    private static void deleteQuietly(String path) {
+        if (path != null) {
+            deleteQuietly(Paths.get(path));
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete {}", path, e);
+        }
+    }
+}
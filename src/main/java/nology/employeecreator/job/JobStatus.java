@@ -0,0 +1,10 @@
+package nology.employeecreator.job;
+
+// QUEUED -> RUNNING -> SUCCEEDED / FAILED / CANCELLED. A queued job can also be cancelled before it starts
+public enum JobStatus {
+    QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,8 @@
+package nology.employeecreator.job;
+
+// The work of a job, run on a JobService worker thread. Throwing fails the job (or cancels it, if cancel was requested)
+@FunctionalInterface
+public interface JobTask {
+
+    void run(JobContext context) throws Exception;
+}
@@ -0,0 +1,6 @@
+package nology.employeecreator.job;
+
+// What a job does - also the first part of its artifact's file name
+public enum JobType {
+    EMPLOYEE_EXPORT, EMPLOYEE_IMPORT
+}
@@ -0,0 +1,25 @@
+-- Baseline: the employees table as spring.jpa.hibernate.ddl-auto=update created it from the original Employee entity.
+-- Databases that already have the table are baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+-- Everything added to the entity since is in a later migration
+
+CREATE TABLE employees (
+    id                  BIGINT NOT NULL AUTO_INCREMENT,
+    first_name          VARCHAR(200) NOT NULL,
+    middle_name         VARCHAR(200),
+    last_name           VARCHAR(200) NOT NULL,
+    thumbnail_url       VARCHAR(500),
+    email               VARCHAR(200) NOT NULL,
+    mobile_number       VARCHAR(255),
+    residential_address VARCHAR(255),
+    role                ENUM('ADMIN', 'HR', 'MANAGER', 'EMPLOYEE', 'INTERN', 'CONTRACTOR') NOT NULL,
+    contract_type       ENUM('PERMANENT', 'CONTRACT') NOT NULL,
+    start_date          DATE,
+    finish_date         DATE,
+    ongoing             BOOLEAN NOT NULL,
+    employment_basis    ENUM('FULL_TIME', 'PART_TIME') NOT NULL,
+    hours_per_week      INT,
+    created_at          DATETIME(6),
+    updated_at          DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_employees_email UNIQUE (email)
+);
@@ -0,0 +1,28 @@
+-- Indexes for the query shapes of /api/employees/search (EmployeeSpecifications.withFilters) and the dashboard.
+-- Only the filters that are set are in the WHERE clause, so MySQL sees plain equality / range predicates whether
+-- Connector/J sends the statements client- or server-side prepared (useCursorFetch=true makes them server-side).
+-- InnoDB appends the primary key to every secondary index, so each of these is also ordered by id - the tie-breaker
+-- of keyset pagination (sortField, id)
+
+-- Unfiltered list/search: ORDER BY <sort column> LIMIT n reads the first n index entries instead of sorting the table
+CREATE INDEX idx_employees_first_name ON employees (first_name);
+CREATE INDEX idx_employees_last_name ON employees (last_name);
+CREATE INDEX idx_employees_start_date ON employees (start_date);
+
+-- contractType filter with the default sort (firstName): equality prefix + sort column, no filesort
+CREATE INDEX idx_employees_contract_first_name ON employees (contract_type, first_name);
+
+-- contractType (+ employmentBasis) (+ isActive) filters. Covering for the COUNT query of those searches,
+-- and for GROUP BY contract_type on the dashboard
+CREATE INDEX idx_employees_contract_basis_finish ON employees (contract_type, employment_basis, finish_date);
+
+-- employmentBasis (+ isActive) filters without a contract type. Covering for the COUNT and for
+-- countByEmploymentBasis / countActiveByEmploymentBasis on the dashboard
+CREATE INDEX idx_employees_basis_finish ON employees (employment_basis, finish_date);
+
+-- isActive alone: inactive (finish_date < today) is one range, active (NULL or >= today) is two ranges
+-- of the same index
+CREATE INDEX idx_employees_finish_date ON employees (finish_date);
+
+-- countByRole on the dashboard reads the index instead of the rows
+CREATE INDEX idx_employees_role ON employees (role);
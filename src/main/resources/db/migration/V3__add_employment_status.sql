@@ -0,0 +1,27 @@
+-- Stored ACTIVE / ENDED / FUTURE status (Employee.employmentStatus), so the isActive filter is an indexed equality lookup
+-- instead of "finish_date IS NULL OR finish_date >= CURRENT_DATE" on every row. Kept current by EmploymentStatusRefresher
+
+ALTER TABLE employees ADD COLUMN employment_status ENUM('ACTIVE', 'ENDED', 'FUTURE') NULL;
+
+-- same rule as EmploymentStatus.of
+UPDATE employees SET employment_status = CASE
+    WHEN finish_date < CURRENT_DATE THEN 'ENDED'
+    WHEN start_date > CURRENT_DATE THEN 'FUTURE'
+    ELSE 'ACTIVE'
+END;
+
+ALTER TABLE employees MODIFY COLUMN employment_status ENUM('ACTIVE', 'ENDED', 'FUTURE') NOT NULL;
+
+-- the finish_date indexes from V2 served the old date comparison; the status takes its place
+DROP INDEX idx_employees_contract_basis_finish ON employees;
+DROP INDEX idx_employees_basis_finish ON employees;
+DROP INDEX idx_employees_finish_date ON employees;
+
+-- contractType (+ employmentBasis) (+ isActive) filters, covering for their COUNT and the contract type GROUP BY
+CREATE INDEX idx_employees_contract_basis_status ON employees (contract_type, employment_basis, employment_status);
+
+-- employmentBasis (+ isActive), covering for countByEmploymentBasis / countActiveByEmploymentBasis
+CREATE INDEX idx_employees_basis_status ON employees (employment_basis, employment_status);
+
+-- isActive alone, and the refresher's "status IN (...) AND finish_date < today" sweep
+CREATE INDEX idx_employees_status_finish ON employees (employment_status, finish_date);
@@ -0,0 +1,2 @@
+-- @Version column of Employee for optimistic locking (PUT /api/employees/{id} answers 409 on a stale version or If-Match)
+ALTER TABLE employees ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
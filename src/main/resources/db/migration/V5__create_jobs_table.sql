@@ -0,0 +1,22 @@
+-- Background jobs (JobService): exports and imports that run outside the request, polled with GET /api/jobs/{id}.
+-- The artifacts themselves are files under job.artifacts.dir; these rows point at them
+
+CREATE TABLE jobs (
+    id                    BIGINT NOT NULL AUTO_INCREMENT,
+    job_type              ENUM('EMPLOYEE_EXPORT', 'EMPLOYEE_IMPORT') NOT NULL,
+    status                ENUM('QUEUED', 'RUNNING', 'SUCCEEDED', 'FAILED', 'CANCELLED') NOT NULL,
+    processed             BIGINT NOT NULL DEFAULT 0,
+    total                 BIGINT,
+    message               VARCHAR(1000),
+    cancel_requested      BOOLEAN NOT NULL DEFAULT FALSE,
+    input_path            VARCHAR(1000),
+    artifact_path         VARCHAR(1000),
+    artifact_name         VARCHAR(255),
+    artifact_content_type VARCHAR(100),
+    created_at            DATETIME(6) NOT NULL,
+    started_at            DATETIME(6),
+    finished_at           DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_jobs_status_finished_at ON jobs (status, finished_at);
@@ -0,0 +1,37 @@
+package nology.reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+
+/* Read-only WebFlux + R2DBC variant of the employee API, for serving reads from a replica (mvn -Preactive, see pom.xml).
+   It answers the same GET /api/employees endpoints as EmployeeController with the same parameters and JSON, but never
+   blocks a thread on the database. Writes stay on the servlet app.
+
+   It lives outside nology.employeecreator so the servlet app's component scan never picks it up, and it reads
+   reactive.properties instead of application.properties */
+
+@SpringBootApplication(exclude = { DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class })
+public class ReactiveEmployeeApplication {
+
+    public static void main(String[] args) {
+        application().run(args);
+    }
+
+    // Spring MVC is on the classpath as well, so the web type has to be set explicitly
+    public static SpringApplicationBuilder application() {
+        return new SpringApplicationBuilder(ReactiveEmployeeApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .properties("spring.config.name=reactive");
+    }
+
+    // Netty rather than Tomcat, which is also on the classpath and would otherwise be picked first
+    @Bean
+    NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
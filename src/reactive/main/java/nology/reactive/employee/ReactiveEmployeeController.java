@@ -0,0 +1,104 @@
+package nology.reactive.employee;
+
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import nology.employeecreator.employee.EmployeeResponseDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/* The read endpoints of EmployeeController on WebFlux, with the same paths, parameters and JSON.
+
+   Anything returned as a Flux is written while the rows are read: Netty asks for more elements as the socket drains,
+   that demand goes back through the R2DBC driver, so a slow client slows the query down instead of filling memory.
+   Send Accept: application/x-ndjson to /search to get the page's rows streamed one per line (no COUNT) */
+
+@RestController
+@RequestMapping("/api/employees")
+@CrossOrigin(origins = { "http://localhost:5173", "http://120.0.0.1:5174", "https://emptalentforge.netlify.app" })
+public class ReactiveEmployeeController {
+
+    private final ReactiveEmployeeService employeeService;
+
+    public ReactiveEmployeeController(ReactiveEmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    /* ------------------------ SEARCH / FILTER ENDPOINT ------------------------ */
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<Page<EmployeeResponseDTO>> searchEmployees(
+        @RequestParam(required = false) String firstName,
+        @RequestParam(required = false) String lastName,
+        @RequestParam(required = false) String contractType,
+        @RequestParam(required = false) String employmentBasis,
+        @RequestParam(required = false) Boolean ongoing,
+        @RequestParam(required = false, defaultValue = "firstName") String sortBy,
+        @RequestParam(required = false, defaultValue = "asc") String sortDirection,
+        @RequestParam(required = false, defaultValue = "0") int page,
+        @RequestParam(required = false, defaultValue = "10") int size,
+        @RequestParam(required = false, defaultValue = "contains") String searchMode
+    ) {
+        return employeeService.advancedSearchWithPagination(firstName, lastName, contractType, employmentBasis, ongoing,
+                page, size, sortBy, sortDirection, searchMode);
+    }
+
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EmployeeResponseDTO> streamSearchEmployees(
+        @RequestParam(required = false) String firstName,
+        @RequestParam(required = false) String lastName,
+        @RequestParam(required = false) String contractType,
+        @RequestParam(required = false) String employmentBasis,
+        @RequestParam(required = false) Boolean ongoing,
+        @RequestParam(required = false, defaultValue = "firstName") String sortBy,
+        @RequestParam(required = false, defaultValue = "asc") String sortDirection,
+        @RequestParam(required = false, defaultValue = "0") int page,
+        @RequestParam(required = false, defaultValue = "10") int size,
+        @RequestParam(required = false, defaultValue = "contains") String searchMode
+    ) {
+        return employeeService.streamSearch(firstName, lastName, contractType, employmentBasis, ongoing,
+                page, size, sortBy, sortDirection, searchMode);
+    }
+
+    /* --------------------------- GET /api/employees --------------------------- */
+    // Paginated list, an unfiltered search
+    @GetMapping
+    public Mono<Page<EmployeeResponseDTO>> getAllEmployeesPaginated(
+        @RequestParam(required = false, defaultValue = "0") int page,
+        @RequestParam(required = false, defaultValue = "10") int size,
+        @RequestParam(required = false, defaultValue = "firstName") String sortBy,
+        @RequestParam(required = false, defaultValue = "asc") String sortDirection
+    ) {
+        return employeeService.advancedSearchWithPagination(null, null, null, null, null, page, size, sortBy, sortDirection, "contains");
+    }
+
+    /* ------------------------- GET /api/employees/all ------------------------- */
+    // A JSON array, written element by element
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<EmployeeResponseDTO> getAllEmployees() {
+        return employeeService.streamAllEmployees();
+    }
+
+    // ?format=ndjson (or Accept: application/x-ndjson), one employee per line
+    @GetMapping(value = "/all", params = "format=ndjson", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EmployeeResponseDTO> streamAllEmployees() {
+        return employeeService.streamAllEmployees();
+    }
+
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EmployeeResponseDTO> streamAllEmployeesByAccept() {
+        return employeeService.streamAllEmployees();
+    }
+
+    /* ------------------------ GET /api/employees/{id} ------------------------ */
+    // 404 (NotFoundException) when there is no such employee
+    @GetMapping("/{id}")
+    public Mono<EmployeeResponseDTO> getEmployee(@PathVariable Long id) {
+        return employeeService.findById(id);
+    }
+}
@@ -0,0 +1,160 @@
+package nology.reactive.employee;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import io.r2dbc.spi.Readable;
+import nology.employeecreator.employee.ContractType;
+import nology.employeecreator.employee.EmployeeResponseDTO;
+import nology.employeecreator.employee.EmployeeRole;
+import nology.employeecreator.employee.EmployeeSearchCache;
+import nology.employeecreator.employee.EmploymentBasis;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/* R2DBC version of the employee search and the other reads the API needs.
+
+   The filters are the same as EmployeeSpecifications.withFilters, and likewise only the ones that are set end up in the SQL.
+   Criteria come from EmployeeService.toSearchCriteria, so terms are already trimmed and lowercased and the prefix
+   pattern is already escaped with '!'. Rows are mapped straight to EmployeeResponseDTO - there is no entity here */
+
+@Repository
+public class ReactiveEmployeeRepository {
+
+    private static final String COLUMNS = "id, first_name, middle_name, last_name, email, mobile_number, residential_address, "
+            + "contract_type, start_date, finish_date, ongoing, employment_basis, hours_per_week, thumbnail_url, "
+            + "created_at, updated_at, version, role";
+
+    // Sort properties allowed by EmployeeService.createSort and their columns
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "firstName", "first_name",
+            "lastName", "last_name",
+            "email", "email",
+            "startDate", "start_date",
+            "contractType", "contract_type");
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveEmployeeRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /* --------------------------------- SEARCH --------------------------------- */
+    public Flux<EmployeeResponseDTO> findWithFilters(EmployeeSearchCache.Criteria criteria, Pageable pageable) {
+        Where where = where(criteria);
+        String sql = "SELECT " + COLUMNS + " FROM employees" + where.sql + orderBy(pageable.getSort())
+                + " LIMIT " + pageable.getPageSize() + " OFFSET " + pageable.getOffset();
+        return where.bind(databaseClient.sql(sql)).map(ReactiveEmployeeRepository::toResponseDTO).all();
+    }
+
+    public Mono<Long> countWithFilters(EmployeeSearchCache.Criteria criteria) {
+        Where where = where(criteria);
+        return where.bind(databaseClient.sql("SELECT COUNT(*) FROM employees" + where.sql))
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /* ---------------------------------- READS ---------------------------------- */
+    public Mono<EmployeeResponseDTO> findById(long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM employees WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveEmployeeRepository::toResponseDTO)
+                .one();
+    }
+
+    // Every employee in id order. Rows are read as the subscriber asks for them, so nothing is buffered
+    public Flux<EmployeeResponseDTO> streamAll() {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM employees ORDER BY id")
+                .map(ReactiveEmployeeRepository::toResponseDTO)
+                .all();
+    }
+
+    /* -------------------------------- HELPERS -------------------------------- */
+
+    // WHERE clause and its bind values, built from the criteria that are set
+    private record Where(String sql, Map<String, Object> values) {
+
+        DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec) {
+            for (Map.Entry<String, Object> value : values.entrySet()) {
+                spec = spec.bind(value.getKey(), value.getValue());
+            }
+            return spec;
+        }
+    }
+
+    private static Where where(EmployeeSearchCache.Criteria criteria) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> values = new LinkedHashMap<>();
+
+        // like EmployeeSpecifications.withFilters, the firstName term matches either name
+        if (criteria.firstName() != null) {
+            conditions.add("(LOWER(first_name) LIKE :firstName OR LOWER(last_name) LIKE :firstName)");
+            values.put("firstName", "%" + criteria.firstName() + "%");
+        }
+        if (criteria.namePrefix() != null) {
+            conditions.add("(first_name_lower LIKE :namePrefix ESCAPE '!' OR last_name_lower LIKE :namePrefix ESCAPE '!')");
+            values.put("namePrefix", criteria.namePrefix());
+        }
+        if (criteria.contractType() != null) {
+            conditions.add("contract_type = :contractType");
+            values.put("contractType", criteria.contractType().name());
+        }
+        if (criteria.employmentBasis() != null) {
+            conditions.add("employment_basis = :employmentBasis");
+            values.put("employmentBasis", criteria.employmentBasis().name());
+        }
+        if (criteria.isActive() != null) {
+            conditions.add(criteria.isActive()
+                    ? "employment_status IN ('ACTIVE', 'FUTURE')"
+                    : "employment_status = 'ENDED'");
+        }
+
+        String sql = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        return new Where(sql, values);
+    }
+
+    // id breaks ties so OFFSET pages don't overlap when the sort column has duplicates
+    private static String orderBy(Sort sort) {
+        StringBuilder sql = new StringBuilder(" ORDER BY ");
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Unsupported sort property " + order.getProperty());
+            }
+            sql.append(column).append(order.isAscending() ? " ASC, " : " DESC, ");
+        }
+        return sql.append("id").toString();
+    }
+
+    private static EmployeeResponseDTO toResponseDTO(Readable row) {
+        EmployeeResponseDTO response = new EmployeeResponseDTO();
+        response.setId(row.get("id", Long.class));
+        response.setFirstName(row.get("first_name", String.class));
+        response.setMiddleName(row.get("middle_name", String.class));
+        response.setLastName(row.get("last_name", String.class));
+        response.setEmail(row.get("email", String.class));
+        response.setMobileNumber(row.get("mobile_number", String.class));
+        response.setResidentialAddress(row.get("residential_address", String.class));
+        response.setContractType(ContractType.valueOf(row.get("contract_type", String.class)));
+        response.setStartDate(row.get("start_date", LocalDate.class));
+        response.setFinishDate(row.get("finish_date", LocalDate.class));
+        response.setOngoing(Boolean.TRUE.equals(row.get("ongoing", Boolean.class)));
+        response.setEmploymentBasis(EmploymentBasis.valueOf(row.get("employment_basis", String.class)));
+        response.setHoursPerWeek(row.get("hours_per_week", Integer.class));
+        response.setThumbnailUrl(row.get("thumbnail_url", String.class));
+        response.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        response.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        response.setVersion(row.get("version", Long.class));
+        response.setRole(EmployeeRole.valueOf(row.get("role", String.class)));
+        return response;
+    }
+}
@@ -0,0 +1,57 @@
+package nology.reactive.employee;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import nology.employeecreator.common.exceptions.NotFoundException;
+import nology.employeecreator.employee.EmployeeResponseDTO;
+import nology.employeecreator.employee.EmployeeSearchCache;
+import nology.employeecreator.employee.EmployeeService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/* Non-blocking counterpart of the read methods in EmployeeService. Parameters are validated and normalized by
+   EmployeeService.toSearchCriteria, so both APIs accept exactly the same values and fall back to the same defaults */
+
+@Service
+public class ReactiveEmployeeService {
+
+    private final ReactiveEmployeeRepository employeeRepository;
+
+    public ReactiveEmployeeService(ReactiveEmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    /* -------------------------- SEARCH FUNCTIONALITY -------------------------- */
+    // Same Page JSON as EmployeeService.advancedSearchWithPagination. The page query and the COUNT run concurrently
+    public Mono<Page<EmployeeResponseDTO>> advancedSearchWithPagination(String firstName, String lastName, String contractType,
+            String employmentBasis, Boolean ongoing, int page, int size, String sortBy, String sortDirection, String searchMode) {
+        EmployeeSearchCache.Criteria criteria = EmployeeService.toSearchCriteria(firstName, lastName, contractType, employmentBasis,
+                ongoing, page, size, sortBy, sortDirection, searchMode);
+        Pageable pageable = PageRequest.of(page, size, criteria.sort());
+
+        return Mono.zip(employeeRepository.findWithFilters(criteria, pageable).collectList(), employeeRepository.countWithFilters(criteria))
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    // Only the rows of one page, emitted as they are read and without the COUNT query
+    public Flux<EmployeeResponseDTO> streamSearch(String firstName, String lastName, String contractType,
+            String employmentBasis, Boolean ongoing, int page, int size, String sortBy, String sortDirection, String searchMode) {
+        EmployeeSearchCache.Criteria criteria = EmployeeService.toSearchCriteria(firstName, lastName, contractType, employmentBasis,
+                ongoing, page, size, sortBy, sortDirection, searchMode);
+        return employeeRepository.findWithFilters(criteria, PageRequest.of(page, size, criteria.sort()));
+    }
+
+    /* ---------------------------------- READS ---------------------------------- */
+    public Flux<EmployeeResponseDTO> streamAllEmployees() {
+        return employeeRepository.streamAll();
+    }
+
+    public Mono<EmployeeResponseDTO> findById(Long id) {
+        return employeeRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Employee with id " + id + " not found")));
+    }
+}
@@ -0,0 +1,161 @@
+package nology.reactive.employee;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.restassured.RestAssured;
+import nology.employeecreator.employee.EmploymentStatus;
+import nology.reactive.ReactiveEmployeeApplication;
+
+@SpringBootTest(classes = ReactiveEmployeeApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.config.name=reactive",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactivetest?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.r2dbc.username=sa",
+        "spring.r2dbc.password=" })
+public class ReactiveEmployeeEndToEndTest {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private DatabaseClient databaseClient;
+
+        // the schema normally comes from the servlet app (the replica is a copy of its database)
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            databaseClient.sql("DROP TABLE IF EXISTS employees").then().block();
+            databaseClient.sql("CREATE TABLE employees (id BIGINT AUTO_INCREMENT PRIMARY KEY, first_name VARCHAR(200), "
+                    + "middle_name VARCHAR(200), last_name VARCHAR(200), first_name_lower VARCHAR(200), last_name_lower VARCHAR(200), "
+                    + "email VARCHAR(200), mobile_number VARCHAR(255), residential_address VARCHAR(255), thumbnail_url VARCHAR(500), "
+                    + "role VARCHAR(255), contract_type VARCHAR(255), employment_basis VARCHAR(255), start_date DATE, finish_date DATE, "
+                    + "ongoing BOOLEAN, employment_status VARCHAR(20), hours_per_week INT, created_at TIMESTAMP(6), updated_at TIMESTAMP(6), "
+                    + "version BIGINT DEFAULT 0)").then().block();
+
+            insertEmployee("John", "Smith", "PERMANENT", null);
+            insertEmployee("Joanna", "Brown", "CONTRACT", LocalDate.now().plusYears(1));
+            insertEmployee("Mary", "Johnson", "PERMANENT", LocalDate.now().minusYears(1));
+            insertEmployee("Peter", "Parker", "CONTRACT", null);
+        }
+
+        private void insertEmployee(String firstName, String lastName, String contractType, LocalDate finishDate) {
+            DatabaseClient.GenericExecuteSpec insert = databaseClient.sql("INSERT INTO employees (first_name, last_name, first_name_lower, "
+                    + "last_name_lower, email, mobile_number, role, contract_type, employment_basis, start_date, finish_date, ongoing, "
+                    + "employment_status, hours_per_week, created_at, updated_at) VALUES (:firstName, :lastName, :firstNameLower, :lastNameLower, :email, "
+                    + "'0412345678', 'EMPLOYEE', :contractType, 'FULL_TIME', DATE '2023-01-15', :finishDate, :ongoing, :status, 38, "
+                    + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")
+                    .bind("firstName", firstName)
+                    .bind("lastName", lastName)
+                    .bind("firstNameLower", firstName.toLowerCase())
+                    .bind("lastNameLower", lastName.toLowerCase())
+                    .bind("email", firstName.toLowerCase() + "@gmail.com")
+                    .bind("contractType", contractType)
+                    .bind("ongoing", finishDate == null)
+                    .bind("status", EmploymentStatus.of(LocalDate.of(2023, 1, 15), finishDate, LocalDate.now()).name());
+            insert = finishDate == null ? insert.bindNull("finishDate", LocalDate.class) : insert.bind("finishDate", finishDate);
+            insert.then().block();
+        }
+
+    // Test that the search endpoint filters, sorts and pages like the servlet API
+    @Test
+    public void search_WithFilters_ReturnsSamePageShapeAsServletApi() {
+        RestAssured.given()
+            .queryParam("contractType", "PERMANENT")
+            .queryParam("sortBy", "firstName")
+            .queryParam("size", "1")
+            .when()
+            .get("/api/employees/search")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("totalElements", org.hamcrest.Matchers.is(2))
+            .body("totalPages", org.hamcrest.Matchers.is(2))
+            .body("content.size()", org.hamcrest.Matchers.is(1))
+            .body("content[0].firstName", org.hamcrest.Matchers.is("John"))
+            .body("content[0].contractType", org.hamcrest.Matchers.is("PERMANENT"));
+
+        // contains search matches either name, ongoing=true keeps only active employees
+        RestAssured.given()
+            .queryParam("firstName", "JOHN")
+            .queryParam("ongoing", "true")
+            .when()
+            .get("/api/employees/search")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("totalElements", org.hamcrest.Matchers.is(1))
+            .body("content[0].lastName", org.hamcrest.Matchers.is("Smith"));
+
+        // prefix mode uses the lowercase columns
+        RestAssured.given()
+            .queryParam("firstName", "jo")
+            .queryParam("searchMode", "prefix")
+            .queryParam("sortBy", "lastName")
+            .queryParam("sortDirection", "desc")
+            .when()
+            .get("/api/employees/search")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("content.firstName", org.hamcrest.Matchers.contains("John", "Mary", "Joanna"));
+    }
+
+    // Test that NDJSON requests stream one employee per line
+    @Test
+    public void searchAndAll_NdjsonRequested_StreamOneEmployeePerLine() {
+        String search = RestAssured.given()
+            .accept("application/x-ndjson")
+            .queryParam("contractType", "CONTRACT")
+            .when()
+            .get("/api/employees/search")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .contentType(org.hamcrest.Matchers.startsWith("application/x-ndjson"))
+            .extract().asString();
+        org.junit.jupiter.api.Assertions.assertEquals(2, search.strip().split("\n").length);
+
+        String all = RestAssured.given()
+            .queryParam("format", "ndjson")
+            .when()
+            .get("/api/employees/all")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract().asString();
+        org.junit.jupiter.api.Assertions.assertEquals(4, all.strip().split("\n").length);
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees/all")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", org.hamcrest.Matchers.is(4));
+    }
+
+    // Test that a single employee is returned by id and a missing one is a 404
+    @Test
+    public void getEmployee_ExistingAndMissingId_Returns200And404() {
+        Long id = databaseClient.sql("SELECT id FROM employees WHERE first_name = 'Peter'")
+                .map(row -> row.get(0, Long.class)).one().block();
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees/" + id)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("email", org.hamcrest.Matchers.is("peter@gmail.com"))
+            .body("ongoing", org.hamcrest.Matchers.is(true));
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees/999999")
+            .then()
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+}
@@ -0,0 +1,82 @@
+package nology.employeecreator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+// Runs V1 to the latest migration, which the other tests skip (they build the schema from the entities).
+// Starting the context at all means Hibernate accepted the migrated schema (ddl-auto=validate, see application-flyway)
+@SpringBootTest
+@ActiveProfiles({ "test", "flyway" })
+class FlywayMigrationsTest {
+
+	private static final String BACKFILL_URL = "jdbc:h2:mem:flywaybackfill;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+	@Autowired
+	private Flyway flyway;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void migrate_EmptyDatabase_EndsWithTheIndexesOfTheLatestVersion() {
+		assertEquals("6", flyway.info().current().getVersion().getVersion());
+
+		List<String> indexes = jdbcTemplate.queryForList(
+				"SELECT index_name FROM information_schema.indexes WHERE table_name = 'employees'", String.class);
+		// V3 replaced the finish_date indexes of V2 with status ones
+		assertFalse(indexes.contains("idx_employees_finish_date"));
+		assertFalse(indexes.contains("idx_employees_contract_basis_finish"));
+		assertTrue(indexes.contains("idx_employees_status_finish"));
+		assertTrue(indexes.contains("idx_employees_contract_basis_status"));
+		// V6 (Java migration)
+		assertTrue(indexes.contains("idx_employees_first_name_lower"));
+		assertTrue(indexes.contains("idx_employees_updated_at"));
+	}
+
+	// A database that is still at V2 when it gets the rest: the V3 and V6 backfills fill in the new columns
+	@Test
+	void migrate_ExistingRows_BackfillsStatusAndLowercaseNames() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(BACKFILL_URL, "sa", "");
+		Flyway.configure().dataSource(dataSource).target("2").load().migrate();
+
+		JdbcTemplate database = new JdbcTemplate(dataSource);
+		LocalDate today = LocalDate.now();
+		insertEmployee(database, " Ada ", "Lovelace", today.minusYears(1), null);
+		insertEmployee(database, "Bea", " Ended", today.minusYears(1), today.minusDays(1));
+		insertEmployee(database, "Cal", "FUTURE", today.plusDays(10), null);
+
+		Flyway.configure().dataSource(dataSource).load().migrate();
+
+		List<Map<String, Object>> rows = database.queryForList(
+				"SELECT employment_status, first_name_lower, last_name_lower FROM employees ORDER BY id");
+		assertEquals("ACTIVE", rows.get(0).get("employment_status"));
+		assertEquals("ada", rows.get(0).get("first_name_lower"));
+		assertEquals("ENDED", rows.get(1).get("employment_status"));
+		assertEquals("ended", rows.get(1).get("last_name_lower"));
+		assertEquals("FUTURE", rows.get(2).get("employment_status"));
+		assertEquals("future", rows.get(2).get("last_name_lower"));
+	}
+
+	private static void insertEmployee(JdbcTemplate database, String firstName, String lastName, LocalDate startDate,
+			LocalDate finishDate) {
+		database.update("INSERT INTO employees (first_name, last_name, email, role, contract_type, start_date, "
+				+ "finish_date, ongoing, employment_basis, hours_per_week) "
+				+ "VALUES (?, ?, ?, 'EMPLOYEE', 'CONTRACT', ?, ?, ?, 'FULL_TIME', 38)",
+				firstName, lastName, firstName.trim().toLowerCase() + "@gmail.com", startDate, finishDate,
+				finishDate == null);
+	}
+
+}
@@ -0,0 +1,73 @@
+package nology.employeecreator.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class EmployeeETagsTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 5, 1, 9, 30, 15, 123_456_000);
+
+    private static EmployeeCollectionVersion version(long count, LocalDateTime lastUpdated) {
+        return new EmployeeCollectionVersion() {
+            @Override
+            public long getCount() {
+                return count;
+            }
+
+            @Override
+            public LocalDateTime getLastUpdated() {
+                return lastUpdated;
+            }
+        };
+    }
+
+    // Test that an employee ETag is strong and moves with every microsecond of updatedAt
+    @Test
+    void employee_UpdatedAt_IsStrongAndChangesPerMicrosecond() {
+        String eTag = EmployeeETags.employee(5L, UPDATED_AT);
+
+        assertTrue(eTag.startsWith("\"5-") && eTag.endsWith("\""));
+        assertEquals(eTag, EmployeeETags.employee(5L, UPDATED_AT.plusNanos(999))); // below the column's precision
+        assertNotEquals(eTag, EmployeeETags.employee(5L, UPDATED_AT.plusNanos(1_000)));
+        assertNotEquals(eTag, EmployeeETags.employee(6L, UPDATED_AT));
+    }
+
+    // Test that the list ETag is weak and changes with the row count even when MAX(updatedAt) doesn't (a delete)
+    @Test
+    void collection_CountOrLastUpdated_ChangesWeakETag() {
+        String eTag = EmployeeETags.collection(version(3, UPDATED_AT));
+
+        assertTrue(eTag.startsWith("W/\""));
+        assertNotEquals(eTag, EmployeeETags.collection(version(2, UPDATED_AT)));
+        assertNotEquals(eTag, EmployeeETags.collection(version(3, UPDATED_AT.plusSeconds(1))));
+        assertEquals("W/\"0-0\"", EmployeeETags.collection(version(0, null)));
+    }
+
+    // Test that If-Match accepts "*" or any listed ETag
+    @Test
+    void matches_ListOrWildcard_FindsCurrentETag() {
+        String current = EmployeeETags.employee(5L, UPDATED_AT);
+
+        assertTrue(EmployeeETags.matches("\"5-1\", " + current, current));
+        assertTrue(EmployeeETags.matches(" * ", current));
+        assertFalse(EmployeeETags.matches("\"5-1\"", current));
+        assertTrue(EmployeeETags.matchesAny("\"5-1\",*"));
+        assertFalse(EmployeeETags.matchesAny(current));
+    }
+
+    // Test that PATCH gets back the updatedAt behind each of this employee's ETags, skipping everything else
+    @Test
+    void updatedAtsOf_MixedIfMatch_ReturnsOnlyThisEmployeesVersions() {
+        String ifMatch = EmployeeETags.employee(5L, UPDATED_AT) + ", " + EmployeeETags.employee(55L, UPDATED_AT)
+                + ", \"5-xyz\", W/\"5-1\", \"5-\", " + EmployeeETags.employee(5L, UPDATED_AT.minusDays(1));
+
+        assertEquals(List.of(UPDATED_AT, UPDATED_AT.minusDays(1)), EmployeeETags.updatedAtsOf(ifMatch, 5L));
+    }
+}
@@ -0,0 +1,128 @@
+package nology.employeecreator.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+// The search filters and the keyset condition against H2, without the web layer or the search cache
+@DataJpaTest
+class EmployeeSpecificationsTest {
+
+    private static final int EMPLOYEE_COUNT = 26;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Several employees share a first name and some have no start date, so the id tie-breaker
+        // and the null handling of the keyset condition are both exercised
+        for (int i = 0; i < EMPLOYEE_COUNT; i++) {
+            Employee employee = new Employee();
+            employee.setFirstName("Name" + (i % 7));
+            employee.setLastName("Last" + i);
+            employee.setEmail("spec" + i + "@gmail.com");
+            employee.setContractType(i % 2 == 0 ? ContractType.PERMANENT : ContractType.CONTRACT);
+            employee.setEmploymentBasis(i % 3 == 0 ? EmploymentBasis.PART_TIME : EmploymentBasis.FULL_TIME);
+            employee.setRole(EmployeeRole.EMPLOYEE);
+            employee.setStartDate(i % 5 == 0 ? null : LocalDate.of(2023, 1, 1).plusDays(i % 4));
+            employee.setFinishDate(i % 4 == 0 ? LocalDate.now().minusDays(1) : null);
+            employee.setOngoing(i % 4 != 0);
+            employee.setHoursPerWeek(38);
+            employeeRepository.save(employee);
+        }
+    }
+
+    private long count(Specification<Employee> where) {
+        return employeeRepository.count(where);
+    }
+
+    // Follows after(cursor) page by page, like GET /search?pagination=keyset, and returns every id in order
+    private List<Long> keysetIds(Specification<Employee> filters, String sortField, Sort.Direction direction) {
+        List<Long> ids = new ArrayList<>();
+        Specification<Employee> where = filters;
+        while (true) {
+            List<Employee> page = employeeRepository.findAll(where,
+                    PageRequest.of(0, 4, EmployeeSpecifications.keysetSort(sortField, direction))).getContent();
+            page.forEach(employee -> ids.add(employee.getId()));
+            if (page.size() < 4) {
+                return ids;
+            }
+            SearchCursor cursor = SearchCursor.of(page.get(page.size() - 1), sortField, direction);
+            where = filters.and(EmployeeSpecifications.after(cursor));
+        }
+    }
+
+    private List<Long> sortedIds(Specification<Employee> filters, String sortField, Sort.Direction direction) {
+        return employeeRepository.findAll(filters, EmployeeSpecifications.keysetSort(sortField, direction)).stream()
+                .map(Employee::getId)
+                .toList();
+    }
+
+    // Test that every filter left null is left out, and the ones that are set are ANDed
+    @Test
+    void withFilters_SomeSet_AndsOnlyThose() {
+        assertEquals(EMPLOYEE_COUNT, count(EmployeeSpecifications.withFilters(null, null, null, null, null)));
+        assertEquals(13, count(EmployeeSpecifications.withFilters(null, null, ContractType.PERMANENT, null, null)));
+        // i = 0, 6, 12, 18, 24 are permanent and part time
+        assertEquals(5, count(EmployeeSpecifications.withFilters(null, null, ContractType.PERMANENT,
+                EmploymentBasis.PART_TIME, null)));
+        // of those, i = 0, 12, 24 have finished
+        assertEquals(3, count(EmployeeSpecifications.withFilters(null, null, ContractType.PERMANENT,
+                EmploymentBasis.PART_TIME, false)));
+        assertEquals(2, count(EmployeeSpecifications.withFilters(null, null, ContractType.PERMANENT,
+                EmploymentBasis.PART_TIME, true)));
+    }
+
+    // Test that the contains term matches inside first or last name, the prefix only at their start
+    @Test
+    void withFilters_NameTerms_ContainsVersusPrefix() {
+        assertEquals(11, count(EmployeeSpecifications.withFilters("ast1", null, null, null, null))); // Last1, Last10-19
+        assertEquals(0, count(EmployeeSpecifications.withFilters(null, "ast1%", null, null, null)));
+        assertEquals(11, count(EmployeeSpecifications.withFilters(null, "last1%", null, null, null)));
+    }
+
+    // Test that LIKE wildcards typed by the user are escaped by toSearchCriteria and matched literally
+    @Test
+    void withFilters_PrefixWithWildcard_MatchesLiterally() {
+        EmployeeSearchCache.Criteria criteria = EmployeeService.toSearchCriteria("Name_", null, null, null, null,
+                0, 20, "firstName", "asc", "prefix");
+
+        assertEquals("name!_%", criteria.namePrefix());
+        assertEquals(0, count(EmployeeSpecifications.withFilters(null, criteria.namePrefix(), null, null, null)));
+        assertEquals(EMPLOYEE_COUNT, count(EmployeeSpecifications.withFilters(null, "name%", null, null, null)));
+    }
+
+    // Test that keyset pages over a non-unique or nullable column return the same rows in the same order as
+    // one sorted query, in both directions
+    @Test
+    void after_EveryPage_MatchesSortedOrder() {
+        Specification<Employee> noFilters = EmployeeSpecifications.withFilters(null, null, null, null, null);
+        for (String sortField : List.of("firstName", "startDate")) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                List<Long> expected = sortedIds(noFilters, sortField, direction);
+                assertEquals(EMPLOYEE_COUNT, expected.size());
+                assertEquals(expected, keysetIds(noFilters, sortField, direction), sortField + " " + direction);
+            }
+        }
+    }
+
+    // Test that the keyset condition combines with the filters
+    @Test
+    void after_WithContractTypeFilter_ReturnsOnlyMatchingEmployees() {
+        Specification<Employee> permanent = EmployeeSpecifications.withFilters(null, null, ContractType.PERMANENT, null, null);
+
+        assertEquals(sortedIds(permanent, "lastName", Sort.Direction.ASC), keysetIds(permanent, "lastName", Sort.Direction.ASC));
+        assertEquals(13, keysetIds(permanent, "lastName", Sort.Direction.ASC).size());
+    }
+}
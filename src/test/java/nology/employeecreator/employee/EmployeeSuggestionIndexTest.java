@@ -0,0 +1,120 @@
+package nology.employeecreator.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// The index without Spring: employees go in through put/putAll, nothing is loaded from the database
+class EmployeeSuggestionIndexTest {
+
+    private EmployeeSuggestionIndex index;
+
+    private static Employee employee(String firstName, String lastName, String email) {
+        Employee employee = new Employee();
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmail(email);
+        return employee;
+    }
+
+    private List<String> suggestNames(String query, int limit) {
+        return index.suggest(query, limit).stream()
+                .map(suggestion -> suggestion.getFirstName() + " " + suggestion.getLastName())
+                .toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeSuggestionIndex(null, null);
+        index.putAll(List.of(1L, 2L, 3L, 4L), List.of(
+                employee("Johnathan", "Smith", "jsmith@gmail.com"),
+                employee("Joanna", "Johnson", "joanna.j@company.com.au"),
+                employee("Michael", "Wong", "mwong@gmail.com"),
+                employee("Bijou", "Lee", "bijou@gmail.com")));
+    }
+
+    // Test that a one or two letter term only matches the start of a word
+    @Test
+    void suggest_ShortPrefix_MatchesWordStartsOnly() {
+        assertEquals(List.of("Joanna Johnson", "Johnathan Smith"), suggestNames("jo", 10));
+    }
+
+    // Test that a longer term matches inside a word and tolerates a typo
+    @Test
+    void suggest_TermWithTypo_StillMatches() {
+        assertEquals("Johnathan Smith", suggestNames("johnathon", 10).get(0));
+        assertEquals(List.of("Michael Wong"), suggestNames("wong", 10));
+        assertEquals(List.of(), suggestNames("xyz", 10));
+    }
+
+    // Test that the word-start bonus puts a prefix match above a match inside a word
+    @Test
+    void suggest_WordStartAndInside_WordStartFirst() {
+        // same name length, and "kleen ann" sorts before "lee bijou" - only the bonus decides
+        index.putAll(List.of(5L), List.of(employee("Ann", "Kleen", "ann@gmail.com")));
+
+        assertEquals(List.of("Bijou Lee", "Ann Kleen"), suggestNames("lee", 10));
+    }
+
+    // Test that equal scores rank shorter names first, then by last and first name
+    @Test
+    void suggest_EqualScores_ShorterThenAlphabetical() {
+        index.putAll(List.of(10L, 11L, 12L, 13L), List.of(
+                employee("Ann", "Leeson", "a1@x.com"),
+                employee("Ann", "Li", "a2@x.com"),
+                employee("Ann", "Lee", "a3@x.com"),
+                employee("Ann", "Lea", "a4@x.com")));
+
+        // Joanna Johnson matches "ann" too, but inside a word
+        assertEquals(List.of("Ann Li", "Ann Lea", "Ann Lee", "Ann Leeson", "Joanna Johnson"), suggestNames("ann", 10));
+    }
+
+    // Test that a smaller limit returns the head of the same ranking, however many employees tie
+    @Test
+    void suggest_Limit_ReturnsTopOfFullRanking() {
+        List<Long> ids = new ArrayList<>();
+        List<Employee> employees = new ArrayList<>();
+        for (long id = 100; id < 400; id++) {
+            ids.add(id);
+            employees.add(employee(id % 3 == 0 ? "John" : "Joan", "Smith" + (id % 17), "user" + id + "@gmail.com"));
+        }
+        index.putAll(ids, employees);
+
+        for (String query : List.of("jo", "john", "smith1", "gmail", "john smith", "jonh smiht")) {
+            List<String> all = suggestNames(query, 50);
+            for (int limit : new int[] { 1, 3, 10 }) {
+                assertEquals(all.subList(0, Math.min(limit, all.size())), suggestNames(query, limit), query + " " + limit);
+            }
+        }
+    }
+
+    // Test that adding, patching and removing an employee are visible to the next query
+    @Test
+    void putAllPatchRemove_UpdatesSuggestions() {
+        index.putAll(List.of(20L), List.of(employee("Zelda", "Quartermaine", "zelda.q@gmail.com")));
+        assertEquals(List.of("Zelda Quartermaine"), suggestNames("quarter", 10));
+
+        index.patch(20L, null, null, "Quinn", null, null);
+        assertEquals(List.of(), suggestNames("quarter", 10));
+        assertEquals(List.of("Zelda Quinn"), suggestNames("quinn", 10));
+        assertEquals("zelda.q@gmail.com", index.suggest("quinn", 10).get(0).getEmail());
+
+        index.remove(20L);
+        assertTrue(suggestNames("zelda", 10).isEmpty());
+        assertEquals(4, index.size());
+    }
+
+    // Test that putAll replaces employees that are already indexed instead of adding them twice
+    @Test
+    void putAll_IndexedId_ReplacesPreviousVersion() {
+        index.putAll(List.of(3L), List.of(employee("Michaela", "Wong", "mwong@gmail.com")));
+
+        assertEquals(List.of("Michaela Wong"), suggestNames("wong", 10));
+        assertEquals(4, index.size());
+    }
+}
@@ -0,0 +1,101 @@
+package nology.employeecreator.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+// updateWhere (single-statement PATCH and bulk update) against H2: which status the UPDATE writes when only some of
+// the dates are sent, and the stored ones have to be read inside the statement (the CASE in setEmploymentStatus)
+@DataJpaTest
+class EmployeeUpdateRepositoryTest {
+
+    // the status written on persist is derived from the real date (Employee.onCreate)
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long saveEmployee(LocalDate startDate, LocalDate finishDate) {
+        Employee employee = new Employee();
+        employee.setFirstName("Fern");
+        employee.setLastName("Patch");
+        employee.setEmail("fern" + System.nanoTime() + "@gmail.com");
+        employee.setContractType(ContractType.CONTRACT);
+        employee.setEmploymentBasis(EmploymentBasis.FULL_TIME);
+        employee.setRole(EmployeeRole.EMPLOYEE);
+        employee.setStartDate(startDate);
+        employee.setFinishDate(finishDate);
+        employee.setOngoing(finishDate == null);
+        employee.setHoursPerWeek(38);
+        return entityManager.persistAndFlush(employee).getId();
+    }
+
+    // Runs the UPDATE and reads the row back from the database, not from the persistence context
+    private Employee update(Long id, UpdateEmployeeDTO changes) {
+        assertEquals(1, employeeRepository.updateWhere(changes, EmployeeSpecifications.hasId(id), LocalDateTime.now(), TODAY));
+        entityManager.clear();
+        return entityManager.find(Employee.class, id);
+    }
+
+    // Test that a past finish date ends the employee whatever the stored start date is
+    @Test
+    void updateWhere_PastFinishDateOnly_Ends() {
+        Long id = saveEmployee(TODAY.plusDays(5), null);
+        UpdateEmployeeDTO changes = new UpdateEmployeeDTO();
+        changes.setOngoing(false);
+        changes.setFinishDate(TODAY.minusDays(1));
+
+        assertEquals(EmploymentStatus.ENDED, update(id, changes).getEmploymentStatus());
+    }
+
+    // Test that ongoing=true clears the finish date, and the stored start date decides between FUTURE and ACTIVE
+    @Test
+    void updateWhere_OngoingOnly_UsesStoredStartDate() {
+        Long future = saveEmployee(TODAY.plusDays(7), TODAY.minusDays(1));
+        Long started = saveEmployee(TODAY.minusDays(7), TODAY.minusDays(1));
+        UpdateEmployeeDTO changes = new UpdateEmployeeDTO();
+        changes.setOngoing(true);
+
+        Employee updated = update(future, changes);
+        assertEquals(EmploymentStatus.FUTURE, updated.getEmploymentStatus());
+        assertNull(updated.getFinishDate());
+        assertEquals(EmploymentStatus.ACTIVE, update(started, changes).getEmploymentStatus());
+    }
+
+    // Test that a new start date alone is checked against the stored finish date
+    @Test
+    void updateWhere_StartDateOnly_UsesStoredFinishDate() {
+        Long ended = saveEmployee(TODAY.minusYears(1), TODAY.minusDays(1));
+        Long ongoing = saveEmployee(TODAY.minusYears(1), null);
+        UpdateEmployeeDTO changes = new UpdateEmployeeDTO();
+        changes.setStartDate(TODAY.plusDays(7));
+
+        assertEquals(EmploymentStatus.ENDED, update(ended, changes).getEmploymentStatus());
+        assertEquals(EmploymentStatus.FUTURE, update(ongoing, changes).getEmploymentStatus());
+
+        changes.setStartDate(TODAY.minusDays(7));
+        assertEquals(EmploymentStatus.ACTIVE, update(ongoing, changes).getEmploymentStatus());
+    }
+
+    // Test that changes without dates leave the stored status alone
+    @Test
+    void updateWhere_NoDates_KeepsStatus() {
+        Long id = saveEmployee(TODAY.plusDays(7), null);
+        UpdateEmployeeDTO changes = new UpdateEmployeeDTO();
+        changes.setLastName("Renamed");
+
+        Employee updated = update(id, changes);
+        assertEquals(EmploymentStatus.FUTURE, updated.getEmploymentStatus());
+        assertEquals("Renamed", updated.getLastName());
+    }
+}
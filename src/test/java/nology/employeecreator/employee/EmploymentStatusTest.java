@@ -0,0 +1,29 @@
+package nology.employeecreator.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class EmploymentStatusTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 15);
+
+    // Test that the status follows the dates, with today still counting as employed on both ends
+    @Test
+    void of_Dates_DerivesStatus() {
+        assertEquals(EmploymentStatus.ACTIVE, EmploymentStatus.of(TODAY.minusYears(1), null, TODAY));
+        assertEquals(EmploymentStatus.ACTIVE, EmploymentStatus.of(TODAY, TODAY, TODAY));
+        assertEquals(EmploymentStatus.ACTIVE, EmploymentStatus.of(null, null, TODAY));
+        assertEquals(EmploymentStatus.ENDED, EmploymentStatus.of(TODAY.minusYears(1), TODAY.minusDays(1), TODAY));
+        assertEquals(EmploymentStatus.FUTURE, EmploymentStatus.of(TODAY.plusDays(1), null, TODAY));
+        assertEquals(EmploymentStatus.FUTURE, EmploymentStatus.of(TODAY.plusDays(1), TODAY.plusYears(1), TODAY));
+    }
+
+    // Test that a finish date in the past wins over a start date in the future (bad data still reads as ended)
+    @Test
+    void of_FinishedBeforeStarting_IsEnded() {
+        assertEquals(EmploymentStatus.ENDED, EmploymentStatus.of(TODAY.plusDays(1), TODAY.minusDays(1), TODAY));
+    }
+}
@@ -0,0 +1,69 @@
+package nology.employeecreator.employee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import nology.employeecreator.common.exceptions.BadRequestException;
+
+class SearchCursorTest {
+
+    private static SearchCursor roundTrip(SearchCursor cursor) {
+        return SearchCursor.decode(cursor.encode());
+    }
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Test that a value containing the separator survives, since it is the last part
+    @Test
+    void decode_EncodedStringValueWithSeparator_RoundTrips() {
+        SearchCursor decoded = roundTrip(new SearchCursor("lastName", Sort.Direction.DESC, 42L, "O'Brien|Smith"));
+
+        assertEquals("lastName", decoded.getSortField());
+        assertEquals(Sort.Direction.DESC, decoded.getDirection());
+        assertEquals(42L, decoded.getId());
+        assertEquals("O'Brien|Smith", decoded.getSortValue());
+    }
+
+    // Test that a null sort value and an empty string stay apart
+    @Test
+    void decode_EncodedNullOrEmptyValue_KeepsThemApart() {
+        assertNull(roundTrip(new SearchCursor("email", Sort.Direction.ASC, 1L, null)).getSortValue());
+        assertEquals("", roundTrip(new SearchCursor("email", Sort.Direction.ASC, 1L, "")).getSortValue());
+    }
+
+    // Test that a start date comes back as a LocalDate, so it compares like the column
+    @Test
+    void decode_EncodedStartDate_ParsesLocalDate() {
+        LocalDate startDate = LocalDate.of(2023, 1, 31);
+        assertEquals(startDate, roundTrip(new SearchCursor("startDate", Sort.Direction.ASC, 7L, startDate)).getSortValue());
+    }
+
+    // Test that anything the server didn't produce is a 400, not a 500
+    @Test
+    void decode_TamperedCursor_ThrowsBadRequest() {
+        assertThrows(BadRequestException.class, () -> SearchCursor.decode("not-a-cursor"));
+        assertThrows(BadRequestException.class, () -> SearchCursor.decode(base64("firstName|UP|1|=Ann")));
+        assertThrows(BadRequestException.class, () -> SearchCursor.decode(base64("firstName|ASC|one|=Ann")));
+        assertThrows(BadRequestException.class, () -> SearchCursor.decode(base64("startDate|ASC|1|=yesterday")));
+        assertThrows(BadRequestException.class, () -> SearchCursor.decode(base64("contractType|ASC|1|=PERMANENT")));
+    }
+
+    // Test that enum columns can't be keyset sorted - MySQL orders them by position but compares them as strings
+    @Test
+    void supportsSortField_EnumColumn_IsFalse() {
+        assertTrue(SearchCursor.supportsSortField("startDate"));
+        assertFalse(SearchCursor.supportsSortField("contractType"));
+    }
+}
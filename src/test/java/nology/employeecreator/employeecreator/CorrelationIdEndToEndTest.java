@@ -0,0 +1,51 @@
+package nology.employeecreator.employeecreator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class CorrelationIdEndToEndTest {
+
+        @LocalServerPort
+        private int port;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+        }
+
+    // Test that a request id sent by the client (or proxy) is kept and echoed back
+    @Test
+    public void request_WithRequestId_EchoesIt() {
+        RestAssured.given()
+            .header("X-Request-Id", "proxy-1234")
+            .when()
+            .get("/api/employees")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .header("X-Request-Id", "proxy-1234");
+    }
+
+    // Test that requests without a usable id get a fresh one each
+    @Test
+    public void request_WithoutRequestId_GetsAGeneratedOne() {
+        String first = RestAssured.given().when().get("/api/employees").then()
+            .statusCode(HttpStatus.OK.value()).extract().header("X-Request-Id");
+        String second = RestAssured.given().header("X-Request-Id", "not a valid id; with spaces").when().get("/api/employees").then()
+            .statusCode(HttpStatus.OK.value()).extract().header("X-Request-Id");
+
+        Assertions.assertNotNull(first);
+        Assertions.assertNotNull(second);
+        Assertions.assertNotEquals(first, second);
+        Assertions.assertNotEquals("not a valid id; with spaces", second);
+    }
+
+}
@@ -0,0 +1,95 @@
+package nology.employeecreator.employeecreator;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+import nology.employeecreator.employee.EmployeeRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class DashboardStatsEndToEndTest {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            this.employeeRepository.deleteAll();
+
+            // Active full-time permanent manager who started in Jan 2023
+            createEmployee("Ada", "Lovelace", "PERMANENT", "FULL_TIME", "MANAGER",
+                    LocalDate.of(2023, 1, 15), null, 40);
+
+            // Active part-time contractor, also started in Jan 2023, finishes in the future
+            createEmployee("Grace", "Hopper", "CONTRACT", "PART_TIME", "CONTRACTOR",
+                    LocalDate.of(2023, 1, 3), LocalDate.now().plusYears(1), 20);
+
+            // Inactive part-time contract employee who finished last year
+            createEmployee("Alan", "Turing", "CONTRACT", "PART_TIME", "EMPLOYEE",
+                    LocalDate.of(2024, 6, 1), LocalDate.now().minusYears(1), 30);
+        }
+
+        private void createEmployee(String firstName, String lastName, String contractType, String employmentBasis,
+                String role, LocalDate startDate, LocalDate finishDate, int hoursPerWeek) {
+            HashMap<String, String> newEmployee = EmployeeFixtures.newEmployee(firstName, lastName);
+            newEmployee.put("contractType", contractType);
+            newEmployee.put("employmentBasis", employmentBasis);
+            newEmployee.put("role", role);
+            newEmployee.put("startDate", startDate.toString());
+            newEmployee.put("finishDate", finishDate == null ? null : finishDate.toString());
+            newEmployee.put("ongoing", String.valueOf(finishDate == null));
+            newEmployee.put("hoursPerWeek", String.valueOf(hoursPerWeek));
+            EmployeeFixtures.create(newEmployee);
+        }
+
+    // Test that the dashboard stats are aggregated on the server
+    @Test
+    public void getDashboardStats_EmployeesInDatabase_ReturnsGroupedCounts() {
+        RestAssured.given()
+            .when()
+            .get("/api/employees/dashboard-stats")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("totalEmployees", org.hamcrest.Matchers.is(3))
+            .body("activeCount", org.hamcrest.Matchers.is(2))
+            .body("inactiveCount", org.hamcrest.Matchers.is(1))
+            .body("averageHoursPerWeek", org.hamcrest.Matchers.is(30.0f))
+            .body("contractTypeCounts.PERMANENT", org.hamcrest.Matchers.is(1))
+            .body("contractTypeCounts.CONTRACT", org.hamcrest.Matchers.is(2))
+            .body("employmentBasisCounts.PART_TIME", org.hamcrest.Matchers.is(2))
+            .body("activeEmploymentBasisCounts.PART_TIME", org.hamcrest.Matchers.is(1))
+            .body("roleCounts.MANAGER", org.hamcrest.Matchers.is(1))
+            .body("roleCounts.ADMIN", org.hamcrest.Matchers.is(0))
+            .body("startMonthCounts.'2023-01'", org.hamcrest.Matchers.is(2))
+            .body("startMonthCounts.'2024-06'", org.hamcrest.Matchers.is(1));
+    }
+
+    // Test that an empty table still returns every group with a zero count
+    @Test
+    public void getDashboardStats_NoEmployeesInDatabase_ReturnsZeroCounts() {
+        this.employeeRepository.deleteAll();
+        RestAssured.given()
+            .when()
+            .get("/api/employees/dashboard-stats")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("totalEmployees", org.hamcrest.Matchers.is(0))
+            .body("contractTypeCounts.PERMANENT", org.hamcrest.Matchers.is(0))
+            .body("startMonthCounts.size()", org.hamcrest.Matchers.is(0));
+    }
+
+}
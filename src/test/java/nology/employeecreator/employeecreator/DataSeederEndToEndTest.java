@@ -0,0 +1,34 @@
+package nology.employeecreator.employeecreator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import nology.employeecreator.employee.EmployeeRepository;
+
+// own in-memory database, since the seeder only runs when the table is empty.
+// The batch size doesn't divide the count, so the last batch is a partial one
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:seedertest",
+        "seeder.employee-count=250", "seeder.batch-size=40", "seeder.threads=3" })
+@ActiveProfiles({ "test", "seed" })
+public class DataSeederEndToEndTest {
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+    // Test that the seeder inserts exactly the configured number of employees, each with a distinct email
+    @Test
+    public void seed_ParallelBatches_InsertsConfiguredCountWithUniqueEmails() {
+        Assertions.assertEquals(250, this.employeeRepository.count());
+        Assertions.assertEquals(250, this.jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT email) FROM employees", Long.class));
+        Assertions.assertEquals(0, this.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM employees WHERE first_name_lower IS NULL OR created_at IS NULL", Long.class));
+    }
+
+}
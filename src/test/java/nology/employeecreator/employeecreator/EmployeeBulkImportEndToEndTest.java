@@ -0,0 +1,122 @@
+package nology.employeecreator.employeecreator;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import nology.employeecreator.employee.ContractType;
+import nology.employeecreator.employee.Employee;
+import nology.employeecreator.employee.EmployeeRepository;
+import nology.employeecreator.employee.EmployeeRole;
+import nology.employeecreator.employee.EmploymentBasis;
+
+// small batch size so the tests cover more than one batch
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "employee.import.batch-size=2")
+@ActiveProfiles("test")
+public class EmployeeBulkImportEndToEndTest {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            this.employeeRepository.deleteAll();
+
+            Employee existing = new Employee();
+            existing.setFirstName("Existing");
+            existing.setLastName("Person");
+            existing.setEmail("existing@gmail.com");
+            existing.setMobileNumber("0410123456");
+            existing.setContractType(ContractType.PERMANENT);
+            existing.setEmploymentBasis(EmploymentBasis.FULL_TIME);
+            existing.setRole(EmployeeRole.EMPLOYEE);
+            existing.setStartDate(LocalDate.of(2023, 1, 15));
+            existing.setOngoing(true);
+            existing.setHoursPerWeek(38);
+            this.employeeRepository.save(existing);
+        }
+
+        private String employeeJson(String firstName, String lastName, String email, String role) {
+            return "{\"firstName\":\"" + firstName + "\",\"lastName\":\"" + lastName + "\",\"email\":\"" + email + "\","
+                    + "\"mobileNumber\":\"0410123456\",\"contractType\":\"PERMANENT\",\"employmentBasis\":\"FULL_TIME\","
+                    + "\"startDate\":\"2024-02-01\",\"ongoing\":true,\"hoursPerWeek\":38"
+                    + (role == null ? "" : ",\"role\":\"" + role + "\"") + "}";
+        }
+
+    // Test that valid rows are inserted and invalid or duplicate rows are reported without stopping the import
+    @Test
+    public void bulkImport_JsonArrayWithSomeBadRows_InsertsValidRowsAndReportsFailures() {
+        String body = "["
+                + employeeJson("Ada", "Lovelace", "ada@gmail.com", "MANAGER") + ","
+                + employeeJson("Grace", "Hopper", "grace@gmail.com", null) + ","        // missing role
+                + employeeJson("Alan", "Turing", "existing@gmail.com", "EMPLOYEE") + "," // email already in the database
+                + employeeJson("Ada", "Again", "ada@gmail.com", "EMPLOYEE") + ","       // email repeated in this file
+                + employeeJson("Linus", "Torvalds", "linus@gmail.com", "ADMIN")
+                + "]";
+
+        RestAssured.given()
+            .contentType(ContentType.JSON)
+            .body(body)
+            .when()
+            .post("/api/employees/bulk")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("total", org.hamcrest.Matchers.is(5))
+            .body("created", org.hamcrest.Matchers.is(2))
+            .body("failed", org.hamcrest.Matchers.is(3))
+            .body("rows[0].status", org.hamcrest.Matchers.is("CREATED"))
+            .body("rows[0].id", org.hamcrest.Matchers.notNullValue())
+            .body("rows[1].status", org.hamcrest.Matchers.is("FAILED"))
+            .body("rows[1].errors.role", org.hamcrest.Matchers.notNullValue())
+            .body("rows[2].errors.email", org.hamcrest.Matchers.notNullValue())
+            .body("rows[3].errors.email", org.hamcrest.Matchers.notNullValue())
+            .body("rows[4].status", org.hamcrest.Matchers.is("CREATED"));
+
+        // imported rows behave like ones created through the API, including the prefix search columns
+        RestAssured.given()
+            .queryParam("firstName", "lin")
+            .queryParam("searchMode", "prefix")
+            .when()
+            .get("/api/employees/search")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("content.size()", org.hamcrest.Matchers.is(1))
+            .body("content[0].email", org.hamcrest.Matchers.is("linus@gmail.com"));
+    }
+
+    // Test that a CSV body with a header row is imported
+    @Test
+    public void bulkImport_CsvBody_InsertsEveryRow() {
+        String body = "firstName,lastName,email,mobileNumber,contractType,employmentBasis,startDate,finishDate,ongoing,hoursPerWeek,role\n"
+                + "Ada,Lovelace,ada@gmail.com,0410123456,PERMANENT,FULL_TIME,2024-02-01,,true,38,MANAGER\n"
+                + "Grace,Hopper,grace@gmail.com,0410123456,CONTRACT,PART_TIME,2024-02-01,2030-01-01,false,20,CONTRACTOR\n"
+                + "Alan,Turing,alan@gmail.com,0410123456,CONTRACT,PART_TIME,2024-02-01,2030-01-01,false,20,EMPLOYEE\n";
+
+        RestAssured.given()
+            .contentType("text/csv")
+            .body(body)
+            .when()
+            .post("/api/employees/bulk")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("total", org.hamcrest.Matchers.is(3))
+            .body("created", org.hamcrest.Matchers.is(3))
+            .body("failed", org.hamcrest.Matchers.is(0));
+
+        org.junit.jupiter.api.Assertions.assertEquals(4, this.employeeRepository.count());
+    }
+
+}
@@ -0,0 +1,168 @@
+package nology.employeecreator.employeecreator;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+import nology.employeecreator.employee.Employee;
+import nology.employeecreator.employee.EmployeeRepository;
+import nology.employeecreator.employee.EmployeeSearchCache;
+import nology.employeecreator.employee.EmploymentStatus;
+
+// small chunks, so a handful of employees already spans several transactions
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "employee.bulk.chunk-size=3")
+@ActiveProfiles("test")
+public class EmployeeBulkWriteEndToEndTest {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @Autowired
+        private EmployeeSearchCache searchCache;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            this.employeeRepository.deleteAll();
+            this.searchCache.invalidate();
+        }
+
+        private Integer createEmployee(String firstName, String contractType) {
+            HashMap<String, String> newEmployee = EmployeeFixtures.newEmployee(firstName, "Bulk");
+            newEmployee.put("contractType", contractType);
+            return EmployeeFixtures.create(newEmployee).path("id");
+        }
+
+        private ValidatableResponse bulkUpdate(Map<String, Object> body) {
+            return RestAssured.given().contentType(ContentType.JSON).body(body)
+                    .when().patch("/api/employees/bulk").then();
+        }
+
+        private ValidatableResponse bulkDelete(Map<String, Object> body) {
+            return RestAssured.given().contentType(ContentType.JSON).body(body)
+                    .when().post("/api/employees/bulk/delete").then();
+        }
+
+        private int searchCount(String contractType, boolean ongoing) {
+            return RestAssured.given()
+                    .queryParam("contractType", contractType)
+                    .queryParam("ongoing", ongoing)
+                    .when()
+                    .get("/api/employees/search")
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .extract().path("totalElements");
+        }
+
+    // Test that a filter selects the same employees as the search and every chunk is applied
+    @Test
+    public void bulkUpdate_ByFilter_EndsMatchingContractsInChunks() {
+        for (String name : List.of("Ana", "Ben", "Cam", "Dee", "Eve", "Fay", "Gus")) {
+            createEmployee(name, "CONTRACT");
+        }
+        Integer permanent = createEmployee("Hal", "PERMANENT");
+        // cached before the bulk update, must not be served after it
+        Assertions.assertEquals(0, searchCount("CONTRACT", false));
+
+        String yesterday = LocalDate.now().minusDays(1).toString();
+        bulkUpdate(Map.of(
+                "filter", Map.of("contractType", "CONTRACT", "ongoing", true),
+                "changes", Map.of("ongoing", false, "finishDate", yesterday)))
+            .statusCode(HttpStatus.OK.value())
+            .body("affected", org.hamcrest.Matchers.is(7))
+            .body("chunks", org.hamcrest.Matchers.is(3));
+
+        Assertions.assertEquals(7, searchCount("CONTRACT", false));
+        Assertions.assertEquals(0, searchCount("CONTRACT", true));
+        for (Employee employee : this.employeeRepository.findAll()) {
+            boolean changed = !employee.getId().equals(permanent.longValue());
+            Assertions.assertEquals(changed ? EmploymentStatus.ENDED : EmploymentStatus.ACTIVE, employee.getEmploymentStatus());
+            Assertions.assertEquals(changed ? 1L : 0L, employee.getVersion());
+            Assertions.assertEquals(changed ? LocalDate.now().minusDays(1) : null, employee.getFinishDate());
+        }
+    }
+
+    // Test that an id list only touches existing employees and the detail cache is evicted
+    @Test
+    public void bulkUpdate_ByIds_ChangesOnlyThoseEmployees() {
+        Integer first = createEmployee("Ida", "CONTRACT");
+        Integer second = createEmployee("Jon", "CONTRACT");
+        Integer untouched = createEmployee("Kim", "CONTRACT");
+        RestAssured.given().when().get("/api/employees/" + first).then().body("contractType", org.hamcrest.Matchers.is("CONTRACT"));
+
+        bulkUpdate(Map.of(
+                "ids", List.of(first, second, 9999),
+                "changes", Map.of("contractType", "PERMANENT", "hoursPerWeek", 30)))
+            .statusCode(HttpStatus.OK.value())
+            .body("affected", org.hamcrest.Matchers.is(2))
+            .body("chunks", org.hamcrest.Matchers.is(1));
+
+        RestAssured.given().when().get("/api/employees/" + first).then()
+            .body("contractType", org.hamcrest.Matchers.is("PERMANENT"))
+            .body("hoursPerWeek", org.hamcrest.Matchers.is(30));
+        RestAssured.given().when().get("/api/employees/" + untouched).then()
+            .body("contractType", org.hamcrest.Matchers.is("CONTRACT"))
+            .body("hoursPerWeek", org.hamcrest.Matchers.is(38));
+    }
+
+    // Test that bulk delete removes the selected employees from the table and the typeahead
+    @Test
+    public void bulkDelete_ByFilterAndByIds_RemovesEmployees() {
+        for (String name : List.of("Lee", "Leo", "Lia", "Lou")) {
+            createEmployee(name, "CONTRACT");
+        }
+        Integer max = createEmployee("Max", "PERMANENT");
+        Integer ned = createEmployee("Ned", "PERMANENT");
+
+        bulkDelete(Map.of("filter", Map.of("firstName", "l", "searchMode", "prefix")))
+            .statusCode(HttpStatus.OK.value())
+            .body("affected", org.hamcrest.Matchers.is(4))
+            .body("chunks", org.hamcrest.Matchers.is(2));
+        Assertions.assertEquals(2, this.employeeRepository.count());
+        RestAssured.given().queryParam("q", "leo").when().get("/api/employees/suggest")
+            .then().body("size()", org.hamcrest.Matchers.is(0));
+
+        bulkDelete(Map.of("ids", List.of(max, 9999)))
+            .statusCode(HttpStatus.OK.value())
+            .body("affected", org.hamcrest.Matchers.is(1));
+        Assertions.assertEquals(List.of(ned.longValue()),
+                this.employeeRepository.findAll().stream().map(Employee::getId).toList());
+    }
+
+    // Test that ambiguous or empty selections and change sets are rejected before anything is written
+    @Test
+    public void bulkWrite_InvalidRequests_ReturnBadRequest() {
+        Integer id = createEmployee("Ola", "CONTRACT");
+
+        bulkDelete(Map.of("ids", List.of(id), "filter", Map.of("contractType", "CONTRACT")))
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+        bulkDelete(Map.of("filter", Map.of()))
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+        bulkDelete(Map.of("filter", Map.of("contractType", "NOT_A_CONTRACT")))
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+        bulkUpdate(Map.of("ids", List.of(id), "changes", Map.of()))
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+        bulkUpdate(Map.of("ids", List.of(id), "changes", Map.of("hoursPerWeek", 500)))
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+
+        Assertions.assertEquals(1, this.employeeRepository.count());
+    }
+
+}
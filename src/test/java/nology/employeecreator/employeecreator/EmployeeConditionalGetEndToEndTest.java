@@ -0,0 +1,121 @@
+package nology.employeecreator.employeecreator;
+
+import java.util.HashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import nology.employeecreator.employee.EmployeeRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class EmployeeConditionalGetEndToEndTest {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            this.employeeRepository.deleteAll();
+        }
+
+        private Integer createEmployee(String firstName) {
+            return EmployeeFixtures.createEmployee(firstName, "Conditional");
+        }
+
+    // Test that a matching If-None-Match gets an empty 304 until the employee is updated
+    @Test
+    public void getEmployee_IfNoneMatch_Returns304UntilUpdated() {
+        Integer id = createEmployee("Kira");
+
+        String etag = RestAssured.given()
+            .when()
+            .get("/api/employees/" + id)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .header("Last-Modified", org.hamcrest.Matchers.notNullValue())
+            .extract().header("ETag");
+
+        RestAssured.given()
+            .header("If-None-Match", etag)
+            .when()
+            .get("/api/employees/" + id)
+            .then()
+            .statusCode(HttpStatus.NOT_MODIFIED.value())
+            .header("ETag", org.hamcrest.Matchers.is(etag))
+            .body(org.hamcrest.Matchers.emptyString());
+
+        HashMap<String, Object> changes = new HashMap<String, Object>();
+        changes.put("lastName", "Changed");
+        changes.put("ongoing", true);
+        RestAssured.given().contentType(ContentType.JSON)
+            .body(changes)
+            .when()
+            .put("/api/employees/" + id)
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        RestAssured.given()
+            .header("If-None-Match", etag)
+            .when()
+            .get("/api/employees/" + id)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .header("ETag", org.hamcrest.Matchers.not(etag))
+            .body("lastName", org.hamcrest.Matchers.is("Changed"));
+    }
+
+    // Test that list responses carry a collection ETag that changes on create and delete
+    @Test
+    public void search_IfNoneMatch_Returns304UntilCollectionChanges() {
+        Integer id = createEmployee("Lena");
+
+        String etag = RestAssured.given()
+            .when()
+            .get("/api/employees/search?size=5")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .extract().header("ETag");
+
+        RestAssured.given()
+            .header("If-None-Match", etag)
+            .when()
+            .get("/api/employees/search?size=5")
+            .then()
+            .statusCode(HttpStatus.NOT_MODIFIED.value());
+
+        RestAssured.given().when().delete("/api/employees/" + id).then().statusCode(HttpStatus.NO_CONTENT.value());
+
+        RestAssured.given()
+            .header("If-None-Match", etag)
+            .when()
+            .get("/api/employees/search?size=5")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("totalElements", org.hamcrest.Matchers.is(0));
+    }
+
+    // Test that an unknown id is still a 404, not a 304
+    @Test
+    public void getEmployee_UnknownIdWithIfNoneMatch_Returns404() {
+        RestAssured.given()
+            .header("If-None-Match", "\"999999-0\"")
+            .when()
+            .get("/api/employees/999999")
+            .then()
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+}
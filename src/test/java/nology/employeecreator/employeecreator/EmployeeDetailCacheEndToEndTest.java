@@ -0,0 +1,117 @@
+package nology.employeecreator.employeecreator;
+
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import nology.employeecreator.employee.EmployeeDetailCache;
+import nology.employeecreator.employee.EmployeeRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class EmployeeDetailCacheEndToEndTest {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @Autowired
+        private EmployeeDetailCache detailCache;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            this.employeeRepository.deleteAll();
+            this.detailCache.invalidateAll();
+        }
+
+        private Integer createEmployee(String firstName) {
+            return EmployeeFixtures.createEmployee(firstName, "Cached");
+        }
+
+        private long cacheCounter(String counter) {
+            return RestAssured.given()
+                    .when()
+                    .get("/api/employees/cache-stats")
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .extract().<Number>path("employeeDetails." + counter).longValue();
+        }
+
+    // Test that a created employee is served from the cache without a database load
+    @Test
+    public void getEmployee_AfterCreate_IsACacheHit() {
+        Integer id = createEmployee("Hilda");
+        long hitsBefore = cacheCounter("hits");
+        long missesBefore = cacheCounter("misses");
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees/" + id)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("firstName", org.hamcrest.Matchers.is("Hilda"));
+
+        Assertions.assertEquals(hitsBefore + 1, cacheCounter("hits"));
+        Assertions.assertEquals(missesBefore, cacheCounter("misses"));
+    }
+
+    // Test that an employee missing from the cache is loaded once and then served from the cache
+    @Test
+    public void getEmployee_RepeatedReads_LoadsOnce() {
+        Integer id = createEmployee("Ivor");
+        this.detailCache.invalidateAll();
+        long missesBefore = cacheCounter("misses");
+
+        for (int i = 0; i < 3; i++) {
+            RestAssured.given().when().get("/api/employees/" + id).then().statusCode(HttpStatus.OK.value());
+        }
+
+        Assertions.assertEquals(missesBefore + 1, cacheCounter("misses"));
+    }
+
+    // Test that update replaces the cached copy and delete removes it
+    @Test
+    public void getEmployee_AfterUpdateAndDelete_NeverReturnsStaleData() {
+        Integer id = createEmployee("Juno");
+        RestAssured.given().when().get("/api/employees/" + id).then().statusCode(HttpStatus.OK.value());
+
+        HashMap<String, Object> changes = new HashMap<String, Object>();
+        changes.put("firstName", "Juniper");
+        changes.put("ongoing", true);
+        RestAssured.given().contentType(ContentType.JSON)
+            .body(changes)
+            .when()
+            .put("/api/employees/" + id)
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees/" + id)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("firstName", org.hamcrest.Matchers.is("Juniper"));
+
+        RestAssured.given().when().delete("/api/employees/" + id).then().statusCode(HttpStatus.NO_CONTENT.value());
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees/" + id)
+            .then()
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+}
@@ -0,0 +1,80 @@
+package nology.employeecreator.employeecreator;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+import nology.employeecreator.employee.ContractType;
+import nology.employeecreator.employee.Employee;
+import nology.employeecreator.employee.EmployeeRepository;
+import nology.employeecreator.employee.EmployeeRole;
+import nology.employeecreator.employee.EmploymentBasis;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class EmployeeExportEndToEndTest {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            this.employeeRepository.deleteAll();
+
+            for (int i = 0; i < 25; i++) {
+                Employee employee = new Employee();
+                employee.setFirstName("First" + i);
+                employee.setLastName("Last" + i);
+                employee.setEmail("employee" + i + "@gmail.com");
+                employee.setMobileNumber("0410123456");
+                employee.setContractType(i % 2 == 0 ? ContractType.PERMANENT : ContractType.CONTRACT);
+                employee.setEmploymentBasis(EmploymentBasis.FULL_TIME);
+                employee.setRole(EmployeeRole.EMPLOYEE);
+                employee.setStartDate(LocalDate.of(2023, 1, 1).plusDays(i));
+                employee.setOngoing(true);
+                employee.setHoursPerWeek(38);
+                this.employeeRepository.save(employee);
+            }
+        }
+
+    // Test that the NDJSON export writes one JSON object per line for every employee
+    @Test
+    public void streamAllEmployees_NdjsonFormat_ReturnsOneLinePerEmployee() {
+        String body = RestAssured.given()
+            .when()
+            .get("/api/employees/all?format=ndjson")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .contentType("application/x-ndjson")
+            .extract().asString();
+
+        String[] lines = body.split("\n");
+        org.hamcrest.MatcherAssert.assertThat(lines.length, org.hamcrest.Matchers.is(25));
+        org.hamcrest.MatcherAssert.assertThat(lines[0], org.hamcrest.Matchers.containsString("\"firstName\":\"First0\""));
+        org.hamcrest.MatcherAssert.assertThat(lines[24], org.hamcrest.Matchers.containsString("\"email\":\"employee24@gmail.com\""));
+    }
+
+    // Test that the plain /all endpoint still returns a JSON array
+    @Test
+    public void getAllEmployees_NoFormat_ReturnsJsonArray() {
+        RestAssured.given()
+            .when()
+            .get("/api/employees/all")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", org.hamcrest.Matchers.is(25));
+    }
+
+}
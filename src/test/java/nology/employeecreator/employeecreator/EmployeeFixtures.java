@@ -0,0 +1,51 @@
+package nology.employeecreator.employeecreator;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+
+// New employees for the end-to-end tests, created through POST /api/employees like a client would
+final class EmployeeFixtures {
+
+        private EmployeeFixtures() {
+        }
+
+        // A valid request body: permanent, full time and ongoing since a year ago, email <firstName>.<lastName>@gmail.com.
+        // Change or add entries before posting it with create()
+        static HashMap<String, String> newEmployee(String firstName, String lastName) {
+            HashMap<String, String> newEmployee = new HashMap<String, String>();
+            newEmployee.put("firstName", firstName);
+            newEmployee.put("lastName", lastName);
+            newEmployee.put("email", firstName.toLowerCase() + "." + lastName.toLowerCase() + "@gmail.com");
+            newEmployee.put("mobileNumber", "0456789012");
+            newEmployee.put("contractType", "PERMANENT");
+            newEmployee.put("startDate", LocalDate.now().minusYears(1).toString());
+            newEmployee.put("ongoing", "true");
+            newEmployee.put("employmentBasis", "FULL_TIME");
+            newEmployee.put("hoursPerWeek", "38");
+            newEmployee.put("role", "EMPLOYEE");
+            return newEmployee;
+        }
+
+        // POSTs the body and expects 201 Created
+        static Response create(Map<String, String> employee) {
+            return RestAssured.given().contentType(ContentType.JSON)
+                    .body(employee)
+                    .when()
+                    .post("/api/employees")
+                    .then()
+                    .statusCode(HttpStatus.CREATED.value())
+                    .extract().response();
+        }
+
+        // Creates newEmployee(firstName, lastName) and returns its id
+        static Integer createEmployee(String firstName, String lastName) {
+            return create(newEmployee(firstName, lastName)).path("id");
+        }
+}
@@ -0,0 +1,139 @@
+package nology.employeecreator.employeecreator;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import nology.employeecreator.employee.EmployeeRepository;
+import nology.employeecreator.employee.EmployeeSearchCache;
+
+import static io.restassured.config.EncoderConfig.encoderConfig;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "job.progress-interval=10ms")
+@ActiveProfiles("test")
+public class EmployeeJobsEndToEndTest {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @Autowired
+        private EmployeeSearchCache searchCache;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            this.employeeRepository.deleteAll();
+            this.searchCache.invalidate();
+        }
+
+        private void createEmployee(String firstName) {
+            EmployeeFixtures.createEmployee(firstName, "Job");
+        }
+
+        // Polls GET /api/jobs/{id} until the job has finished
+        private Response awaitFinished(String location) throws InterruptedException {
+            for (int attempt = 0; attempt < 100; attempt++) {
+                Response job = RestAssured.given().when().get(location);
+                String status = job.path("status");
+                if (!status.equals("QUEUED") && !status.equals("RUNNING")) {
+                    return job;
+                }
+                Thread.sleep(100);
+            }
+            throw new AssertionError("Job " + location + " did not finish");
+        }
+
+    // Test that an export answers 202 at once and its artifact holds one NDJSON line per employee
+    @Test
+    public void export_Ndjson_SucceedsWithDownloadableArtifact() throws InterruptedException {
+        for (String name : List.of("Ada", "Bob", "Cy")) {
+            createEmployee(name);
+        }
+
+        Response accepted = RestAssured.given().queryParam("format", "ndjson")
+                .when().post("/api/employees/exports");
+        accepted.then().statusCode(HttpStatus.ACCEPTED.value())
+            .body("type", org.hamcrest.Matchers.is("EMPLOYEE_EXPORT"));
+        String location = accepted.getHeader("Location");
+
+        awaitFinished(location).then()
+            .statusCode(HttpStatus.OK.value())
+            .body("status", org.hamcrest.Matchers.is("SUCCEEDED"))
+            .body("processed", org.hamcrest.Matchers.is(3))
+            .body("percent", org.hamcrest.Matchers.is(100))
+            .body("artifactUrl", org.hamcrest.Matchers.is(location + "/artifact"));
+
+        String artifact = RestAssured.given().when().get(location + "/artifact")
+                .then().statusCode(HttpStatus.OK.value())
+                .header("Content-Disposition", org.hamcrest.Matchers.containsString("employees.ndjson"))
+                .extract().asString();
+        Assertions.assertEquals(3, artifact.lines().count());
+        Assertions.assertTrue(artifact.contains("\"firstName\":\"Ada\""));
+    }
+
+    // Test that an import job creates the employees and leaves the row-by-row report as its artifact
+    @Test
+    public void import_Ndjson_CreatesEmployeesAndReport() throws InterruptedException {
+        String body = "{\"firstName\":\"Dee\",\"lastName\":\"Import\",\"email\":\"dee.import@gmail.com\",\"mobileNumber\":\"0456789012\","
+                + "\"contractType\":\"PERMANENT\",\"startDate\":\"2020-01-01\",\"ongoing\":true,\"employmentBasis\":\"FULL_TIME\","
+                + "\"hoursPerWeek\":38,\"role\":\"EMPLOYEE\"}\n"
+                + "{\"firstName\":\"\"}\n";
+
+        // RestAssured has no encoder for application/x-ndjson, so the body goes as text
+        String location = RestAssured.given()
+                .config(RestAssuredConfig.config().encoderConfig(encoderConfig().encodeContentTypeAs("application/x-ndjson", ContentType.TEXT)))
+                .contentType("application/x-ndjson").body(body)
+                .when().post("/api/employees/imports")
+                .then().statusCode(HttpStatus.ACCEPTED.value())
+                .extract().header("Location");
+
+        // progress is counted in bytes of the upload
+        int bodyBytes = body.getBytes(java.nio.charset.StandardCharsets.UTF_8).length;
+        awaitFinished(location).then()
+            .body("type", org.hamcrest.Matchers.is("EMPLOYEE_IMPORT"))
+            .body("status", org.hamcrest.Matchers.is("SUCCEEDED"))
+            .body("message", org.hamcrest.Matchers.is("1 created, 1 failed"))
+            .body("processed", org.hamcrest.Matchers.is(bodyBytes))
+            .body("total", org.hamcrest.Matchers.is(bodyBytes))
+            .body("percent", org.hamcrest.Matchers.is(100));
+        RestAssured.given().when().get(location + "/artifact").then()
+            .statusCode(HttpStatus.OK.value())
+            .body("created", org.hamcrest.Matchers.is(1))
+            .body("failed", org.hamcrest.Matchers.is(1));
+        Assertions.assertEquals(1, this.employeeRepository.count());
+    }
+
+    // Test that finished jobs can't be cancelled, unknown formats are rejected and unknown jobs are a 404
+    @Test
+    public void jobs_InvalidRequests_ReturnConflictBadRequestOrNotFound() throws InterruptedException {
+        String location = RestAssured.given().when().post("/api/employees/exports")
+                .then().statusCode(HttpStatus.ACCEPTED.value())
+                .extract().header("Location");
+        awaitFinished(location);
+
+        RestAssured.given().when().post(location + "/cancel")
+            .then().statusCode(HttpStatus.CONFLICT.value());
+        RestAssured.given().queryParam("format", "xlsx").when().post("/api/employees/exports")
+            .then().statusCode(HttpStatus.BAD_REQUEST.value());
+        RestAssured.given().when().get("/api/jobs/999999")
+            .then().statusCode(HttpStatus.NOT_FOUND.value());
+        RestAssured.given().when().get("/api/jobs/999999/artifact")
+            .then().statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+}
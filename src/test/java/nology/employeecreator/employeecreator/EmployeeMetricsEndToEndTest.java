@@ -0,0 +1,80 @@
+package nology.employeecreator.employeecreator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+
+import static org.hamcrest.Matchers.containsString;
+
+// @SpringBootTest switches metrics export off (so /actuator/prometheus is a 404) unless asked for it
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class EmployeeMetricsEndToEndTest {
+
+        @LocalServerPort
+        private int port;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+        }
+
+    // Test that a search is timed per service method and per query, and that Hikari pool metrics are published
+    @Test
+    public void prometheus_AfterSearch_ExposesServiceQueryAndPoolMetrics() {
+        RestAssured.given()
+            .queryParam("firstName", "metrics")
+            .when()
+            .get("/api/employees/search")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+
+        RestAssured.given()
+            .when()
+            .get("/actuator/prometheus")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body(containsString("employee_service_seconds_bucket{exception=\"none\",method=\"search\""))
+            .body(containsString("employee_query_seconds_count{query=\"select\"}"))
+            .body(containsString("employee_mapping_seconds_count{method=\"search\"}"))
+            .body(containsString("employee_results_rows_count{method=\"search\"}"))
+            .body(containsString("hikaricp_connections_active"));
+    }
+
+    // Test that the fields, slice and keyset searches are timed under their own names
+    @Test
+    public void prometheus_AfterSearchVariants_ExposesTheirOwnTimers() {
+        RestAssured.given().queryParam("fields", "summary").when().get("/api/employees/search")
+            .then().statusCode(HttpStatus.OK.value());
+        RestAssured.given().queryParam("fields", "firstName,email").when().get("/api/employees/search")
+            .then().statusCode(HttpStatus.OK.value());
+        RestAssured.given().queryParam("pagination", "slice").when().get("/api/employees/search")
+            .then().statusCode(HttpStatus.OK.value());
+        RestAssured.given().queryParam("pagination", "keyset").when().get("/api/employees/search")
+            .then().statusCode(HttpStatus.OK.value());
+
+        RestAssured.given()
+            .when()
+            .get("/actuator/prometheus")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body(containsString("employee_service_seconds_count{exception=\"none\",method=\"searchFields\"}"))
+            .body(containsString("employee_service_seconds_count{exception=\"none\",method=\"searchSlice\"}"))
+            .body(containsString("employee_service_seconds_count{exception=\"none\",method=\"searchKeyset\"}"))
+            .body(containsString("employee_query_seconds_count{query=\"selectSummaries\"}"))
+            .body(containsString("employee_query_seconds_count{query=\"selectFields\"}"))
+            .body(containsString("employee_query_seconds_count{query=\"selectSlice\"}"))
+            .body(containsString("employee_query_seconds_count{query=\"selectKeyset\"}"))
+            .body(containsString("employee_mapping_seconds_count{method=\"searchSlice\"}"))
+            .body(containsString("employee_mapping_seconds_count{method=\"searchKeyset\"}"))
+            .body(containsString("employee_results_rows_count{method=\"searchFields\"}"));
+    }
+
+}
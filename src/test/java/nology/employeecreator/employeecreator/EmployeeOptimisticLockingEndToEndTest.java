@@ -0,0 +1,131 @@
+package nology.employeecreator.employeecreator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import nology.employeecreator.employee.EmployeeRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class EmployeeOptimisticLockingEndToEndTest {
+
+        private static final int THREADS = 8;
+        private static final int INCREMENTS_PER_THREAD = 10;
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            this.employeeRepository.deleteAll();
+        }
+
+        private Integer createEmployee(String firstName) {
+            return EmployeeFixtures.createEmployee(firstName, "Locking");
+        }
+
+        private Response put(Integer id, HashMap<String, Object> changes, String ifMatch) {
+            var request = RestAssured.given().contentType(ContentType.JSON).body(changes);
+            if (ifMatch != null) {
+                request = request.header("If-Match", ifMatch);
+            }
+            return request.when().put("/api/employees/" + id);
+        }
+
+    // Test that a stale body version or If-Match is rejected with 409 and a current one is accepted
+    @Test
+    public void update_WithStaleVersionOrETag_ReturnsConflict() {
+        Integer id = createEmployee("Olga");
+        Response current = RestAssured.given().when().get("/api/employees/" + id);
+        String etag = current.getHeader("ETag");
+        Integer version = current.path("version");
+
+        HashMap<String, Object> changes = new HashMap<String, Object>();
+        changes.put("firstName", "Oksana");
+        changes.put("version", version);
+        put(id, changes, etag).then().statusCode(HttpStatus.OK.value()).body("version", org.hamcrest.Matchers.is(version + 1));
+
+        // both describe the state before the update above
+        HashMap<String, Object> staleVersion = new HashMap<String, Object>();
+        staleVersion.put("firstName", "Olive");
+        staleVersion.put("version", version);
+        put(id, staleVersion, null).then().statusCode(HttpStatus.CONFLICT.value());
+
+        HashMap<String, Object> noVersion = new HashMap<String, Object>();
+        noVersion.put("firstName", "Olive");
+        put(id, noVersion, etag).then().statusCode(HttpStatus.CONFLICT.value());
+
+        RestAssured.given().when().get("/api/employees/" + id).then()
+            .statusCode(HttpStatus.OK.value())
+            .body("firstName", org.hamcrest.Matchers.is("Oksana"));
+    }
+
+    // Test that many threads incrementing the same rows through read-modify-write lose no update:
+    // conflicting writers get 409 and retry, nothing blocks on a row lock
+    @Test
+    public void update_ConcurrentIncrements_NoLostUpdates() throws Exception {
+        List<Integer> ids = List.of(createEmployee("Ivan"), createEmployee("Irma"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                Integer id = ids.get(t % ids.size());
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+                        while (true) {
+                            Response current = RestAssured.given().when().get("/api/employees/" + id);
+                            HashMap<String, Object> changes = new HashMap<String, Object>();
+                            changes.put("hoursPerWeek", current.<Integer>path("hoursPerWeek") + 1);
+                            changes.put("version", current.<Integer>path("version"));
+
+                            int status = put(id, changes, null).statusCode();
+                            if (status == HttpStatus.OK.value()) {
+                                break;
+                            }
+                            // a conflict is expected, anything else (e.g. a lock timeout) is not
+                            Assertions.assertEquals(HttpStatus.CONFLICT.value(), status);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int incrementsPerEmployee = THREADS / ids.size() * INCREMENTS_PER_THREAD;
+        for (Integer id : ids) {
+            RestAssured.given().when().get("/api/employees/" + id).then()
+                .statusCode(HttpStatus.OK.value())
+                .body("hoursPerWeek", org.hamcrest.Matchers.is(38 + incrementsPerEmployee))
+                .body("version", org.hamcrest.Matchers.is(incrementsPerEmployee));
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+package nology.employeecreator.employeecreator;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import nology.employeecreator.employee.Employee;
+import nology.employeecreator.employee.EmployeeRepository;
+import nology.employeecreator.employee.EmployeeSearchCache;
+import nology.employeecreator.employee.EmploymentStatus;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class EmployeePatchEndToEndTest {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @Autowired
+        private EmployeeSearchCache searchCache;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            this.employeeRepository.deleteAll();
+            this.searchCache.invalidate();
+        }
+
+        private Integer createEmployee(String firstName) {
+            HashMap<String, String> newEmployee = EmployeeFixtures.newEmployee(firstName, "Patch");
+            newEmployee.put("residentialAddress", "1 Patch St, Perth WA 6000");
+            return EmployeeFixtures.create(newEmployee).path("id");
+        }
+
+        private Response patch(Integer id, HashMap<String, Object> changes, String ifMatch) {
+            var request = RestAssured.given().contentType(ContentType.JSON).body(changes);
+            if (ifMatch != null) {
+                request = request.header("If-Match", ifMatch);
+            }
+            return request.when().patch("/api/employees/" + id);
+        }
+
+        private Employee load(Integer id) {
+            return this.employeeRepository.findById(id.longValue()).orElseThrow();
+        }
+
+    // Test that only the sent fields change, along with everything onUpdate() would keep in sync
+    @Test
+    public void patch_SomeFields_UpdatesOnlyThoseAndBumpsVersion() {
+        Integer id = createEmployee("Paul");
+        // cache the detail view, the patch has to evict it
+        RestAssured.given().when().get("/api/employees/" + id).then().statusCode(HttpStatus.OK.value());
+
+        HashMap<String, Object> changes = new HashMap<String, Object>();
+        changes.put("firstName", "  Paula ");
+        changes.put("hoursPerWeek", 20);
+        patch(id, changes, null).then().statusCode(HttpStatus.NO_CONTENT.value());
+
+        RestAssured.given().when().get("/api/employees/" + id).then()
+            .statusCode(HttpStatus.OK.value())
+            .body("firstName", org.hamcrest.Matchers.is("Paula"))
+            .body("lastName", org.hamcrest.Matchers.is("Patch"))
+            .body("email", org.hamcrest.Matchers.is("paul.patch@gmail.com"))
+            .body("residentialAddress", org.hamcrest.Matchers.is("1 Patch St, Perth WA 6000"))
+            .body("hoursPerWeek", org.hamcrest.Matchers.is(20))
+            .body("ongoing", org.hamcrest.Matchers.is(true))
+            .body("version", org.hamcrest.Matchers.is(1));
+        Assertions.assertEquals("paula", load(id).getFirstNameLower());
+
+        // prefix search reads the lowercase column, the typeahead reads the suggestion index
+        RestAssured.given().queryParam("firstName", "paula").queryParam("searchMode", "prefix")
+            .when().get("/api/employees/search")
+            .then().statusCode(HttpStatus.OK.value())
+            .body("totalElements", org.hamcrest.Matchers.is(1));
+        RestAssured.given().queryParam("q", "paula")
+            .when().get("/api/employees/suggest")
+            .then().statusCode(HttpStatus.OK.value())
+            .body("[0].firstName", org.hamcrest.Matchers.is("Paula"))
+            .body("[0].lastName", org.hamcrest.Matchers.is("Patch"));
+    }
+
+    // Test that a finish date moves the stored status and the search follows (the other date combinations are in
+    // EmployeeUpdateRepositoryTest)
+    @Test
+    public void patch_FinishDateAndOngoing_UpdatesEmploymentStatus() {
+        Integer id = createEmployee("Fern");
+
+        HashMap<String, Object> finish = new HashMap<String, Object>();
+        finish.put("ongoing", false);
+        finish.put("finishDate", LocalDate.now().minusDays(1).toString());
+        patch(id, finish, null).then().statusCode(HttpStatus.NO_CONTENT.value());
+        Assertions.assertEquals(EmploymentStatus.ENDED, load(id).getEmploymentStatus());
+        RestAssured.given().queryParam("ongoing", false)
+            .when().get("/api/employees/search")
+            .then().statusCode(HttpStatus.OK.value())
+            .body("totalElements", org.hamcrest.Matchers.is(1));
+
+    }
+
+    // Test that a stale version or If-Match is a 409, a current If-Match is accepted and a missing employee is a 404
+    @Test
+    public void patch_StaleOrMissing_ReturnsConflictOrNotFound() {
+        Integer id = createEmployee("Cora");
+        String etag = RestAssured.given().when().get("/api/employees/" + id).getHeader("ETag");
+
+        HashMap<String, Object> changes = new HashMap<String, Object>();
+        changes.put("middleName", "Jane");
+        patch(id, changes, etag).then().statusCode(HttpStatus.NO_CONTENT.value());
+
+        HashMap<String, Object> stale = new HashMap<String, Object>();
+        stale.put("middleName", "June");
+        patch(id, stale, etag).then().statusCode(HttpStatus.CONFLICT.value());
+        stale.put("version", 0);
+        patch(id, stale, null).then().statusCode(HttpStatus.CONFLICT.value());
+        Assertions.assertEquals("Jane", load(id).getMiddleName());
+
+        String current = RestAssured.given().when().get("/api/employees/" + id).getHeader("ETag");
+        stale.put("version", 1);
+        patch(id, stale, current).then().statusCode(HttpStatus.NO_CONTENT.value());
+        Assertions.assertEquals("June", load(id).getMiddleName());
+
+        patch(9999, changes, null).then().statusCode(HttpStatus.NOT_FOUND.value());
+
+        HashMap<String, Object> blank = new HashMap<String, Object>();
+        blank.put("lastName", "  ");
+        patch(id, blank, null).then().statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    // Test that DELETE reports a missing employee as 404 from the single statement's row count
+    @Test
+    public void delete_ExistingThenMissing_ReturnsNoContentThenNotFound() {
+        Integer id = createEmployee("Dina");
+
+        RestAssured.given().when().delete("/api/employees/" + id)
+            .then().statusCode(HttpStatus.NO_CONTENT.value());
+        RestAssured.given().when().delete("/api/employees/" + id)
+            .then().statusCode(HttpStatus.NOT_FOUND.value());
+        RestAssured.given().when().get("/api/employees/" + id)
+            .then().statusCode(HttpStatus.NOT_FOUND.value());
+        RestAssured.given().queryParam("q", "dina")
+            .when().get("/api/employees/suggest")
+            .then().statusCode(HttpStatus.OK.value())
+            .body("size()", org.hamcrest.Matchers.is(0));
+    }
+
+}
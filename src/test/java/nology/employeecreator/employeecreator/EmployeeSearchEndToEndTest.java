@@ -0,0 +1,211 @@
+package nology.employeecreator.employeecreator;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
+import nology.employeecreator.employee.ContractType;
+import nology.employeecreator.employee.Employee;
+import nology.employeecreator.employee.EmployeeRepository;
+import nology.employeecreator.employee.EmployeeRole;
+import nology.employeecreator.employee.EmployeeSearchCache;
+import nology.employeecreator.employee.EmploymentBasis;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class EmployeeSearchEndToEndTest {
+
+        private static final int EMPLOYEE_COUNT = 25;
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @Autowired
+        private EmployeeSearchCache searchCache;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            this.employeeRepository.deleteAll();
+
+            // Several employees share a first name and some have no start date, so the id tie-breaker
+            // and the null handling of the keyset query are both exercised
+            for (int i = 0; i < EMPLOYEE_COUNT; i++) {
+                Employee employee = new Employee();
+                employee.setFirstName("Name" + (i % 7));
+                employee.setLastName("Last" + i);
+                employee.setEmail("search" + i + "@gmail.com");
+                employee.setMobileNumber("0410123456");
+                employee.setContractType(i % 2 == 0 ? ContractType.PERMANENT : ContractType.CONTRACT);
+                employee.setEmploymentBasis(i % 3 == 0 ? EmploymentBasis.PART_TIME : EmploymentBasis.FULL_TIME);
+                employee.setRole(EmployeeRole.EMPLOYEE);
+                employee.setStartDate(i % 5 == 0 ? null : LocalDate.of(2023, 1, 1).plusDays(i % 4));
+                employee.setOngoing(true);
+                employee.setHoursPerWeek(38);
+                this.employeeRepository.save(employee);
+            }
+
+            // the rows above were written straight through the repository, which the search cache doesn't see
+            this.searchCache.invalidate();
+        }
+
+        // Follows nextCursor until the end and returns every id in the order it was received
+        private List<Integer> collectAllPages(String sortBy, String sortDirection, String extraParams) {
+            List<Integer> ids = new ArrayList<>();
+            String cursor = "";
+            do {
+                JsonPath page = RestAssured.given()
+                    .when()
+                    .get("/api/employees/search?pagination=keyset&size=10&sortBy=" + sortBy
+                            + "&sortDirection=" + sortDirection + "&cursor=" + cursor + extraParams)
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .extract().jsonPath();
+                ids.addAll(page.getList("content.id", Integer.class));
+                cursor = page.getBoolean("hasNext") ? page.getString("nextCursor") : null;
+            } while (cursor != null);
+            return ids;
+        }
+
+    // Test that keyset pages cover every employee exactly once when sorted by a non-unique column
+    @Test
+    public void searchKeyset_SortedByFirstName_ReturnsEveryEmployeeOnce() {
+        List<Integer> ids = collectAllPages("firstName", "asc", "");
+        Set<Integer> unique = new HashSet<>(ids);
+        org.hamcrest.MatcherAssert.assertThat(ids.size(), org.hamcrest.Matchers.is(EMPLOYEE_COUNT));
+        org.hamcrest.MatcherAssert.assertThat(unique.size(), org.hamcrest.Matchers.is(EMPLOYEE_COUNT));
+    }
+
+    // Test that an enum sort column is rejected in keyset mode - MySQL orders ENUMs by position, not by name
+    @Test
+    public void searchKeyset_SortedByContractType_ReturnsBadRequest() {
+        RestAssured.given()
+            .when()
+            .get("/api/employees/search?pagination=keyset&sortBy=contractType")
+            .then()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    // Test that slice mode returns a page without the total count
+    @Test
+    public void searchSlice_FirstPage_ReturnsHasNextWithoutTotals() {
+        RestAssured.given()
+            .when()
+            .get("/api/employees/search?pagination=slice&size=10&page=0")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("content.size()", org.hamcrest.Matchers.is(10))
+            .body("last", org.hamcrest.Matchers.is(false))
+            .body("totalElements", org.hamcrest.Matchers.nullValue());
+    }
+
+    // Test that prefix mode matches the start of first or last name only
+    @Test
+    public void search_PrefixMode_MatchesStartOfNameOnly() {
+        RestAssured.given()
+            .when()
+            .get("/api/employees/search?firstName=LAST1&searchMode=prefix&size=100")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("totalElements", org.hamcrest.Matchers.is(11)); // Last1 and Last10-Last19
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees/search?firstName=ast1&searchMode=prefix&size=100")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("totalElements", org.hamcrest.Matchers.is(0));
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees/search?firstName=ast1&size=100")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("totalElements", org.hamcrest.Matchers.is(11));
+    }
+
+    // Test that a repeated search is served from the cache, and that a write through the API invalidates it
+    @Test
+    public void search_RepeatedThenAfterCreate_CachedUntilWrite() {
+        String search = "/api/employees/search?firstName=NAME1&contractType=PERMANENT&size=100";
+        RestAssured.given().when().get(search).then().statusCode(HttpStatus.OK.value());
+        int hitsBefore = RestAssured.given().when().get("/api/employees/cache-stats")
+                .then().extract().path("employeeSearches.hits");
+
+        // differently cased and padded term - same cache entry
+        RestAssured.given()
+            .when()
+            .get("/api/employees/search?firstName= name1 &contractType=PERMANENT&size=100")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("totalElements", org.hamcrest.Matchers.is(2)); // Name1: i = 8 and 22 are permanent
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees/cache-stats")
+            .then()
+            .body("employeeSearches.hits", org.hamcrest.Matchers.is(hitsBefore + 1));
+
+        EmployeeFixtures.createEmployee("Name1", "Fresh");
+
+        RestAssured.given()
+            .when()
+            .get(search)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("totalElements", org.hamcrest.Matchers.is(3));
+    }
+
+    // Test that fields=summary returns only the summary columns, with the same filtering and paging
+    @Test
+    public void search_FieldsSummary_ReturnsLeanRows() {
+        RestAssured.given()
+            .when()
+            .get("/api/employees/search?firstName=name1&contractType=PERMANENT&fields=summary&size=100")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("totalElements", org.hamcrest.Matchers.is(2))
+            .body("content[0].keySet()", org.hamcrest.Matchers.containsInAnyOrder(
+                    "id", "firstName", "lastName", "role", "contractType", "thumbnailUrl"))
+            .body("content[0].contractType", org.hamcrest.Matchers.is("PERMANENT"));
+    }
+
+    // Test that an explicit field list returns exactly those fields plus id, and that unknown fields are rejected
+    @Test
+    public void search_FieldsList_ReturnsRequestedFieldsOnly() {
+        RestAssured.given()
+            .when()
+            .get("/api/employees?fields=email,startDate&size=5&sortBy=email&sortDirection=asc")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("totalElements", org.hamcrest.Matchers.is(EMPLOYEE_COUNT))
+            .body("content.size()", org.hamcrest.Matchers.is(5))
+            .body("content[0].keySet()", org.hamcrest.Matchers.contains("id", "email", "startDate"))
+            .body("content[0].email", org.hamcrest.Matchers.is("search0@gmail.com"))
+            .body("content[2].email", org.hamcrest.Matchers.is("search11@gmail.com")) // "search10@" sorts before "search1@"
+            .body("content[2].startDate", org.hamcrest.Matchers.is("2023-01-04"));
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees/search?fields=email,salary")
+            .then()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+}
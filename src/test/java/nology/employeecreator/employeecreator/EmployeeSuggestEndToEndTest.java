@@ -0,0 +1,63 @@
+package nology.employeecreator.employeecreator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+import nology.employeecreator.employee.EmployeeRepository;
+import nology.employeecreator.employee.EmployeeSuggestionIndex;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class EmployeeSuggestEndToEndTest {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @Autowired
+        private EmployeeSuggestionIndex suggestionIndex;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            // deleted straight through the repository, so reload the index from the (now empty) database
+            this.employeeRepository.deleteAll();
+            this.suggestionIndex.rebuild();
+        }
+
+    // Test that employees created and deleted through the API are reflected without a rebuild
+    @Test
+    public void suggest_AfterCreateAndDelete_IndexIsUpdated() {
+        Integer id = EmployeeFixtures.createEmployee("Zelda", "Quartermaine");
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees/suggest?q=quarter")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("id", org.hamcrest.Matchers.contains(id));
+
+        RestAssured.given()
+            .when()
+            .delete("/api/employees/" + id)
+            .then()
+            .statusCode(HttpStatus.NO_CONTENT.value());
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees/suggest?q=quarter")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("size()", org.hamcrest.Matchers.is(0));
+    }
+
+}
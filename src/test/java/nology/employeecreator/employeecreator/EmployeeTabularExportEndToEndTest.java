@@ -0,0 +1,180 @@
+package nology.employeecreator.employeecreator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import io.restassured.RestAssured;
+import nology.employeecreator.employee.EmployeeColumnarFormat;
+import nology.employeecreator.employee.EmployeeRepository;
+import nology.employeecreator.employee.EmployeeSearchCache;
+
+// row groups of 2, so three employees already span several of them
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "employee.export.row-group-size=2")
+@ActiveProfiles("test")
+public class EmployeeTabularExportEndToEndTest {
+
+        private static final String HEADER = "id,firstName,middleName,lastName,email,mobileNumber,residentialAddress,"
+                + "contractType,startDate,finishDate,ongoing,employmentBasis,hoursPerWeek,thumbnailUrl,createdAt,updatedAt,version,role";
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @Autowired
+        private EmployeeSearchCache searchCache;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            this.employeeRepository.deleteAll();
+            this.searchCache.invalidate();
+
+            createEmployee("Ava", null, "PERMANENT", "FULL_TIME", "MANAGER", null);
+            createEmployee("Bo", "Lee", "CONTRACT", "PART_TIME", "INTERN", LocalDate.now().plusMonths(3).toString());
+            createEmployee("Cal", null, "CONTRACT", "FULL_TIME", "EMPLOYEE", null);
+        }
+
+        private void createEmployee(String firstName, String middleName, String contractType, String employmentBasis,
+                String role, String finishDate) {
+            HashMap<String, String> newEmployee = EmployeeFixtures.newEmployee(firstName, "Export");
+            newEmployee.put("middleName", middleName);
+            // quoted and escaped in the CSV
+            newEmployee.put("lastName", "Export, \"Jr\"");
+            newEmployee.put("contractType", contractType);
+            newEmployee.put("finishDate", finishDate);
+            newEmployee.put("ongoing", String.valueOf(finishDate == null));
+            newEmployee.put("employmentBasis", employmentBasis);
+            newEmployee.put("hoursPerWeek", employmentBasis.equals("FULL_TIME") ? "38" : "20");
+            newEmployee.put("role", role);
+            EmployeeFixtures.create(newEmployee);
+        }
+
+        private List<Map<String, Object>> allAsJson() {
+            return RestAssured.given().when().get("/api/employees/all")
+                    .then().statusCode(HttpStatus.OK.value())
+                    .extract().jsonPath().getList("$");
+        }
+
+    // Test that the CSV has a header of the JSON field names and one quoted-where-needed row per employee
+    @Test
+    public void exportCsv_AllEmployees_StreamsHeaderAndRows() throws IOException {
+        String csv = RestAssured.given().queryParam("format", "csv")
+                .when().get("/api/employees/all")
+                .then().statusCode(HttpStatus.OK.value())
+                .contentType(org.hamcrest.Matchers.startsWith("text/csv"))
+                .extract().asString();
+
+        List<String> lines = csv.lines().toList();
+        Assertions.assertEquals(4, lines.size());
+        Assertions.assertEquals(HEADER, lines.get(0));
+        Map<String, Object> bo = allAsJson().stream().filter(e -> e.get("firstName").equals("Bo")).findFirst().orElseThrow();
+        String boLine = lines.stream().filter(line -> line.contains(",Bo,")).findFirst().orElseThrow();
+        Assertions.assertTrue(boLine.startsWith(bo.get("id") + ",Bo,Lee,\"Export, \"\"Jr\"\"\",bo.export@gmail.com,"), boLine);
+        Assertions.assertTrue(boLine.contains(",CONTRACT," + bo.get("startDate") + "," + bo.get("finishDate") + ",false,PART_TIME,20,"), boLine);
+        Assertions.assertTrue(boLine.endsWith("," + bo.get("updatedAt") + ",0,INTERN"), boLine);
+        // empty cells for nulls
+        String avaLine = lines.stream().filter(line -> line.contains(",Ava,")).findFirst().orElseThrow();
+        Assertions.assertTrue(avaLine.contains(",Ava,,\"Export"), avaLine);
+
+        // and every cell of every row is the value /all returns for that column
+        List<Map<String, Object>> json = allAsJson();
+        for (Map<String, String> row : parseCsv(csv)) {
+            Map<String, Object> expected = json.stream()
+                    .filter(e -> e.get("id").toString().equals(row.get("id"))).findFirst().orElseThrow();
+            Assertions.assertEquals(List.of(HEADER.split(",")), List.copyOf(row.keySet()));
+            for (Map.Entry<String, String> cell : row.entrySet()) {
+                Object expectedValue = expected.get(cell.getKey());
+                if (cell.getKey().endsWith("At")) {
+                    Assertions.assertEquals(LocalDateTime.parse((String) expectedValue), LocalDateTime.parse(cell.getValue()), cell.getKey());
+                } else {
+                    Assertions.assertEquals(expectedValue == null ? "" : expectedValue.toString(), cell.getValue(), cell.getKey());
+                }
+            }
+        }
+    }
+
+        private static List<Map<String, String>> parseCsv(String csv) throws IOException {
+            CsvMapper mapper = new CsvMapper();
+            try (MappingIterator<Map<String, String>> rows = mapper.readerFor(Map.class)
+                    .with(CsvSchema.emptySchema().withHeader()).readValues(csv)) {
+                return rows.readAll();
+            }
+        }
+
+    // Test that the columnar file decodes to exactly what GET /all returns, across several row groups
+    @Test
+    public void exportColumnar_AllEmployees_DecodesToSameValuesAsJson() throws IOException {
+        byte[] body = RestAssured.given().queryParam("format", "columnar")
+                .when().get("/api/employees/all")
+                .then().statusCode(HttpStatus.OK.value())
+                .contentType("application/vnd.employeecreator.columnar")
+                .extract().asByteArray();
+
+        List<Map<String, Object>> rows = EmployeeColumnarFormat.readRows(new ByteArrayInputStream(body));
+        List<Map<String, Object>> json = allAsJson();
+        Assertions.assertEquals(3, rows.size());
+        Assertions.assertEquals(HEADER, String.join(",", rows.get(0).keySet()));
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, Object> row = rows.get(i);
+            Map<String, Object> expected = json.stream()
+                    .filter(e -> ((Number) e.get("id")).longValue() == (Long) row.get("id")).findFirst().orElseThrow();
+            for (Map.Entry<String, Object> field : row.entrySet()) {
+                Object value = field.getValue();
+                Object expectedValue = expected.get(field.getKey());
+                if (value instanceof Number number) {
+                    Assertions.assertEquals(((Number) expectedValue).longValue(), number.longValue(), field.getKey());
+                } else if (value instanceof LocalDateTime dateTime) {
+                    Assertions.assertEquals(LocalDateTime.parse((String) expectedValue), dateTime, field.getKey());
+                } else if (value instanceof LocalDate date) {
+                    Assertions.assertEquals(LocalDate.parse((String) expectedValue), date, field.getKey());
+                } else {
+                    Assertions.assertEquals(expectedValue, value, field.getKey());
+                }
+            }
+        }
+    }
+
+    // Test that the new formats are available as export jobs too, and unknown formats are rejected
+    @Test
+    public void exportJob_Csv_ProducesSameFileAsStream() throws InterruptedException {
+        String location = RestAssured.given().queryParam("format", "csv")
+                .when().post("/api/employees/exports")
+                .then().statusCode(HttpStatus.ACCEPTED.value())
+                .extract().header("Location");
+
+        for (int attempt = 0; attempt < 100
+                && !"SUCCEEDED".equals(RestAssured.given().when().get(location).path("status")); attempt++) {
+            Thread.sleep(100);
+        }
+        String artifact = RestAssured.given().when().get(location + "/artifact")
+                .then().statusCode(HttpStatus.OK.value())
+                .extract().asString();
+        String streamed = RestAssured.given().queryParam("format", "csv").when().get("/api/employees/all").asString();
+        Assertions.assertEquals(streamed, artifact);
+
+        RestAssured.given().queryParam("format", "parquet").when().post("/api/employees/exports")
+            .then().statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+}
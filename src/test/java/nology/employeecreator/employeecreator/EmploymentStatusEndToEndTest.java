@@ -0,0 +1,84 @@
+package nology.employeecreator.employeecreator;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.restassured.RestAssured;
+import nology.employeecreator.employee.EmployeeRepository;
+import nology.employeecreator.employee.EmployeeSearchCache;
+import nology.employeecreator.employee.EmploymentStatus;
+import nology.employeecreator.employee.EmploymentStatusRefresher;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public class EmploymentStatusEndToEndTest {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @Autowired
+        private EmployeeSearchCache searchCache;
+
+        @Autowired
+        private EmploymentStatusRefresher statusRefresher;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            this.employeeRepository.deleteAll();
+            this.searchCache.invalidate();
+        }
+
+        private Integer createEmployee(String firstName, LocalDate startDate, LocalDate finishDate) {
+            HashMap<String, String> newEmployee = EmployeeFixtures.newEmployee(firstName, "Status");
+            newEmployee.put("contractType", "CONTRACT");
+            newEmployee.put("startDate", startDate.toString());
+            newEmployee.put("finishDate", finishDate == null ? null : finishDate.toString());
+            newEmployee.put("ongoing", String.valueOf(finishDate == null));
+            return EmployeeFixtures.create(newEmployee).path("id");
+        }
+
+        private int searchCount(boolean ongoing) {
+            return RestAssured.given()
+                    .queryParam("ongoing", ongoing)
+                    .when()
+                    .get("/api/employees/search")
+                    .then()
+                    .statusCode(HttpStatus.OK.value())
+                    .extract().path("totalElements");
+        }
+
+        private EmploymentStatus status(Integer id) {
+            return this.employeeRepository.findById(id.longValue()).orElseThrow().getEmploymentStatus();
+        }
+
+    // Test that the daily refresh ends contracts whose finish date has passed and starts future employees
+    @Test
+    public void refresh_AfterDatesPass_MovesStatusOnAndSearchFollows() {
+        LocalDate today = LocalDate.now();
+        Integer finishing = createEmployee("Dot", today.minusYears(1), today.plusDays(1));
+        Integer starting = createEmployee("Eli", today.plusDays(1), null);
+        Assertions.assertEquals(0, searchCount(false));
+
+        Assertions.assertEquals(0, this.statusRefresher.refresh(today));
+        Assertions.assertEquals(2, this.statusRefresher.refresh(today.plusDays(2)));
+
+        Assertions.assertEquals(EmploymentStatus.ENDED, status(finishing));
+        Assertions.assertEquals(EmploymentStatus.ACTIVE, status(starting));
+        Assertions.assertEquals(1, searchCount(false));
+    }
+
+}
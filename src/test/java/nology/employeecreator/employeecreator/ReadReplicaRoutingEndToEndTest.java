@@ -0,0 +1,224 @@
+package nology.employeecreator.employeecreator;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import nology.employeecreator.employee.EmployeeRepository;
+import nology.employeecreator.employee.EmployeeSearchCache;
+
+import static org.hamcrest.Matchers.contains;
+
+// Two H2 databases stand in for the MySQL primary and a replica. Replication isn't simulated: each holds different
+// rows, so the response shows which one a request was served from
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingprimary",
+        "employee.datasource.replica-urls=" + ReadReplicaRoutingEndToEndTest.REPLICA_URL,
+        "employee.datasource.read-your-writes=30s" })
+@ActiveProfiles("test")
+public class ReadReplicaRoutingEndToEndTest {
+
+        static final String REPLICA_URL = "jdbc:h2:mem:routingreplica;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:replica-schema.sql'";
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private EmployeeRepository employeeRepository;
+
+        @Autowired
+        private EmployeeSearchCache searchCache;
+
+        @Autowired
+        private HikariDataSource primaryDataSource;
+
+        private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", "d0ntb0th3r"));
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+
+            this.employeeRepository.deleteAll();
+            this.searchCache.invalidate();
+
+            replica.update("DELETE FROM employees");
+            insertIntoReplica(null, "Reggie", "Replica");
+        }
+
+        // id null lets the replica pick one; otherwise the row stands in for an old copy of that primary row
+        private void insertIntoReplica(Long id, String firstName, String lastName) {
+            if (id != null) {
+                replica.update("DELETE FROM employees WHERE id = ?", id);
+            }
+            replica.update("INSERT INTO employees (" + (id == null ? "" : "id, ") + "first_name, last_name, first_name_lower, "
+                    + "last_name_lower, email, role, contract_type, employment_basis, start_date, ongoing, employment_status, "
+                    + "hours_per_week, created_at, updated_at) VALUES (" + (id == null ? "" : id + ", ") + "?, ?, ?, ?, "
+                    + "'reggie@gmail.com', 'EMPLOYEE', 'PERMANENT', 'FULL_TIME', DATE '2023-01-15', TRUE, 'ACTIVE', 38, "
+                    + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                    firstName, lastName, firstName.toLowerCase(), lastName.toLowerCase());
+        }
+
+        private Response createEmployee(String firstName) {
+            return EmployeeFixtures.create(EmployeeFixtures.newEmployee(firstName, "Primary"));
+        }
+
+    // Test that uncached reads are served by the replica and writes go to the primary
+    @Test
+    public void list_WithReplica_ReadsFromReplicaAndWritesToPrimary() {
+        createEmployee("Priya");
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("content.firstName", contains("Reggie"));
+
+        Assertions.assertEquals(List.of("Priya"),
+                new JdbcTemplate(primaryDataSource).queryForList("SELECT first_name FROM employees", String.class));
+    }
+
+    // Test that the client that wrote reads its own write from the primary while the read-your-writes cookie is valid
+    @Test
+    public void search_AfterOwnWrite_ReadsFromPrimary() {
+        String primaryUntil = createEmployee("Pavel").getCookie("primary-until");
+
+        RestAssured.given()
+            .cookie("primary-until", primaryUntil)
+            .when()
+            .get("/api/employees/search")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("content.firstName", contains("Pavel"));
+    }
+
+    // Test that every search variant runs on the replica, a cache miss included
+    @Test
+    public void search_WithReplica_ReadsFromReplica() {
+        createEmployee("Priya");
+
+        // the second search is served from the search cache, filled from the replica
+        for (int i = 0; i < 2; i++) {
+            RestAssured.given()
+                .when()
+                .get("/api/employees/search")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .body("content.firstName", contains("Reggie"));
+        }
+        RestAssured.given().queryParam("fields", "summary")
+            .when().get("/api/employees/search")
+            .then().statusCode(HttpStatus.OK.value())
+            .body("content.firstName", contains("Reggie"));
+        RestAssured.given().queryParam("pagination", "slice")
+            .when().get("/api/employees/search")
+            .then().statusCode(HttpStatus.OK.value())
+            .body("content.firstName", contains("Reggie"));
+        RestAssured.given().queryParam("pagination", "keyset")
+            .when().get("/api/employees/search")
+            .then().statusCode(HttpStatus.OK.value())
+            .body("content.firstName", contains("Reggie"));
+    }
+
+    // Test that a detail cache miss is loaded from the replica
+    @Test
+    public void getEmployee_WithReplica_ReadsFromReplica() {
+        Long id = replica.queryForObject("SELECT id FROM employees WHERE first_name = 'Reggie'", Long.class);
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees/" + id)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("firstName", org.hamcrest.Matchers.is("Reggie"));
+    }
+
+    // Test that the client that patched an employee reads the new row, even when another client has just cached the
+    // replica's old copy
+    @Test
+    public void getEmployee_AfterOwnPatch_ReadsFromPrimary() {
+        Integer id = createEmployee("Priya").path("id");
+        insertIntoReplica(id.longValue(), "Priya", "Primary");
+
+        HashMap<String, Object> changes = new HashMap<String, Object>();
+        changes.put("firstName", "Petra");
+        String primaryUntil = RestAssured.given().contentType(ContentType.JSON).body(changes)
+                .when().patch("/api/employees/" + id)
+                .then().statusCode(HttpStatus.NO_CONTENT.value())
+                .extract().cookie("primary-until");
+
+        // no read-your-writes cookie: another client, served by the replica that hasn't caught up yet
+        RestAssured.given()
+            .when()
+            .get("/api/employees/" + id)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("firstName", org.hamcrest.Matchers.is("Priya"));
+
+        RestAssured.given()
+            .cookie("primary-until", primaryUntil)
+            .when()
+            .get("/api/employees/" + id)
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("firstName", org.hamcrest.Matchers.is("Petra"));
+    }
+
+    // Test that the client that deleted an employee doesn't get the replica's old copy back
+    @Test
+    public void getEmployee_AfterOwnDelete_ReturnsNotFound() {
+        Integer id = createEmployee("Priya").path("id");
+        insertIntoReplica(id.longValue(), "Priya", "Primary");
+
+        String primaryUntil = RestAssured.given().when().delete("/api/employees/" + id)
+                .then().statusCode(HttpStatus.NO_CONTENT.value())
+                .extract().cookie("primary-until");
+
+        RestAssured.given()
+            .cookie("primary-until", primaryUntil)
+            .when()
+            .get("/api/employees/" + id)
+            .then()
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    // Test that the list's ETag describes the replica rows it was served with, not the primary's table
+    @Test
+    public void list_WithReplica_ETagMatchesReplicaRows() {
+        createEmployee("Priya");
+        insertIntoReplica(null, "Rita", "Replica");
+
+        String etag = RestAssured.given()
+            .when()
+            .get("/api/employees")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body("content.firstName", contains("Reggie", "Rita"))
+            .extract().header("ETag");
+        // the replica has two employees, the primary one
+        Assertions.assertTrue(etag.startsWith("W/\"2-"), etag);
+
+        RestAssured.given()
+            .header("If-None-Match", etag)
+            .when()
+            .get("/api/employees")
+            .then()
+            .statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
+}
@@ -0,0 +1,112 @@
+package nology.employeecreator.employeecreator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.restassured.RestAssured;
+
+// one request at a time and a short queue, so the second concurrent request is rejected quickly
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "employee.web.max-concurrent-requests=1",
+        "employee.web.queue-timeout=200ms" })
+@ActiveProfiles("test")
+public class VirtualThreadsEndToEndTest {
+
+        static final CountDownLatch entered = new CountDownLatch(1);
+        static final CountDownLatch release = new CountDownLatch(1);
+
+        @TestConfiguration
+        static class TestEndpoints {
+            @Bean
+            ThreadTestController threadTestController() {
+                return new ThreadTestController();
+            }
+        }
+
+        @RestController
+        static class ThreadTestController {
+
+            @GetMapping("/api/test/thread")
+            public boolean isVirtual() {
+                return Thread.currentThread().isVirtual();
+            }
+
+            // holds its slot until the test releases it
+            @GetMapping("/api/test/hold")
+            public String hold() throws InterruptedException {
+                entered.countDown();
+                release.await(10, TimeUnit.SECONDS);
+                return "done";
+            }
+        }
+
+        @LocalServerPort
+        private int port;
+
+        @BeforeEach
+        public void setUp() {
+            RestAssured.port = port;
+        }
+
+    // Test that requests are handled on virtual threads and the real endpoints still work
+    @Test
+    public void request_VirtualThreadsEnabled_RunsOnVirtualThread() {
+        RestAssured.given()
+            .when()
+            .get("/api/test/thread")
+            .then()
+            .statusCode(HttpStatus.OK.value())
+            .body(org.hamcrest.Matchers.is("true"));
+
+        RestAssured.given()
+            .when()
+            .get("/api/employees")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+    }
+
+    // Test that a request over the concurrency limit gets a 503 once its queue timeout passes
+    @Test
+    public void request_OverConcurrencyLimit_Returns503WithRetryAfter() throws Exception {
+        CompletableFuture<Integer> holding = CompletableFuture.supplyAsync(() -> RestAssured.given()
+                .when()
+                .get("/api/test/hold")
+                .statusCode());
+        Assertions.assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+        try {
+            RestAssured.given()
+                .when()
+                .get("/api/employees")
+                .then()
+                .statusCode(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .header("Retry-After", "1");
+        } finally {
+            release.countDown();
+        }
+
+        Assertions.assertEquals(HttpStatus.OK.value(), holding.get(10, TimeUnit.SECONDS));
+
+        // the slot is free again
+        RestAssured.given()
+            .when()
+            .get("/api/employees")
+            .then()
+            .statusCode(HttpStatus.OK.value());
+    }
+
+}
@@ -0,0 +1,8 @@
+-- Stand-in read replica for ReadReplicaRoutingEndToEndTest (run by the H2 URL's INIT=RUNSCRIPT)
+CREATE TABLE IF NOT EXISTS employees (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY, first_name VARCHAR(200), middle_name VARCHAR(200), last_name VARCHAR(200),
+    first_name_lower VARCHAR(200), last_name_lower VARCHAR(200), email VARCHAR(200), mobile_number VARCHAR(255),
+    residential_address VARCHAR(255), thumbnail_url VARCHAR(500), role VARCHAR(20), contract_type VARCHAR(20),
+    employment_basis VARCHAR(20), start_date DATE, finish_date DATE, ongoing BOOLEAN, employment_status VARCHAR(20),
+    hours_per_week INT, created_at TIMESTAMP(6), updated_at TIMESTAMP(6), version BIGINT DEFAULT 0
+);